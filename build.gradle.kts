@@ -7,6 +7,7 @@ plugins {
   `maven-publish`
   signing
   id("com.diffplug.spotless") version "6.25.0"
+  id("me.champeau.jmh") version "0.7.2"
 }
 
 ///////////////////////////////////////////////////////////////////////////////
@@ -31,6 +32,8 @@ dependencies {
   testImplementation("org.assertj:assertj-core:3.25.3")
   testImplementation("org.mockito:mockito-core:5.11.0")
   testImplementation("org.awaitility:awaitility:4.2.1")
+
+  jmhImplementation("org.slf4j:slf4j-api:1.7.36")
 }
 
 ///////////////////////////////////////////////////////////////////////////////
@@ -55,6 +58,20 @@ java {
   withSourcesJar()
 }
 
+jmh {
+  jmhVersion.set("1.37")
+  benchmarkMode.set(listOf("thrpt", "avgt"))
+  timeUnit.set("us")
+  fork.set(1)
+  warmupIterations.set(3)
+  iterations.set(5)
+  profilers.set(listOf("gc"))
+  resultFormat.set("JSON")
+  if (project.hasProperty("jmhIncludes")) {
+    includes.set(listOf(project.property("jmhIncludes") as String))
+  }
+}
+
 fun copyLicenseFiles() {
   val metaInfDir = File(layout.buildDirectory.get().asFile, "resources/main/META-INF")
   val licenseFile = File(project.rootDir, "LICENSE")
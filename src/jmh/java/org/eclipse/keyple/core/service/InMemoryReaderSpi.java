@@ -0,0 +1,136 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import org.eclipse.keyple.core.common.KeypleReaderExtension;
+import org.eclipse.keyple.core.plugin.spi.reader.ReaderSpi;
+
+/**
+ * In-memory {@link ReaderSpi} answering instantly to the commands used by the benchmarks.
+ *
+ * <p>The responses are selected from the INS byte of the command and are built once, so that the
+ * stub itself does not contribute to the measured allocations:
+ *
+ * <ul>
+ *   <li>{@code A4} (SELECT APPLICATION): FCI + {@code 9000}.
+ *   <li>{@code B2} (READ RECORD): 29 bytes + {@code 9000}.
+ *   <li>{@code CA} (GET DATA): {@code 6C1D} when Le differs from 29, 29 bytes + {@code 9000}
+ *       otherwise.
+ *   <li>{@code E2} (APPEND RECORD, case 4): {@code 9000} without data.
+ *   <li>{@code CB} (chained response): 64 bytes + {@code 6140}, followed by {@link
+ *       #CHAINED_SEGMENTS} GET RESPONSE segments, the last one ending with {@code 9000}.
+ *   <li>{@code C0} (GET RESPONSE): next chained segment if any, 29 bytes + {@code 9000} otherwise.
+ * </ul>
+ *
+ * @since 3.5.0
+ */
+final class InMemoryReaderSpi implements ReaderSpi, KeypleReaderExtension {
+
+  static final int CHAINED_SEGMENTS = 3;
+
+  private static final byte[] FCI = buildResponse(32, 0x9000);
+  private static final byte[] DATA_9000 = buildResponse(29, 0x9000);
+  private static final byte[] SW_6C1D = buildResponse(0, 0x6C1D);
+  private static final byte[] SW_9000 = buildResponse(0, 0x9000);
+  private static final byte[] SEGMENT_6140 = buildResponse(64, 0x6140);
+  private static final byte[] SEGMENT_9000 = buildResponse(64, 0x9000);
+  private static final byte[] SW_6D00 = buildResponse(0, 0x6D00);
+
+  private final String name;
+  private boolean isPhysicalChannelOpen;
+  private int pendingSegments;
+
+  /**
+   * Constructor.
+   *
+   * @param name The reader name.
+   * @since 3.5.0
+   */
+  InMemoryReaderSpi(String name) {
+    this.name = name;
+  }
+
+  private static byte[] buildResponse(int dataLength, int statusWord) {
+    byte[] response = new byte[dataLength + 2];
+    for (int i = 0; i < dataLength; i++) {
+      response[i] = (byte) i;
+    }
+    response[dataLength] = (byte) (statusWord >> 8);
+    response[dataLength + 1] = (byte) statusWord;
+    return response;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public void openPhysicalChannel() {
+    isPhysicalChannelOpen = true;
+  }
+
+  @Override
+  public void closePhysicalChannel() {
+    isPhysicalChannelOpen = false;
+  }
+
+  @Override
+  public boolean isPhysicalChannelOpen() {
+    return isPhysicalChannelOpen;
+  }
+
+  @Override
+  public boolean checkCardPresence() {
+    return true;
+  }
+
+  @Override
+  public String getPowerOnData() {
+    return "3B8880010000000000718100F9";
+  }
+
+  @Override
+  public byte[] transmitApdu(byte[] apdu) {
+    switch (apdu[1]) {
+      case (byte) 0xA4:
+        return FCI;
+      case (byte) 0xB2:
+        return DATA_9000;
+      case (byte) 0xCA:
+        return apdu[apdu.length - 1] == (byte) 0x1D ? DATA_9000 : SW_6C1D;
+      case (byte) 0xE2:
+        return SW_9000;
+      case (byte) 0xCB:
+        pendingSegments = CHAINED_SEGMENTS;
+        return SEGMENT_6140;
+      case (byte) 0xC0:
+        if (pendingSegments > 0) {
+          pendingSegments--;
+          return pendingSegments > 0 ? SEGMENT_6140 : SEGMENT_9000;
+        }
+        return DATA_9000;
+      default:
+        return SW_6D00;
+    }
+  }
+
+  @Override
+  public boolean isContactless() {
+    return true;
+  }
+
+  @Override
+  public void onUnregister() {
+    // NOP
+  }
+}
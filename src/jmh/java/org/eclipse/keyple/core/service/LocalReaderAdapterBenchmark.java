@@ -0,0 +1,211 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import java.util.*;
+import org.eclipse.keyple.core.util.HexUtil;
+import org.eclipse.keypop.card.*;
+import org.eclipse.keypop.card.spi.ApduRequestSpi;
+import org.eclipse.keypop.card.spi.CardRequestSpi;
+import org.eclipse.keypop.card.spi.CardSelectionRequestSpi;
+import org.eclipse.keypop.reader.selection.CardSelector;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks of the APDU transmission path of {@link LocalReaderAdapter}.
+ *
+ * <p>The reader is backed by an {@link InMemoryReaderSpi} answering instantly, so that the results
+ * only reflect the per-APDU overhead of the service layer (status word analysis, automatic GET
+ * RESPONSE handling, response building).
+ *
+ * <p>Run with {@code ./gradlew jmh} (throughput, average time and GC profiler are configured in
+ * the build script). A subset can be selected with {@code -PjmhIncludes=<regex>}.
+ *
+ * @since 3.5.0
+ */
+@State(Scope.Thread)
+public class LocalReaderAdapterBenchmark {
+
+  private static final String PLUGIN_NAME = "BENCHMARK_PLUGIN";
+  private static final String READER_NAME = "BENCHMARK_READER";
+
+  private LocalReaderAdapter localReader;
+
+  private CardRequestSpi readRecordsRequest;
+  private CardRequestSpi chainedResponseRequest;
+  private CardRequestSpi wrongLengthRequest;
+  private CardRequestSpi case4Request;
+  private byte[] wrongLengthApdu;
+
+  private List<CardSelector<?>> cardSelectors;
+  private List<CardSelectionRequestSpi> cardSelectionRequests;
+
+  /** Builds the reader and the requests shared by all invocations. */
+  @Setup
+  public void setUp() {
+    localReader = new LocalReaderAdapter(new InMemoryReaderSpi(READER_NAME), PLUGIN_NAME);
+    localReader.register();
+
+    readRecordsRequest =
+        new BenchmarkCardRequest(
+            Arrays.<ApduRequestSpi>asList(
+                new BenchmarkApduRequest("00B2010C1D"),
+                new BenchmarkApduRequest("00B2020C1D"),
+                new BenchmarkApduRequest("00B2030C1D"),
+                new BenchmarkApduRequest("00B2040C1D")));
+    chainedResponseRequest =
+        new BenchmarkCardRequest(
+            Collections.<ApduRequestSpi>singletonList(new BenchmarkApduRequest("00CB000000")));
+    BenchmarkApduRequest wrongLengthApduRequest = new BenchmarkApduRequest("00CA000000");
+    wrongLengthApdu = wrongLengthApduRequest.getApdu();
+    wrongLengthRequest =
+        new BenchmarkCardRequest(Collections.<ApduRequestSpi>singletonList(wrongLengthApduRequest));
+    case4Request =
+        new BenchmarkCardRequest(
+            Collections.<ApduRequestSpi>singletonList(
+                new BenchmarkApduRequest("00E2000804010203041D")));
+
+    cardSelectors =
+        Collections.<CardSelector<?>>singletonList(
+            new IsoCardSelectorAdapter().filterByDfName("A000000291FF9101"));
+    cardSelectionRequests =
+        Collections.<CardSelectionRequestSpi>singletonList(
+            new BenchmarkCardSelectionRequest(readRecordsRequest));
+  }
+
+  /**
+   * Four READ RECORD commands answered with {@code 9000}.
+   *
+   * @return The card response.
+   */
+  @Benchmark
+  public CardResponseApi processCardRequest_9000() throws AbstractApduException {
+    return localReader.processCardRequest(readRecordsRequest, ChannelControl.KEEP_OPEN);
+  }
+
+  /**
+   * One command answered with {@code 61XX} followed by a chain of GET RESPONSE commands.
+   *
+   * @return The card response.
+   */
+  @Benchmark
+  public CardResponseApi processCardRequest_61xxChain() throws AbstractApduException {
+    return localReader.processCardRequest(chainedResponseRequest, ChannelControl.KEEP_OPEN);
+  }
+
+  /**
+   * One command answered with {@code 6CXX} and replayed with the right Le.
+   *
+   * @return The card response.
+   */
+  @Benchmark
+  public CardResponseApi processCardRequest_6cxxReplay() throws AbstractApduException {
+    // the replay patches the Le of the request, restore it to trigger the 6CXX case again
+    wrongLengthApdu[wrongLengthApdu.length - 1] = (byte) 0x00;
+    return localReader.processCardRequest(wrongLengthRequest, ChannelControl.KEEP_OPEN);
+  }
+
+  /**
+   * One case 4 command answered with {@code 9000} without data, followed by an automatic GET
+   * RESPONSE.
+   *
+   * @return The card response.
+   */
+  @Benchmark
+  public CardResponseApi processCardRequest_case4GetResponse() throws AbstractApduException {
+    return localReader.processCardRequest(case4Request, ChannelControl.KEEP_OPEN);
+  }
+
+  /**
+   * A selection by AID followed by four READ RECORD commands.
+   *
+   * @return The card selection responses.
+   */
+  @Benchmark
+  public List<CardSelectionResponseApi> transmitCardSelectionRequests()
+      throws AbstractApduException {
+    return localReader.transmitCardSelectionRequests(
+        cardSelectors,
+        cardSelectionRequests,
+        MultiSelectionProcessing.FIRST_MATCH,
+        ChannelControl.KEEP_OPEN);
+  }
+
+  /** Minimal {@link ApduRequestSpi} implementation. */
+  private static final class BenchmarkApduRequest implements ApduRequestSpi {
+
+    private final byte[] apdu;
+    private final Set<Integer> successfulStatusWords;
+
+    private BenchmarkApduRequest(String apdu) {
+      this.apdu = HexUtil.toByteArray(apdu);
+      this.successfulStatusWords = new HashSet<>(Collections.singletonList(0x9000));
+    }
+
+    @Override
+    public byte[] getApdu() {
+      return apdu;
+    }
+
+    @Override
+    public Set<Integer> getSuccessfulStatusWords() {
+      return successfulStatusWords;
+    }
+
+    @Override
+    public String getInfo() {
+      return null;
+    }
+  }
+
+  /** Minimal {@link CardRequestSpi} implementation. */
+  private static final class BenchmarkCardRequest implements CardRequestSpi {
+
+    private final List<ApduRequestSpi> apduRequests;
+
+    private BenchmarkCardRequest(List<ApduRequestSpi> apduRequests) {
+      this.apduRequests = apduRequests;
+    }
+
+    @Override
+    public List<ApduRequestSpi> getApduRequests() {
+      return apduRequests;
+    }
+
+    @Override
+    public boolean stopOnUnsuccessfulStatusWord() {
+      return true;
+    }
+  }
+
+  /** Minimal {@link CardSelectionRequestSpi} implementation. */
+  private static final class BenchmarkCardSelectionRequest implements CardSelectionRequestSpi {
+
+    private final Set<Integer> successfulSelectionStatusWords;
+    private final CardRequestSpi cardRequest;
+
+    private BenchmarkCardSelectionRequest(CardRequestSpi cardRequest) {
+      this.successfulSelectionStatusWords = new HashSet<>(Collections.singletonList(0x9000));
+      this.cardRequest = cardRequest;
+    }
+
+    @Override
+    public Set<Integer> getSuccessfulSelectionStatusWords() {
+      return successfulSelectionStatusWords;
+    }
+
+    @Override
+    public CardRequestSpi getCardRequest() {
+      return cardRequest;
+    }
+  }
+}
@@ -0,0 +1,387 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Abstract class for the monitoring jobs polling the reader at regular intervals.
+ *
+ * <p>When started with a {@link ScheduledExecutorService}, the polling is performed as a sequence
+ * of scheduled ticks, so that no thread is held between two polls. The end of the monitoring
+ * (notification of the detected event to the monitoring state) is then performed on the provided
+ * event executor. With any other executor service, the polling is performed as a blocking loop.
+ *
+ * <p>The interval between two polls follows the adaptive polling policy of the reader if any (see
+ * {@link AdaptivePollingPolicyAdapter}), or is fixed to the sleep duration provided at construction
+ * otherwise.
+ *
+ * <p>All runtime exceptions that may occur during the monitoring process are caught and notified at
+ * the application level through the {@link
+ * org.eclipse.keypop.reader.spi.CardReaderObservationExceptionHandlerSpi} mechanism.
+ *
+ * @since 3.5.0
+ */
+abstract class AbstractActiveMonitoringJobAdapter extends AbstractMonitoringJobAdapter {
+
+  private static final Logger logger =
+      LoggerFactory.getLogger(AbstractActiveMonitoringJobAdapter.class);
+
+  private final AdaptivePollingPolicyAdapter defaultPollingPolicy;
+  private final Executor eventExecutor;
+
+  /* The current run, targeted by stop() */
+  private volatile PollingRun currentRun;
+
+  /**
+   * Creates an instance.
+   *
+   * @param reader The reader.
+   * @param sleepDurationMillis The time interval between two polls when the reader has no adaptive
+   *     polling policy.
+   * @param eventExecutor The executor used to end the monitoring when running as scheduled ticks.
+   * @since 3.5.0
+   */
+  AbstractActiveMonitoringJobAdapter(
+      ObservableLocalReaderAdapter reader, long sleepDurationMillis, Executor eventExecutor) {
+    super(reader);
+    this.defaultPollingPolicy =
+        new AdaptivePollingPolicyAdapter(sleepDurationMillis, sleepDurationMillis);
+    this.eventExecutor = eventExecutor;
+  }
+
+  /**
+   * Gets the identifier of the job used in the logs.
+   *
+   * @return A not empty string.
+   * @since 3.5.0
+   */
+  abstract String getJobId();
+
+  /**
+   * Gets the name of the reader method used to poll, for logging purpose.
+   *
+   * @return A not empty string.
+   * @since 3.5.0
+   */
+  abstract String getPollingMethodName();
+
+  /**
+   * Polls the reader once.
+   *
+   * @return true if the expected event has been detected and the monitoring is completed.
+   * @since 3.5.0
+   */
+  abstract boolean isMonitoringCompleted();
+
+  /**
+   * Invoked once at the end of the monitoring, whether the expected event has been detected or the
+   * monitoring has been stopped or has failed.
+   *
+   * @param monitoringState reference to the state the monitoring job in running against.
+   * @param isCompleted true if the expected event has been detected.
+   * @since 3.5.0
+   */
+  abstract void onMonitoringEnded(
+      AbstractObservableStateAdapter monitoringState, boolean isCompleted);
+
+  /**
+   * Gets the blocking polling loop, used when the executor service is not a scheduler.
+   *
+   * @return A not null reference.
+   * @since 3.5.0
+   */
+  @Override
+  final Runnable getMonitoringJob(final AbstractObservableStateAdapter monitoringState) {
+    return new Runnable() {
+      @Override
+      public void run() {
+        boolean isCompleted = false;
+        try {
+          logStart();
+          PollingRun pollingRun = startRun();
+          while (pollingRun.isRunning()) {
+            if (isMonitoringCompleted()) {
+              isCompleted = true;
+              break;
+            }
+            // wait a bit
+            try {
+              Thread.sleep(pollingRun.getNextPollingIntervalMillis());
+            } catch (InterruptedException ignored) {
+              // Restore interrupted state...
+              Thread.currentThread().interrupt();
+              pollingRun.stop();
+            }
+          }
+        } catch (RuntimeException e) {
+          notifyObservationError(e);
+        }
+        endMonitoring(monitoringState, isCompleted);
+      }
+    };
+  }
+
+  /**
+   * Starts the polling as scheduled ticks if the provided executor service is a {@link
+   * ScheduledExecutorService}, as a blocking loop otherwise.
+   *
+   * @since 3.5.0
+   */
+  @Override
+  final Future<?> startMonitoringJob(
+      AbstractObservableStateAdapter monitoringState, ExecutorService executorService) {
+    if (!(executorService instanceof ScheduledExecutorService)) {
+      return super.startMonitoringJob(monitoringState, executorService);
+    }
+    logStart();
+    PollingTask pollingTask =
+        new PollingTask(startRun(), monitoringState, (ScheduledExecutorService) executorService);
+    pollingTask.scheduleNextPoll(0);
+    return pollingTask;
+  }
+
+  /**
+   * Terminates the monitoring process.
+   *
+   * @since 3.5.0
+   */
+  @Override
+  final void stop() {
+    PollingRun pollingRun = currentRun;
+    if (pollingRun != null) {
+      pollingRun.stop();
+    }
+  }
+
+  /**
+   * Starts a new run with the current policy of the reader, and makes it the target of {@link
+   * #stop()}. The previous run, if still active, keeps its own stop flag and polling state.
+   *
+   * @return A not null reference.
+   */
+  private PollingRun startRun() {
+    AdaptivePollingPolicyAdapter readerPollingPolicy = getReader().getPollingPolicy();
+    PollingRun pollingRun =
+        new PollingRun(readerPollingPolicy != null ? readerPollingPolicy : defaultPollingPolicy);
+    currentRun = pollingRun;
+    return pollingRun;
+  }
+
+  private void logStart() {
+    if (logger.isTraceEnabled()) {
+      logger.trace(
+          "[fsmJob={}, reader={}] Starting monitoring job process [mode=Polling using '{}']",
+          getJobId(),
+          getReader().getName(),
+          getPollingMethodName());
+    }
+  }
+
+  /**
+   * Ends the monitoring on the current thread.
+   *
+   * @param monitoringState The monitoring state.
+   * @param isCompleted true if the expected event has been detected.
+   */
+  private void endMonitoring(AbstractObservableStateAdapter monitoringState, boolean isCompleted) {
+    if (!isCompleted && logger.isTraceEnabled()) {
+      logger.trace(
+          "[fsmJob={}, reader={}] Monitoring job polling process stopped",
+          getJobId(),
+          getReader().getName());
+    }
+    try {
+      onMonitoringEnded(monitoringState, isCompleted);
+    } catch (RuntimeException e) {
+      notifyObservationError(e);
+    }
+  }
+
+  private void notifyObservationError(RuntimeException e) {
+    getReader()
+        .getObservationExceptionHandler()
+        .onReaderObservationError(getReader().getPluginName(), getReader().getName(), e);
+  }
+
+  /**
+   * Stop flag and polling state of one run of the monitoring, so that a run still active after a
+   * restart never resumes or shares the state of the new run.
+   */
+  private final class PollingRun {
+
+    private final AdaptivePollingPolicyAdapter pollingPolicy;
+    private final AtomicBoolean isRunning = new AtomicBoolean(true);
+
+    /* Only accessed by the polling thread or the successive ticks of the run */
+    private int idlePollCount;
+    private long pollingIntervalMillis;
+
+    private PollingRun(AdaptivePollingPolicyAdapter pollingPolicy) {
+      this.pollingPolicy = pollingPolicy;
+      pollingIntervalMillis = pollingPolicy.getMinIntervalMillis();
+      getReader().setPollingIntervalMillis(pollingIntervalMillis);
+    }
+
+    private boolean isRunning() {
+      return isRunning.get();
+    }
+
+    private void stop() {
+      isRunning.set(false);
+    }
+
+    /**
+     * Computes the interval to wait after an unsuccessful poll.
+     *
+     * @return A strictly positive long.
+     */
+    private long getNextPollingIntervalMillis() {
+      if (idlePollCount < Integer.MAX_VALUE) {
+        idlePollCount++;
+      }
+      long nextIntervalMillis =
+          pollingPolicy.getNextIntervalMillis(idlePollCount, pollingIntervalMillis);
+      if (nextIntervalMillis != pollingIntervalMillis) {
+        if (logger.isTraceEnabled()) {
+          logger.trace(
+              "[fsmJob={}, reader={}] Polling interval changed [intervalMillis={}]",
+              getJobId(),
+              getReader().getName(),
+              nextIntervalMillis);
+        }
+        pollingIntervalMillis = nextIntervalMillis;
+        getReader().setPollingIntervalMillis(nextIntervalMillis);
+      }
+      return nextIntervalMillis;
+    }
+  }
+
+  /**
+   * Polling tick, rescheduling itself until the expected event is detected or the monitoring is
+   * stopped, and exposing the state of the whole monitoring as a {@link Future}.
+   */
+  private final class PollingTask implements Runnable, Future<Object> {
+
+    private final PollingRun pollingRun;
+    private final AbstractObservableStateAdapter monitoringState;
+    private final ScheduledExecutorService scheduler;
+    private final CountDownLatch endLatch = new CountDownLatch(1);
+    private volatile boolean isCancelled;
+
+    private PollingTask(
+        PollingRun pollingRun,
+        AbstractObservableStateAdapter monitoringState,
+        ScheduledExecutorService scheduler) {
+      this.pollingRun = pollingRun;
+      this.monitoringState = monitoringState;
+      this.scheduler = scheduler;
+    }
+
+    private void scheduleNextPoll(long delayMillis) {
+      try {
+        scheduler.schedule(this, delayMillis, TimeUnit.MILLISECONDS);
+      } catch (RejectedExecutionException e) {
+        notifyObservationError(e);
+        end(false);
+      }
+    }
+
+    @Override
+    public void run() {
+      boolean isCompleted;
+      try {
+        isCompleted = pollingRun.isRunning() && isMonitoringCompleted();
+      } catch (RuntimeException e) {
+        notifyObservationError(e);
+        end(false);
+        return;
+      }
+      if (isCompleted || !pollingRun.isRunning()) {
+        end(isCompleted);
+      } else {
+        scheduleNextPoll(pollingRun.getNextPollingIntervalMillis());
+      }
+    }
+
+    /** Ends the monitoring on the event executor, out of the scheduler threads. */
+    private void end(final boolean isCompleted) {
+      Runnable endTask =
+          new Runnable() {
+            @Override
+            public void run() {
+              try {
+                endMonitoring(monitoringState, isCompleted);
+              } finally {
+                endLatch.countDown();
+              }
+            }
+          };
+      try {
+        eventExecutor.execute(endTask);
+      } catch (RejectedExecutionException e) {
+        endTask.run();
+      }
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+      if (isDone()) {
+        return false;
+      }
+      isCancelled = true;
+      pollingRun.stop();
+      return true;
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return isCancelled;
+    }
+
+    @Override
+    public boolean isDone() {
+      return isCancelled || endLatch.getCount() == 0;
+    }
+
+    @Override
+    public Object get() throws InterruptedException {
+      endLatch.await();
+      if (isCancelled) {
+        throw new CancellationException();
+      }
+      return null;
+    }
+
+    @Override
+    public Object get(long timeout, TimeUnit unit) throws InterruptedException, TimeoutException {
+      if (!endLatch.await(timeout, unit)) {
+        throw new TimeoutException();
+      }
+      if (isCancelled) {
+        throw new CancellationException();
+      }
+      return null;
+    }
+  }
+}
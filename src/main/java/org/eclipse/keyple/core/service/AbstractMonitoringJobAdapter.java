@@ -11,6 +11,9 @@
  ************************************************************************************** */
 package org.eclipse.keyple.core.service;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
 /**
  * Abstract class for all monitoring jobs.
  *
@@ -48,6 +51,22 @@ final ObservableLocalReaderAdapter getReader() {
    */
   abstract Runnable getMonitoringJob(AbstractObservableStateAdapter monitoringState);
 
+  /**
+   * Starts the monitoring job using the provided executor service.
+   *
+   * <p>By default, the task returned by {@link #getMonitoringJob(AbstractObservableStateAdapter)}
+   * is submitted to the executor service.
+   *
+   * @param monitoringState reference to the state the monitoring job in running against.
+   * @param executorService The executor service.
+   * @return The result of the monitoring job.
+   * @since 3.5.0
+   */
+  Future<?> startMonitoringJob(
+      AbstractObservableStateAdapter monitoringState, ExecutorService executorService) {
+    return executorService.submit(getMonitoringJob(monitoringState));
+  }
+
   /**
    * Stops/interrupts the monitoring job
    *
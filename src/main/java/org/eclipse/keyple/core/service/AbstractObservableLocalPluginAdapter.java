@@ -74,8 +74,12 @@ final void notifyObservers(final PluginEvent event) {
           event.getReaderNames(),
           countObservers());
     }
+    // The JSON data forwarded by the distributed local services is encoded once per notification
+    DistributedLocalServiceAdapter.EventBody eventBody =
+        new DistributedLocalServiceAdapter.EventBody(
+            DistributedUtilAdapter.JsonProperty.PLUGIN_EVENT, event);
     for (PluginObserverSpi observer : observationManager.getObservers()) {
-      notifyObserver(observer, event);
+      notifyObserver(observer, event, eventBody);
     }
     if (logger.isDebugEnabled()) {
       logger.debug("[plugin={}] Observers notified", getName());
@@ -87,10 +91,18 @@ final void notifyObservers(final PluginEvent event) {
    *
    * @param observer The observer to notify.
    * @param event The event.
+   * @param eventBody The JSON data of the event, for the distributed local services.
    */
-  private void notifyObserver(PluginObserverSpi observer, PluginEvent event) {
+  private void notifyObserver(
+      PluginObserverSpi observer,
+      PluginEvent event,
+      DistributedLocalServiceAdapter.EventBody eventBody) {
     try {
-      observer.onPluginEvent(event);
+      if (observer instanceof DistributedLocalServiceAdapter) {
+        ((DistributedLocalServiceAdapter) observer).onPluginEvent(event, eventBody);
+      } else {
+        observer.onPluginEvent(event);
+      }
     } catch (Exception e) {
       try {
         observationManager.getObservationExceptionHandler().onPluginObservationError(getName(), e);
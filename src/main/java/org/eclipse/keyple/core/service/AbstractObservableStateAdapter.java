@@ -131,7 +131,7 @@ final void onActivate() {
       if (executorService == null) {
         throw new IllegalStateException("ExecutorService is not set. Cannot launch monitoring job");
       }
-      monitoringEvent = executorService.submit(monitoringJob.getMonitoringJob(this));
+      monitoringEvent = monitoringJob.startMonitoringJob(this, executorService);
     }
   }
 
@@ -11,10 +11,13 @@
  ************************************************************************************** */
 package org.eclipse.keyple.core.service;
 
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 import org.eclipse.keyple.core.common.KeyplePluginExtension;
 import org.eclipse.keyple.core.common.KeypleReaderExtension;
@@ -35,10 +38,26 @@ abstract class AbstractPluginAdapter implements Plugin {
 
   private static final Logger logger = LoggerFactory.getLogger(AbstractPluginAdapter.class);
   static final String REMOTE_READER_NAME_SUFFIX = " (Remote)";
+  private static final String REGEX_META_CHARACTERS = "\\^$.|?*+()[]{}";
+  private static final String REGEX_QUOTE_START = "\\Q";
+  private static final String REGEX_QUOTE_END = "\\E";
+  private static final int READER_NAME_PATTERN_CACHE_SIZE = 64;
+
+  /** LRU cache of the compiled reader name regex, shared by all plugins. */
+  private static final Map<String, Pattern> readerNamePatterns =
+      Collections.synchronizedMap(
+          new LinkedHashMap<String, Pattern>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Pattern> eldest) {
+              return size() > READER_NAME_PATTERN_CACHE_SIZE;
+            }
+          });
+
   private final String pluginName;
   private final KeyplePluginExtension pluginExtension;
   private boolean isRegistered;
   private final Map<String, CardReader> readers;
+  private final Map<String, CardReader> readersView;
 
   /**
    * Constructor.
@@ -51,6 +70,7 @@ abstract class AbstractPluginAdapter implements Plugin {
     this.pluginName = pluginName;
     this.pluginExtension = pluginExtension;
     this.readers = new ConcurrentHashMap<>();
+    this.readersView = Collections.unmodifiableMap(readers);
   }
 
   /**
@@ -116,6 +136,9 @@ void unregister() {
             e.getMessage());
       }
     }
+    for (CardReader reader : readers.values()) {
+      SmartCardServiceAdapter.getInstance().unindexReader(reader);
+    }
     readers.clear();
     isRegistered = false;
   }
@@ -160,10 +183,44 @@ public final <T extends KeypleReaderExtension> T getReaderExtension(
   /**
    * Gets the Map of all connected readers.
    *
+   * <p>The returned Map is a read-only view, changes must be made using {@link #putReader(String,
+   * CardReader)} and {@link #removeReaderByKey(String)} in order to keep the reader index of the
+   * service up to date.
+   *
    * @since 2.0.0
    */
   final Map<String, CardReader> getReadersMap() {
-    return readers;
+    return readersView;
+  }
+
+  /**
+   * Adds a reader to the Map of connected readers and to the reader index of the service.
+   *
+   * @param readerKey The key of the reader in the Map (usually its name).
+   * @param reader The reader.
+   * @since 3.5.0
+   */
+  final void putReader(String readerKey, CardReader reader) {
+    CardReader previousReader = readers.put(readerKey, reader);
+    if (previousReader != null && previousReader != reader) {
+      SmartCardServiceAdapter.getInstance().unindexReader(previousReader);
+    }
+    SmartCardServiceAdapter.getInstance().indexReader(this, reader);
+  }
+
+  /**
+   * Removes a reader from the Map of connected readers and from the reader index of the service.
+   *
+   * @param readerKey The key of the reader in the Map (usually its name).
+   * @return The removed reader or null if the key was not found.
+   * @since 3.5.0
+   */
+  final CardReader removeReaderByKey(String readerKey) {
+    CardReader reader = readers.remove(readerKey);
+    if (reader != null) {
+      SmartCardServiceAdapter.getInstance().unindexReader(reader);
+    }
+    return reader;
   }
 
   /**
@@ -206,16 +263,90 @@ public final CardReader getReader(String name) {
    */
   @Override
   public final CardReader findReader(String readerNameRegex) {
+    String readerName = getLiteralReaderName(readerNameRegex);
+    if (readerName != null) {
+      return findReaderByName(readerName);
+    }
+    Pattern pattern = getReaderNamePattern(readerNameRegex);
     for (CardReader reader : readers.values()) {
+      if (pattern.matcher(reader.getName()).matches()) {
+        return reader;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns the reader having exactly the provided name.
+   *
+   * <p>The lookup is first made using the key of the Map of readers, then on the names of the
+   * readers when the keys differ from the names (e.g. remote readers).
+   *
+   * @param readerName The reader name.
+   * @return Null if the reader is not found.
+   * @since 3.5.0
+   */
+  final CardReader findReaderByName(String readerName) {
+    CardReader reader = readers.get(readerName);
+    if (reader != null && reader.getName().equals(readerName)) {
+      return reader;
+    }
+    for (CardReader candidate : readers.values()) {
+      if (candidate.getName().equals(readerName)) {
+        return candidate;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Gets the literal reader name corresponding to the provided regex if the regex can only match
+   * a single name, that is if it is a quoted string (see {@link Pattern#quote(String)}) or if it
+   * doesn't contain any meta character.
+   *
+   * @param readerNameRegex The reader name regex.
+   * @return Null if the regex is not a literal.
+   * @since 3.5.0
+   */
+  static String getLiteralReaderName(String readerNameRegex) {
+    if (readerNameRegex == null) {
+      return null;
+    }
+    if (readerNameRegex.startsWith(REGEX_QUOTE_START)
+        && readerNameRegex.endsWith(REGEX_QUOTE_END)
+        && readerNameRegex.length() >= REGEX_QUOTE_START.length() + REGEX_QUOTE_END.length()) {
+      String literal =
+          readerNameRegex.substring(
+              REGEX_QUOTE_START.length(), readerNameRegex.length() - REGEX_QUOTE_END.length());
+      return literal.contains(REGEX_QUOTE_END) ? null : literal;
+    }
+    for (int i = 0; i < readerNameRegex.length(); i++) {
+      if (REGEX_META_CHARACTERS.indexOf(readerNameRegex.charAt(i)) >= 0) {
+        return null;
+      }
+    }
+    return readerNameRegex;
+  }
+
+  /**
+   * Gets the compiled form of the provided reader name regex from the cache, compiling it if
+   * needed.
+   *
+   * @param readerNameRegex The reader name regex.
+   * @return A not null reference.
+   * @throws IllegalArgumentException If the provided regex is invalid.
+   */
+  private static Pattern getReaderNamePattern(String readerNameRegex) {
+    Pattern pattern = readerNamePatterns.get(readerNameRegex);
+    if (pattern == null) {
       try {
-        if (reader.getName().matches(readerNameRegex)) {
-          return reader;
-        }
+        pattern = Pattern.compile(readerNameRegex);
       } catch (PatternSyntaxException e) {
         throw new IllegalArgumentException(
             "Parameter 'readerNameRegex' has an invalid regex synthax: " + readerNameRegex, e);
       }
+      readerNamePatterns.put(readerNameRegex, pattern);
     }
-    return null;
+    return pattern;
   }
 }
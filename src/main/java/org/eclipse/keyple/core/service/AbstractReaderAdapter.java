@@ -12,6 +12,8 @@
 package org.eclipse.keyple.core.service;
 
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import org.eclipse.keyple.core.common.KeypleReaderExtension;
 import org.eclipse.keyple.core.util.Assert;
 import org.eclipse.keypop.card.*;
@@ -27,7 +29,7 @@
  *
  * @since 2.0.0
  */
-abstract class AbstractReaderAdapter implements CardReader, ProxyReaderApi {
+abstract class AbstractReaderAdapter implements CardReader, ProxyReaderApi, AsyncProxyReader {
 
   private static final Logger logger = LoggerFactory.getLogger(AbstractReaderAdapter.class);
 
@@ -36,7 +38,7 @@ abstract class AbstractReaderAdapter implements CardReader, ProxyReaderApi {
   private final String pluginName;
 
   private boolean isRegistered;
-  private long before;
+  private volatile long before;
 
   /**
    * Constructor.
@@ -111,16 +113,7 @@ final List<CardSelectionResponseApi> transmitCardSelectionRequests(
 
     List<CardSelectionResponseApi> cardSelectionResponses = null;
 
-    if (logger.isDebugEnabled()) {
-      long timeStamp = System.nanoTime();
-      long elapsed10ms = (timeStamp - before) / 100000;
-      this.before = timeStamp;
-      logger.debug(
-          "[reader={}] Send [type=CardSelectionRequests, cardSelectionRequestCount={}, elapsedMs={}]",
-          getName(),
-          cardSelectionRequests.size(),
-          elapsed10ms / 10.0);
-    }
+    logCardSelectionRequestsSent(cardSelectionRequests);
 
     try {
       cardSelectionResponses =
@@ -133,21 +126,129 @@ final List<CardSelectionResponseApi> transmitCardSelectionRequests(
           "An unexpected status word was received during the processing of the card selection requests",
           e);
     } finally {
-      if (logger.isDebugEnabled()) {
-        long timeStamp = System.nanoTime();
-        long elapsed10ms = (timeStamp - before) / 100000;
-        this.before = timeStamp;
-        logger.debug(
-            "[reader={}] Receive [type=CardSelectionResponses, cardSelectionResponseCount={}, elapsedMs={}]",
-            getName(),
-            cardSelectionResponses != null ? cardSelectionResponses.size() : 0,
-            elapsed10ms / 10.0);
-      }
+      logCardSelectionResponsesReceived(cardSelectionResponses);
     }
 
     return cardSelectionResponses;
   }
 
+  /**
+   * Performs asynchronously a selection scenario (see {@link
+   * #transmitCardSelectionRequests(List, List, MultiSelectionProcessing, ChannelControl)}).
+   *
+   * <p>The scenario is executed by the executor service provided by {@link
+   * org.eclipse.keyple.core.service.spi.ExecutorServiceFactorySpi#getReaderOperationExecutor()}.
+   * This method may be overridden by the readers able to perform it without blocking a thread.
+   *
+   * @param cardSelectors A list of {@link CardSelector}.
+   * @param cardSelectionRequests A list of selection cases composed of one or more {@link
+   *     CardSelectionRequestSpi}.
+   * @param multiSelectionProcessing The multi selection policy.
+   * @param channelControl The channel control policy.
+   * @return A not null reference.
+   * @throws IllegalStateException If the reader is no longer registered.
+   * @since 3.5.0
+   */
+  CompletableFuture<List<CardSelectionResponseApi>> transmitCardSelectionRequestsAsync(
+      final List<CardSelector<?>> cardSelectors,
+      final List<CardSelectionRequestSpi> cardSelectionRequests,
+      final MultiSelectionProcessing multiSelectionProcessing,
+      final ChannelControl channelControl) {
+    checkStatus();
+    return executeAsync(
+        new Callable<List<CardSelectionResponseApi>>() {
+          @Override
+          public List<CardSelectionResponseApi> call() throws Exception {
+            return transmitCardSelectionRequests(
+                cardSelectors, cardSelectionRequests, multiSelectionProcessing, channelControl);
+          }
+        });
+  }
+
+  /**
+   * Logs the sending of card selection requests, with the time elapsed since the previous exchange,
+   * if the debug level is enabled.
+   *
+   * <p>Also used by the readers performing the exchange without blocking a thread, so that their
+   * traces are identical to the ones of the blocking exchanges.
+   *
+   * @param cardSelectionRequests The card selection requests.
+   * @since 3.5.0
+   */
+  final void logCardSelectionRequestsSent(List<CardSelectionRequestSpi> cardSelectionRequests) {
+    if (logger.isDebugEnabled()) {
+      logger.debug(
+          "[reader={}] Send [type=CardSelectionRequests, cardSelectionRequestCount={}, elapsedMs={}]",
+          getName(),
+          cardSelectionRequests.size(),
+          getElapsed10ms() / 10.0);
+    }
+  }
+
+  /**
+   * Logs the reception of card selection responses, with the time elapsed since the sending, if the
+   * debug level is enabled.
+   *
+   * @param cardSelectionResponses The card selection responses, null if none was received.
+   * @since 3.5.0
+   */
+  final void logCardSelectionResponsesReceived(
+      List<CardSelectionResponseApi> cardSelectionResponses) {
+    if (logger.isDebugEnabled()) {
+      logger.debug(
+          "[reader={}] Receive [type=CardSelectionResponses, cardSelectionResponseCount={}, elapsedMs={}]",
+          getName(),
+          cardSelectionResponses != null ? cardSelectionResponses.size() : 0,
+          getElapsed10ms() / 10.0);
+    }
+  }
+
+  /**
+   * Logs the sending of a card request, with the time elapsed since the previous exchange, if the
+   * debug level is enabled.
+   *
+   * @param cardRequest The card request.
+   * @since 3.5.0
+   */
+  final void logCardRequestSent(CardRequestSpi cardRequest) {
+    if (logger.isDebugEnabled()) {
+      logger.debug(
+          "[reader={}] Send [type=CardRequest, apduRequestCount={}, elapsedMs={}]",
+          getName(),
+          cardRequest.getApduRequests().size(),
+          getElapsed10ms() / 10.0);
+    }
+  }
+
+  /**
+   * Logs the reception of a card response, with the time elapsed since the sending, if the debug
+   * level is enabled.
+   *
+   * @param cardResponse The card response, null if none was received.
+   * @since 3.5.0
+   */
+  final void logCardResponseReceived(CardResponseApi cardResponse) {
+    if (logger.isDebugEnabled()) {
+      logger.debug(
+          "[reader={}] Receive [type=CardResponse, apduResponseCount={}, elapsedMs={}]",
+          getName(),
+          cardResponse != null ? cardResponse.getApduResponses().size() : 0,
+          getElapsed10ms() / 10.0);
+    }
+  }
+
+  /**
+   * Returns the time elapsed since the previous call, in tenths of milliseconds.
+   *
+   * @return A positive value.
+   */
+  private long getElapsed10ms() {
+    long timeStamp = System.nanoTime();
+    long elapsed10ms = (timeStamp - before) / 100000;
+    before = timeStamp;
+    return elapsed10ms;
+  }
+
   /**
    * Check if the reader status is "registered".
    *
@@ -252,32 +353,91 @@ public final CardResponseApi transmitCardRequest(
 
     CardResponseApi cardResponse = null;
 
-    if (logger.isDebugEnabled()) {
-      long timeStamp = System.nanoTime();
-      long elapsed10ms = (timeStamp - before) / 100000;
-      this.before = timeStamp;
-      logger.debug(
-          "[reader={}] Send [type=CardRequest, apduRequestCount={}, elapsedMs={}]",
-          getName(),
-          cardRequest.getApduRequests().size(),
-          elapsed10ms / 10.0);
-    }
+    logCardRequestSent(cardRequest);
 
     try {
       cardResponse = processCardRequest(cardRequest, channelControl);
     } finally {
-      if (logger.isDebugEnabled()) {
-        long timeStamp = System.nanoTime();
-        long elapsed10ms = (timeStamp - before) / 100000;
-        this.before = timeStamp;
-        logger.debug(
-            "[reader={}] Receive [type=CardResponse, apduResponseCount={}, elapsedMs={}]",
-            getName(),
-            cardResponse != null ? cardResponse.getApduResponses().size() : 0,
-            elapsed10ms / 10.0);
-      }
+      logCardResponseReceived(cardResponse);
     }
 
     return cardResponse;
   }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>This method may be overridden by the readers able to perform it without blocking a thread.
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public CompletableFuture<CardResponseApi> transmitCardRequestAsync(
+      final CardRequestSpi cardRequest, final ChannelControl channelControl) {
+    checkStatus();
+
+    Assert.getInstance()
+        .notNull(cardRequest, "cardRequest")
+        .notNull(channelControl, "channelControl");
+
+    return executeAsync(
+        new Callable<CardResponseApi>() {
+          @Override
+          public CardResponseApi call() throws Exception {
+            return transmitCardRequest(cardRequest, channelControl);
+          }
+        });
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>This method may be overridden by the readers able to perform it without blocking a thread.
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public CompletableFuture<Boolean> isCardPresentAsync() {
+    checkStatus();
+    return executeAsync(
+        new Callable<Boolean>() {
+          @Override
+          public Boolean call() {
+            return isCardPresent();
+          }
+        });
+  }
+
+  /**
+   * Executes the provided blocking operation with the executor service dedicated to the reader
+   * operations requested asynchronously.
+   *
+   * @param operation The operation to execute.
+   * @param <T> The type of the result.
+   * @return A future completed with the result of the operation, or completed exceptionally with
+   *     the exception thrown by the operation or with a {@link
+   *     java.util.concurrent.RejectedExecutionException} if the operation cannot be executed.
+   */
+  private static <T> CompletableFuture<T> executeAsync(final Callable<T> operation) {
+    final CompletableFuture<T> future = new CompletableFuture<T>();
+    try {
+      SmartCardServiceAdapter.getInstance()
+          .getExecutorServiceFactory()
+          .getReaderOperationExecutor()
+          .execute(
+              new Runnable() {
+                @Override
+                public void run() {
+                  try {
+                    future.complete(operation.call());
+                  } catch (Exception e) {
+                    future.completeExceptionally(e);
+                  }
+                }
+              });
+    } catch (RuntimeException e) {
+      future.completeExceptionally(e);
+    }
+    return future;
+  }
 }
@@ -0,0 +1,87 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+/**
+ * Polling intervals of the active monitoring jobs of an observable local reader.
+ *
+ * <p>Each time an active monitoring job starts (i.e. right after the start of the card detection,
+ * a card insertion or a card removal), the reader is polled at the minimum interval during {@link
+ * #FAST_POLLING_COUNT} polls. The interval is then doubled at each unsuccessful poll, up to the
+ * maximum interval.
+ *
+ * <p>A policy having the same minimum and maximum intervals is a fixed interval policy.
+ *
+ * @since 3.5.0
+ */
+final class AdaptivePollingPolicyAdapter {
+
+  /**
+   * Number of polls performed at the minimum interval before backing off.
+   *
+   * @since 3.5.0
+   */
+  static final int FAST_POLLING_COUNT = 10;
+
+  private final long minIntervalMillis;
+  private final long maxIntervalMillis;
+
+  /**
+   * Constructor.
+   *
+   * @param minIntervalMillis The minimum interval in milliseconds (strictly positive).
+   * @param maxIntervalMillis The maximum interval in milliseconds (greater than or equal to the
+   *     minimum interval).
+   * @since 3.5.0
+   */
+  AdaptivePollingPolicyAdapter(long minIntervalMillis, long maxIntervalMillis) {
+    this.minIntervalMillis = minIntervalMillis;
+    this.maxIntervalMillis = maxIntervalMillis;
+  }
+
+  /**
+   * Gets the minimum interval.
+   *
+   * @return A strictly positive long.
+   * @since 3.5.0
+   */
+  long getMinIntervalMillis() {
+    return minIntervalMillis;
+  }
+
+  /**
+   * Gets the maximum interval.
+   *
+   * @return A long greater than or equal to the minimum interval.
+   * @since 3.5.0
+   */
+  long getMaxIntervalMillis() {
+    return maxIntervalMillis;
+  }
+
+  /**
+   * Computes the interval to wait after an unsuccessful poll.
+   *
+   * @param idlePollCount The number of unsuccessful polls since the start of the monitoring job,
+   *     including the current one.
+   * @param currentIntervalMillis The interval used after the previous unsuccessful poll, or the
+   *     minimum interval if none.
+   * @return The interval to wait before the next poll.
+   * @since 3.5.0
+   */
+  long getNextIntervalMillis(int idlePollCount, long currentIntervalMillis) {
+    if (idlePollCount <= FAST_POLLING_COUNT || currentIntervalMillis >= maxIntervalMillis) {
+      return Math.min(currentIntervalMillis, maxIntervalMillis);
+    }
+    return Math.min(currentIntervalMillis * 2, maxIntervalMillis);
+  }
+}
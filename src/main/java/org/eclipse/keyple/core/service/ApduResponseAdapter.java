@@ -18,6 +18,11 @@
 /**
  * This POJO contains a set of data related to an ISO-7816 APDU response.
  *
+ * <p>The raw response buffer is kept as received and the status word is computed once at build
+ * time. The accessors to be used internally are {@link #getDataOutLength()} and {@link
+ * #copyDataOutTo(byte[], int)}; {@link #getDataOut()} returns a new array at each call and is
+ * kept for the public API.
+ *
  * @since 2.0.0
  */
 final class ApduResponseAdapter implements ApduResponseApi {
@@ -56,6 +61,28 @@ public byte[] getDataOut() {
     return Arrays.copyOfRange(this.apdu, 0, this.apdu.length - 2);
   }
 
+  /**
+   * Gets the length of the data out field (response without the status word).
+   *
+   * @return A positive or zero int.
+   * @since 3.5.0
+   */
+  int getDataOutLength() {
+    return this.apdu.length - 2;
+  }
+
+  /**
+   * Copies the data out field into the provided array.
+   *
+   * @param dest The destination array, large enough to receive {@link #getDataOutLength()} bytes
+   *     from {@code destPos}.
+   * @param destPos The starting position in the destination array.
+   * @since 3.5.0
+   */
+  void copyDataOutTo(byte[] dest, int destPos) {
+    System.arraycopy(this.apdu, 0, dest, destPos, this.apdu.length - 2);
+  }
+
   /**
    * {@inheritDoc}
    *
@@ -0,0 +1,59 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import java.util.concurrent.CompletableFuture;
+import org.eclipse.keypop.card.CardResponseApi;
+import org.eclipse.keypop.card.ChannelControl;
+import org.eclipse.keypop.card.spi.CardRequestSpi;
+
+/**
+ * Asynchronous variant of the reader operations of {@link org.eclipse.keypop.card.ProxyReaderApi}
+ * and {@link org.eclipse.keypop.reader.CardReader}.
+ *
+ * <p>All the readers provided by the service implement this interface. On a remote reader whose
+ * SPI implements {@link org.eclipse.keyple.core.service.spi.AsyncRemoteReaderSpi}, no thread is
+ * blocked during the round trip with the distributed local service. Otherwise, the operation is
+ * executed synchronously by the executor service provided by {@link
+ * org.eclipse.keyple.core.service.spi.ExecutorServiceFactorySpi#getReaderOperationExecutor()}.
+ *
+ * <p>The returned futures are completed exceptionally with the exceptions that the synchronous
+ * operations would have thrown.
+ *
+ * @since 3.5.0
+ */
+public interface AsyncProxyReader {
+
+  /**
+   * Transmits asynchronously a card request (see {@link
+   * org.eclipse.keypop.card.ProxyReaderApi#transmitCardRequest(CardRequestSpi, ChannelControl)}).
+   *
+   * @param cardRequest The card request.
+   * @param channelControl The channel control to apply after the processing of the request.
+   * @return A not null reference.
+   * @throws IllegalArgumentException If a parameter is null.
+   * @throws IllegalStateException If the reader is no longer registered.
+   * @since 3.5.0
+   */
+  CompletableFuture<CardResponseApi> transmitCardRequestAsync(
+      CardRequestSpi cardRequest, ChannelControl channelControl);
+
+  /**
+   * Checks asynchronously the presence of a card in the reader (see {@link
+   * org.eclipse.keypop.reader.CardReader#isCardPresent()}).
+   *
+   * @return A not null reference.
+   * @throws IllegalStateException If the reader is no longer registered.
+   * @since 3.5.0
+   */
+  CompletableFuture<Boolean> isCardPresentAsync();
+}
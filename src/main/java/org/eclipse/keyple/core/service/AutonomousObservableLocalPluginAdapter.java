@@ -90,7 +90,7 @@ public void onReaderDisconnected(Set<String> readerNames) {
       } else {
         // unregister and remove reader
         ((LocalReaderAdapter) reader).unregister();
-        getReadersMap().remove(reader.getName());
+        removeReaderByKey(reader.getName());
         notifyReaders.add(readerName);
         logger.info(
             "[plugin={}] Reader removed from readers list [reader={}]",
@@ -111,7 +111,7 @@ public void onReaderDisconnected(Set<String> readerNames) {
   private void addReader(ReaderSpi readerSpi) {
     LocalReaderAdapter reader = buildLocalReaderAdapter(readerSpi);
     reader.register();
-    getReadersMap().put(reader.getName(), reader);
+    putReader(reader.getName(), reader);
     logger.info(
         "[plugin={}] Reader added to readers list [reader={}]", getName(), readerSpi.getName());
   }
@@ -11,6 +11,7 @@
  ************************************************************************************** */
 package org.eclipse.keyple.core.service;
 
+import java.util.regex.Pattern;
 import org.eclipse.keypop.reader.selection.BasicCardSelector;
 
 /**
@@ -21,6 +22,7 @@
 final class BasicCardSelectorAdapter implements BasicCardSelector, InternalCardSelector {
   private String logicalProtocolName;
   private String powerOnDataRegex;
+  private transient volatile Pattern powerOnDataPattern;
 
   /**
    * {@inheritDoc}
@@ -42,6 +44,21 @@ public String getPowerOnDataRegex() {
     return powerOnDataRegex;
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public Pattern getPowerOnDataPattern() {
+    Pattern pattern = powerOnDataPattern;
+    if (pattern == null && powerOnDataRegex != null) {
+      pattern = Pattern.compile(powerOnDataRegex);
+      powerOnDataPattern = pattern;
+    }
+    return pattern;
+  }
+
   /**
    * {@inheritDoc}
    *
@@ -61,6 +78,7 @@ public BasicCardSelector filterByCardProtocol(String logicalProtocolName) {
   @Override
   public BasicCardSelector filterByPowerOnData(String powerOnDataRegex) {
     this.powerOnDataRegex = powerOnDataRegex;
+    this.powerOnDataPattern = null;
     return this;
   }
 
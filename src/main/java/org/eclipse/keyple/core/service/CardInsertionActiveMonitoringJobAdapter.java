@@ -11,7 +11,7 @@
  ************************************************************************************** */
 package org.eclipse.keyple.core.service;
 
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.Executor;
 import org.eclipse.keypop.reader.CardReader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,17 +26,14 @@
  *
  * @since 2.0.0
  */
-final class CardInsertionActiveMonitoringJobAdapter extends AbstractMonitoringJobAdapter {
+final class CardInsertionActiveMonitoringJobAdapter extends AbstractActiveMonitoringJobAdapter {
 
   private static final Logger logger =
       LoggerFactory.getLogger(CardInsertionActiveMonitoringJobAdapter.class);
 
   private static final String JOB_ID = "INSERTION_ACTIVE";
 
-  private final long sleepDurationMillis;
   private final boolean monitorInsertion;
-  private final CardReader reader;
-  private final AtomicBoolean loop = new AtomicBoolean();
 
   /**
    * Build a monitoring job to detect the card insertion
@@ -44,96 +41,77 @@ final class CardInsertionActiveMonitoringJobAdapter extends AbstractMonitoringJo
    * @param reader reader that will be polled with the method isCardPresent()
    * @param sleepDurationMillis time interval between two presence polls.
    * @param monitorInsertion if true, polls for CARD_INSERTED, else CARD_REMOVED
+   * @param eventExecutor executor used to notify the detected event when polling as scheduled
+   *     ticks.
    * @since 2.0.0
    */
   public CardInsertionActiveMonitoringJobAdapter(
-      ObservableLocalReaderAdapter reader, long sleepDurationMillis, boolean monitorInsertion) {
-    super(reader);
-    this.sleepDurationMillis = sleepDurationMillis;
-    this.reader = reader;
+      ObservableLocalReaderAdapter reader,
+      long sleepDurationMillis,
+      boolean monitorInsertion,
+      Executor eventExecutor) {
+    super(reader, sleepDurationMillis, eventExecutor);
     this.monitorInsertion = monitorInsertion;
   }
 
   /**
-   * Gets the monitoring process.
+   * {@inheritDoc}
    *
-   * @return A not null reference.
-   * @since 2.0.0
+   * @since 3.5.0
+   */
+  @Override
+  String getJobId() {
+    return JOB_ID;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
    */
   @Override
-  Runnable getMonitoringJob(final AbstractObservableStateAdapter monitoringState) {
-    return new Runnable() {
+  String getPollingMethodName() {
+    return "isCardPresent()";
+  }
 
-      /**
-       * Monitoring loop
-       *
-       * <p>Polls for the presence of a card and loops until no card responds. <br>
-       * Triggers a CARD_INSERTED event and exits as soon as a communication with a card is
-       * established.
-       *
-       * <p>Any exceptions are notified to the application using the exception handler.
-       */
-      @Override
-      public void run() {
-        try {
-          if (logger.isTraceEnabled()) {
-            logger.trace(
-                "[fsmJob={}, reader={}] Starting monitoring job process [mode=Polling using 'isCardPresent()']",
-                JOB_ID,
-                reader.getName());
-          }
-          // re-init loop value to true
-          loop.set(true);
-          while (loop.get()) {
-            // polls for CARD_INSERTED
-            if (monitorInsertion && reader.isCardPresent()) {
-              if (logger.isTraceEnabled()) {
-                logger.trace("[fsmJob={}, reader={}] Card present", JOB_ID, reader.getName());
-              }
-              monitoringState.onEvent(ObservableLocalReaderAdapter.InternalEvent.CARD_INSERTED);
-              return;
-            }
-            // polls for CARD_REMOVED
-            if (!monitorInsertion && !reader.isCardPresent()) {
-              if (logger.isTraceEnabled()) {
-                logger.trace("[fsmJob={}, reader={}] Card not present", JOB_ID, reader.getName());
-              }
-              loop.set(false);
-              monitoringState.onEvent(ObservableLocalReaderAdapter.InternalEvent.CARD_REMOVED);
-              return;
-            }
-            // wait a bit
-            try {
-              Thread.sleep(sleepDurationMillis);
-            } catch (InterruptedException ignored) {
-              // Restore interrupted state...
-              Thread.currentThread().interrupt();
-              loop.set(false);
-            }
-          }
-          if (logger.isTraceEnabled()) {
-            logger.trace(
-                "[fsmJob={}, reader={}] Monitoring job polling process stopped",
-                JOB_ID,
-                reader.getName());
-          }
-        } catch (RuntimeException e) {
-          ((ObservableLocalReaderAdapter) reader)
-              .getObservationExceptionHandler()
-              .onReaderObservationError(
-                  ((ObservableLocalReaderAdapter) reader).getPluginName(), reader.getName(), e);
-        }
+  /**
+   * Polls for the presence of a card.
+   *
+   * @return true as soon as a card is present (insertion mode) or absent (removal mode).
+   * @since 3.5.0
+   */
+  @Override
+  boolean isMonitoringCompleted() {
+    // polls for CARD_INSERTED
+    if (monitorInsertion && getReader().isCardPresent()) {
+      if (logger.isTraceEnabled()) {
+        logger.trace("[fsmJob={}, reader={}] Card present", JOB_ID, getReader().getName());
+      }
+      return true;
+    }
+    // polls for CARD_REMOVED
+    if (!monitorInsertion && !getReader().isCardPresent()) {
+      if (logger.isTraceEnabled()) {
+        logger.trace("[fsmJob={}, reader={}] Card not present", JOB_ID, getReader().getName());
       }
-    };
+      return true;
+    }
+    return false;
   }
 
   /**
-   * Terminates the monitoring process.
+   * Triggers a CARD_INSERTED (insertion mode) or CARD_REMOVED (removal mode) event if the expected
+   * change has been detected.
    *
-   * @since 2.0.0
+   * @since 3.5.0
    */
   @Override
-  void stop() {
-    loop.set(false);
+  void onMonitoringEnded(AbstractObservableStateAdapter monitoringState, boolean isCompleted) {
+    if (isCompleted) {
+      monitoringState.onEvent(
+          monitorInsertion
+              ? ObservableLocalReaderAdapter.InternalEvent.CARD_INSERTED
+              : ObservableLocalReaderAdapter.InternalEvent.CARD_REMOVED);
+    }
   }
 }
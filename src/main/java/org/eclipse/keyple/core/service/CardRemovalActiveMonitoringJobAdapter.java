@@ -11,7 +11,7 @@
  ************************************************************************************** */
 package org.eclipse.keyple.core.service;
 
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.Executor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,100 +34,70 @@
  *
  * @since 2.0.0
  */
-final class CardRemovalActiveMonitoringJobAdapter extends AbstractMonitoringJobAdapter {
+final class CardRemovalActiveMonitoringJobAdapter extends AbstractActiveMonitoringJobAdapter {
 
   private static final Logger logger =
       LoggerFactory.getLogger(CardRemovalActiveMonitoringJobAdapter.class);
 
   private static final String JOB_ID = "REMOVAL_ACTIVE";
 
-  private final AtomicBoolean loop = new AtomicBoolean();
-  private final long sleepDurationMillis;
-
   /**
    * Create a job monitor job that ping the card with the method isCardPresentPing()
    *
    * @param reader reference to the reader
    * @param sleepDurationMillis delay between each APDU sending
+   * @param eventExecutor executor used to notify the card removal when polling as scheduled ticks.
    * @since 2.0.0
    */
   public CardRemovalActiveMonitoringJobAdapter(
-      ObservableLocalReaderAdapter reader, long sleepDurationMillis) {
-    super(reader);
-    this.sleepDurationMillis = sleepDurationMillis;
+      ObservableLocalReaderAdapter reader, long sleepDurationMillis, Executor eventExecutor) {
+    super(reader, sleepDurationMillis, eventExecutor);
   }
 
   /**
-   * Gets the monitoring process.
+   * {@inheritDoc}
    *
-   * @return A not null reference.
-   * @since 2.0.0
+   * @since 3.5.0
    */
   @Override
-  Runnable getMonitoringJob(final AbstractObservableStateAdapter monitoringState) {
+  String getJobId() {
+    return JOB_ID;
+  }
 
-    return new Runnable() {
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  String getPollingMethodName() {
+    return "isCardPresentPing()";
+  }
 
-      /**
-       * Monitoring loop
-       *
-       * <p>Sends a neutral command to the card and loops as long as the card responds. <br>
-       * Triggers a CARD_REMOVED event and exits as soon as the communication with the card is lost.
-       *
-       * <p>Any exceptions are notified to the application using the exception handler.
-       */
-      @Override
-      public void run() {
-        try {
-          if (logger.isTraceEnabled()) {
-            logger.trace(
-                "[fsmJob={}, reader={}] Starting monitoring job process [mode=Polling using 'isCardPresentPing()']",
-                JOB_ID,
-                getReader().getName());
-          }
-          // re-init loop value to true
-          loop.set(true);
-          while (loop.get()) {
-            if (!getReader().isCardPresentPing()) {
-              if (logger.isTraceEnabled()) {
-                logger.trace(
-                    "[fsmJob={}, reader={}] Card stop responding", JOB_ID, getReader().getName());
-              }
-              break;
-            }
-            // wait a bit
-            try {
-              Thread.sleep(sleepDurationMillis);
-            } catch (InterruptedException ignored) {
-              // Restore interrupted state...
-              Thread.currentThread().interrupt();
-              loop.set(false);
-            }
-          }
-          if (logger.isTraceEnabled()) {
-            logger.trace(
-                "[fsmJob={}, reader={}] Monitoring job polling process stopped",
-                JOB_ID,
-                getReader().getName());
-          }
-        } catch (RuntimeException e) {
-          getReader()
-              .getObservationExceptionHandler()
-              .onReaderObservationError(getReader().getPluginName(), getReader().getName(), e);
-        } finally {
-          monitoringState.onEvent(ObservableLocalReaderAdapter.InternalEvent.CARD_REMOVED);
-        }
+  /**
+   * Sends a neutral command to the card.
+   *
+   * @return true as soon as the communication with the card is lost.
+   * @since 3.5.0
+   */
+  @Override
+  boolean isMonitoringCompleted() {
+    if (!getReader().isCardPresentPing()) {
+      if (logger.isTraceEnabled()) {
+        logger.trace("[fsmJob={}, reader={}] Card stop responding", JOB_ID, getReader().getName());
       }
-    };
+      return true;
+    }
+    return false;
   }
 
   /**
-   * Terminates the monitoring process.
+   * Triggers a CARD_REMOVED event, whatever the reason why the monitoring ended.
    *
-   * @since 2.0.0
+   * @since 3.5.0
    */
   @Override
-  void stop() {
-    loop.set(false);
+  void onMonitoringEnded(AbstractObservableStateAdapter monitoringState, boolean isCompleted) {
+    monitoringState.onEvent(ObservableLocalReaderAdapter.InternalEvent.CARD_REMOVED);
   }
 }
@@ -18,6 +18,7 @@
 import com.google.gson.JsonSyntaxException;
 import com.google.gson.reflect.TypeToken;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import org.eclipse.keyple.core.util.Assert;
 import org.eclipse.keyple.core.util.json.JsonUtil;
@@ -200,7 +201,8 @@ public int importCardSelectionScenario(String cardSelectionScenario) {
     for (int i = 0; i < cardSelectorsTypes.size(); i++) {
       CardSelector<?> cardSelector;
       try {
-        Class<?> classOfCardSelector = Class.forName(cardSelectorsTypes.get(i));
+        Class<?> classOfCardSelector =
+            ClassResolverAdapter.resolveClass(cardSelectorsTypes.get(i), CardSelector.class);
         cardSelector =
             (CardSelector<?>)
                 JsonUtil.getParser().fromJson(cardSelectorsJsonArray.get(i), classOfCardSelector);
@@ -210,7 +212,9 @@ public int importCardSelectionScenario(String cardSelectionScenario) {
       }
       CardSelectionExtension cardSelection;
       try {
-        Class<?> classOfCardSelection = Class.forName(cardSelectionsTypes.get(i));
+        Class<?> classOfCardSelection =
+            ClassResolverAdapter.resolveClass(
+                cardSelectionsTypes.get(i), CardSelectionExtension.class);
         // Original card selection
         cardSelection =
             (CardSelectionExtension)
@@ -329,6 +333,21 @@ public String exportProcessedCardSelectionScenario() {
   @Override
   public CardSelectionResult importProcessedCardSelectionScenario(
       String processedCardSelectionScenario) {
+    return processCardSelectionResponses(
+        parseProcessedCardSelectionScenario(processedCardSelectionScenario));
+  }
+
+  /**
+   * Deserializes the card selection responses of a processed card selection scenario exported in
+   * JSON format.
+   *
+   * @param processedCardSelectionScenario The processed card selection scenario in JSON format.
+   * @return A not null reference.
+   * @throws IllegalArgumentException If the JSON is null, empty or malformed.
+   * @since 3.5.0
+   */
+  static List<CardSelectionResponseApi> parseProcessedCardSelectionScenario(
+      String processedCardSelectionScenario) {
     List<CardSelectionResponseApi> cardSelectionResponses;
     try {
       cardSelectionResponses =
@@ -347,7 +366,7 @@ public CardSelectionResult importProcessedCardSelectionScenario(
           "Parameter 'processedCardSelectionScenario' is null or empty: "
               + processedCardSelectionScenario);
     }
-    return processCardSelectionResponses(cardSelectionResponses);
+    return cardSelectionResponses;
   }
 
   /**
@@ -360,6 +379,57 @@ public CardSelectionResult importProcessedCardSelectionScenario(
    */
   private CardSelectionResult processCardSelectionResponses(
       List<CardSelectionResponseApi> cardSelectionResponses) {
+    CardSelectionResult cardSelectionsResult =
+        parseCardSelectionResponses(cardSelections, cardSelectionResponses);
+    this.cardSelectionResponses = cardSelectionResponses;
+    return cardSelectionsResult;
+  }
+
+  /**
+   * Creates a snapshot of the card selection scenario currently prepared.
+   *
+   * <p>The snapshot is not affected by the subsequent changes made to the manager.
+   *
+   * @return A not null reference.
+   * @throws IllegalArgumentException If no card selection has been prepared.
+   * @since 3.5.0
+   */
+  CardSelectionScenarioAdapter createCardSelectionScenarioSnapshot() {
+    return new CardSelectionScenarioAdapter(
+        Collections.unmodifiableList(new ArrayList<CardSelector<?>>(cardSelectors)),
+        Collections.unmodifiableList(
+            new ArrayList<CardSelectionRequestSpi>(cardSelectionRequests)),
+        multiSelectionProcessing,
+        channelControl);
+  }
+
+  /**
+   * Gets an unmodifiable copy of the card selection extensions prepared, in the order of the card
+   * selections.
+   *
+   * @return A not null reference.
+   * @since 3.5.0
+   */
+  List<CardSelectionExtensionSpi> getCardSelectionsSnapshot() {
+    return Collections.unmodifiableList(new ArrayList<CardSelectionExtensionSpi>(cardSelections));
+  }
+
+  /**
+   * Analyzes the responses received in return of the execution of a card selection scenario with
+   * the provided card selection extensions and returns the CardSelectionResult.
+   *
+   * <p>This method does not depend on the state of a manager.
+   *
+   * @param cardSelections The card selection extensions, in the order of the card selections.
+   * @param cardSelectionResponses The card selection responses.
+   * @return A not null reference.
+   * @throws IllegalArgumentException If the list is null or empty.
+   * @throws InvalidCardResponseException If a card response cannot be parsed.
+   * @since 3.5.0
+   */
+  static CardSelectionResult parseCardSelectionResponses(
+      List<CardSelectionExtensionSpi> cardSelections,
+      List<CardSelectionResponseApi> cardSelectionResponses) {
 
     Assert.getInstance()
         .isInRange(
@@ -386,7 +456,6 @@ private CardSelectionResult processCardSelectionResponses(
       }
       index++;
     }
-    this.cardSelectionResponses = cardSelectionResponses;
     return cardSelectionsResult;
   }
 }
@@ -0,0 +1,163 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.eclipse.keyple.core.service.spi.DeserializationFilterSpi;
+
+/**
+ * Resolver of the classes and constructors used to deserialize polymorphic JSON data.
+ *
+ * <p>The resolved classes and constructors are cached, so that the class loader is queried only
+ * once per class name. The names of the classes not found are also cached, in a bounded cache
+ * because they come from external data. The {@link DeserializationFilterSpi} possibly set is
+ * applied at each resolution, before the cache lookup. A class is initialized only once it is known
+ * to be a subtype of the expected type, so that external data cannot trigger the static
+ * initialization of arbitrary classes.
+ *
+ * @since 3.5.0
+ */
+final class ClassResolverAdapter {
+
+  private static final int NOT_FOUND_CLASS_NAMES_CACHE_SIZE = 256;
+  private static final Object NO_CONSTRUCTOR = new Object();
+
+  private static final ConcurrentMap<String, Class<?>> classes =
+      new ConcurrentHashMap<String, Class<?>>();
+  private static final Map<String, Boolean> notFoundClassNames =
+      DistributedUtilAdapter.createLruCache(NOT_FOUND_CLASS_NAMES_CACHE_SIZE);
+  private static final ConcurrentMap<ConstructorKey, Object> constructors =
+      new ConcurrentHashMap<ConstructorKey, Object>();
+
+  private static volatile DeserializationFilterSpi deserializationFilter;
+
+  /** Constructor. */
+  private ClassResolverAdapter() {}
+
+  /**
+   * Sets the filter of the classes which may be resolved.
+   *
+   * @param deserializationFilter The filter, or null to allow all classes.
+   * @since 3.5.0
+   */
+  static void setDeserializationFilter(DeserializationFilterSpi deserializationFilter) {
+    ClassResolverAdapter.deserializationFilter = deserializationFilter;
+  }
+
+  /**
+   * Resolves the class having the provided name and being a subtype of the provided type.
+   *
+   * @param className The fully qualified name of the class.
+   * @param expectedType The type that the class must extend or implement.
+   * @param <T> The expected type.
+   * @return A not null reference.
+   * @throws ClassNotFoundException If the class is not found, not allowed by the deserialization
+   *     filter or not a subtype of the expected type.
+   * @since 3.5.0
+   */
+  static <T> Class<? extends T> resolveClass(String className, Class<T> expectedType)
+      throws ClassNotFoundException {
+    DeserializationFilterSpi filter = deserializationFilter;
+    if (filter != null && !filter.isClassAllowed(className)) {
+      throw new ClassNotFoundException(
+          "Class '" + className + "' is not allowed by the deserialization filter");
+    }
+    Class<?> resolvedClass = classes.get(className);
+    boolean isCached = resolvedClass != null;
+    if (!isCached) {
+      if (notFoundClassNames.containsKey(className)) {
+        throw new ClassNotFoundException(className);
+      }
+      try {
+        // The class is not initialized until it is known to be a subtype of the expected type
+        resolvedClass =
+            Class.forName(className, false, ClassResolverAdapter.class.getClassLoader());
+      } catch (ClassNotFoundException e) {
+        notFoundClassNames.put(className, Boolean.TRUE);
+        throw e;
+      }
+    }
+    if (!expectedType.isAssignableFrom(resolvedClass)) {
+      throw new ClassNotFoundException(
+          "Class '" + className + "' is not a subtype of '" + expectedType.getName() + "'");
+    }
+    if (!isCached) {
+      resolvedClass = Class.forName(className, true, resolvedClass.getClassLoader());
+      classes.putIfAbsent(className, resolvedClass);
+    }
+    return resolvedClass.asSubclass(expectedType);
+  }
+
+  /**
+   * Resolves the public constructor of the provided class having the provided parameter types.
+   *
+   * @param resolvedClass The class.
+   * @param parameterTypes The parameter types of the constructor.
+   * @param <T> The type of the class.
+   * @return A not null reference.
+   * @throws NoSuchMethodException If the constructor is not found.
+   * @since 3.5.0
+   */
+  @SuppressWarnings("unchecked")
+  static <T> Constructor<T> resolveConstructor(Class<T> resolvedClass, Class<?>... parameterTypes)
+      throws NoSuchMethodException {
+    ConstructorKey key = new ConstructorKey(resolvedClass, parameterTypes);
+    Object constructor = constructors.get(key);
+    if (constructor == null) {
+      try {
+        constructor = resolvedClass.getConstructor(parameterTypes);
+      } catch (NoSuchMethodException e) {
+        constructor = NO_CONSTRUCTOR;
+      }
+      constructors.putIfAbsent(key, constructor);
+    }
+    if (constructor == NO_CONSTRUCTOR) {
+      throw new NoSuchMethodException(
+          resolvedClass.getName() + ".<init>" + Arrays.toString(parameterTypes));
+    }
+    return (Constructor<T>) constructor;
+  }
+
+  /** Key of the constructors cache. */
+  private static final class ConstructorKey {
+
+    private final Class<?> declaringClass;
+    private final Class<?>[] parameterTypes;
+
+    private ConstructorKey(Class<?> declaringClass, Class<?>[] parameterTypes) {
+      this.declaringClass = declaringClass;
+      this.parameterTypes = parameterTypes;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof ConstructorKey)) {
+        return false;
+      }
+      ConstructorKey that = (ConstructorKey) o;
+      return declaringClass == that.declaringClass
+          && Arrays.equals(parameterTypes, that.parameterTypes);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * declaringClass.hashCode() + Arrays.hashCode(parameterTypes);
+    }
+  }
+}
@@ -0,0 +1,313 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+import org.eclipse.keypop.card.ApduResponseApi;
+import org.eclipse.keypop.card.CardResponseApi;
+import org.eclipse.keypop.card.ChannelControl;
+import org.eclipse.keypop.card.spi.ApduRequestSpi;
+import org.eclipse.keypop.card.spi.CardRequestSpi;
+
+/**
+ * Compact binary codec of the messages of the reader service {@link
+ * DistributedUtilAdapter.ReaderService#TRANSMIT_CARD_REQUEST}, used between a remote reader and a
+ * distributed local service instead of JSON when both sides support it.
+ *
+ * <p>The APDUs are carried as raw bytes and the status words as 16-bit unsigned values. Lengths and
+ * counts are encoded as unsigned variable-length integers (7 bits per byte, least significant group
+ * first).
+ *
+ * <p>Since the distributed layers only exchange strings, an encoded message is transmitted as the
+ * {@link #BINARY_MESSAGE_PREFIX} followed by the unpadded URL-safe Base64 encoding of the binary
+ * data, which contains no character requiring an escape in JSON. A binary message can therefore
+ * never be mistaken for a JSON object.
+ *
+ * <p>Card request: {@code version(1) type(1) flags(1) apduCount(varint)} followed for each APDU by
+ * {@code apduLength(varint) apdu statusWordCount(varint) statusWord(2)... infoLength+1(varint)
+ * info}, an info length of 0 meaning a null info. The flags are {@link #FLAG_CLOSE_AFTER} and
+ * {@link #FLAG_STOP_ON_UNSUCCESSFUL_STATUS_WORD}.
+ *
+ * <p>Card response: {@code version(1) type(1) flags(1) apduCount(varint)} followed for each APDU by
+ * {@code apduLength(varint) apdu}. The flag is {@link #FLAG_LOGICAL_CHANNEL_OPEN}.
+ *
+ * <p>Errors are never binary encoded, they are transmitted using the JSON format.
+ *
+ * @since 3.5.0
+ */
+final class DistributedBinaryCodecAdapter {
+
+  /**
+   * Prefix of the binary encoded messages: {@value}
+   *
+   * @since 3.5.0
+   */
+  static final String BINARY_MESSAGE_PREFIX = "~";
+
+  private static final byte FORMAT_VERSION = 1;
+  private static final byte TYPE_CARD_REQUEST = 1;
+  private static final byte TYPE_CARD_RESPONSE = 2;
+  private static final int FLAG_CLOSE_AFTER = 0x01;
+  private static final int FLAG_STOP_ON_UNSUCCESSFUL_STATUS_WORD = 0x02;
+  private static final int FLAG_LOGICAL_CHANNEL_OPEN = 0x01;
+  private static final int MAX_STATUS_WORD = 0xFFFF;
+
+  /** Constructor. */
+  private DistributedBinaryCodecAdapter() {}
+
+  /**
+   * Indicates whether the provided message is binary encoded.
+   *
+   * @param message The message (may be null).
+   * @return true if the message is binary encoded.
+   * @since 3.5.0
+   */
+  static boolean isBinaryMessage(String message) {
+    return message != null && message.startsWith(BINARY_MESSAGE_PREFIX);
+  }
+
+  /**
+   * Encodes the input data of the service {@link
+   * DistributedUtilAdapter.ReaderService#TRANSMIT_CARD_REQUEST}.
+   *
+   * @param cardRequest The card request.
+   * @param channelControl The channel control.
+   * @return A not empty string.
+   * @throws IllegalArgumentException If a status word is not a 16-bit value.
+   * @since 3.5.0
+   */
+  static String encodeCardRequest(CardRequestSpi cardRequest, ChannelControl channelControl) {
+    List<ApduRequestSpi> apduRequests = cardRequest.getApduRequests();
+    ByteArrayOutputStream out = new ByteArrayOutputStream(64 * (apduRequests.size() + 1));
+    out.write(FORMAT_VERSION);
+    out.write(TYPE_CARD_REQUEST);
+    int flags = 0;
+    if (channelControl == ChannelControl.CLOSE_AFTER) {
+      flags |= FLAG_CLOSE_AFTER;
+    }
+    if (cardRequest.stopOnUnsuccessfulStatusWord()) {
+      flags |= FLAG_STOP_ON_UNSUCCESSFUL_STATUS_WORD;
+    }
+    out.write(flags);
+    writeVarInt(out, apduRequests.size());
+    for (ApduRequestSpi apduRequest : apduRequests) {
+      writeBytes(out, apduRequest.getApdu());
+      Set<Integer> successfulStatusWords = apduRequest.getSuccessfulStatusWords();
+      writeVarInt(out, successfulStatusWords.size());
+      for (Integer statusWord : successfulStatusWords) {
+        if (statusWord < 0 || statusWord > MAX_STATUS_WORD) {
+          throw new IllegalArgumentException("Status word is not a 16-bit value: " + statusWord);
+        }
+        out.write(statusWord >>> 8);
+        out.write(statusWord);
+      }
+      String info = apduRequest.getInfo();
+      if (info == null) {
+        writeVarInt(out, 0);
+      } else {
+        byte[] infoBytes = info.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, infoBytes.length + 1);
+        out.write(infoBytes, 0, infoBytes.length);
+      }
+    }
+    return toMessage(out);
+  }
+
+  /**
+   * Decodes the input data of the service {@link
+   * DistributedUtilAdapter.ReaderService#TRANSMIT_CARD_REQUEST}.
+   *
+   * @param message The binary encoded message.
+   * @return A not null reference.
+   * @throws IllegalArgumentException If the message is malformed.
+   * @since 3.5.0
+   */
+  static CardRequestMessage decodeCardRequest(String message) {
+    ByteBuffer in = fromMessage(message, TYPE_CARD_REQUEST);
+    try {
+      int flags = in.get();
+      int apduCount = readVarInt(in);
+      List<InternalDto.ApduRequest> apduRequests = new ArrayList<>(apduCount);
+      for (int i = 0; i < apduCount; i++) {
+        byte[] apdu = readBytes(in);
+        int statusWordCount = readVarInt(in);
+        if (statusWordCount > in.remaining() / 2) {
+          throw new BufferUnderflowException();
+        }
+        int[] successfulStatusWords = new int[statusWordCount];
+        for (int j = 0; j < statusWordCount; j++) {
+          successfulStatusWords[j] = in.getShort() & MAX_STATUS_WORD;
+        }
+        int infoLength = readVarInt(in);
+        String info = null;
+        if (infoLength > 0) {
+          byte[] infoBytes = new byte[infoLength - 1];
+          in.get(infoBytes);
+          info = new String(infoBytes, StandardCharsets.UTF_8);
+        }
+        apduRequests.add(
+            new InternalDto.ApduRequest(apdu, StatusWordSetAdapter.of(successfulStatusWords), info));
+      }
+      return new CardRequestMessage(
+          new InternalDto.CardRequest(
+              apduRequests, (flags & FLAG_STOP_ON_UNSUCCESSFUL_STATUS_WORD) != 0),
+          (flags & FLAG_CLOSE_AFTER) != 0 ? ChannelControl.CLOSE_AFTER : ChannelControl.KEEP_OPEN);
+    } catch (BufferUnderflowException e) {
+      throw new IllegalArgumentException("Truncated binary card request", e);
+    }
+  }
+
+  /**
+   * Encodes the output data of the service {@link
+   * DistributedUtilAdapter.ReaderService#TRANSMIT_CARD_REQUEST}.
+   *
+   * @param cardResponse The card response.
+   * @return A not empty string.
+   * @since 3.5.0
+   */
+  static String encodeCardResponse(CardResponseApi cardResponse) {
+    List<ApduResponseApi> apduResponses = cardResponse.getApduResponses();
+    ByteArrayOutputStream out = new ByteArrayOutputStream(64 * (apduResponses.size() + 1));
+    out.write(FORMAT_VERSION);
+    out.write(TYPE_CARD_RESPONSE);
+    out.write(cardResponse.isLogicalChannelOpen() ? FLAG_LOGICAL_CHANNEL_OPEN : 0);
+    writeVarInt(out, apduResponses.size());
+    for (ApduResponseApi apduResponse : apduResponses) {
+      writeBytes(out, apduResponse.getApdu());
+    }
+    return toMessage(out);
+  }
+
+  /**
+   * Decodes the output data of the service {@link
+   * DistributedUtilAdapter.ReaderService#TRANSMIT_CARD_REQUEST}.
+   *
+   * @param message The binary encoded message.
+   * @return A not null reference.
+   * @throws IllegalArgumentException If the message is malformed.
+   * @since 3.5.0
+   */
+  static CardResponseAdapter decodeCardResponse(String message) {
+    ByteBuffer in = fromMessage(message, TYPE_CARD_RESPONSE);
+    try {
+      int flags = in.get();
+      int apduCount = readVarInt(in);
+      List<ApduResponseAdapter> apduResponses = new ArrayList<>(apduCount);
+      for (int i = 0; i < apduCount; i++) {
+        byte[] apdu = readBytes(in);
+        if (apdu.length < 2) {
+          throw new IllegalArgumentException("Binary APDU response shorter than a status word");
+        }
+        apduResponses.add(new ApduResponseAdapter(apdu));
+      }
+      return new CardResponseAdapter(apduResponses, (flags & FLAG_LOGICAL_CHANNEL_OPEN) != 0);
+    } catch (BufferUnderflowException e) {
+      throw new IllegalArgumentException("Truncated binary card response", e);
+    }
+  }
+
+  private static String toMessage(ByteArrayOutputStream out) {
+    return BINARY_MESSAGE_PREFIX
+        + Base64.getUrlEncoder().withoutPadding().encodeToString(out.toByteArray());
+  }
+
+  private static ByteBuffer fromMessage(String message, byte expectedType) {
+    if (!isBinaryMessage(message)) {
+      throw new IllegalArgumentException("Not a binary message");
+    }
+    ByteBuffer in =
+        ByteBuffer.wrap(
+            Base64.getUrlDecoder().decode(message.substring(BINARY_MESSAGE_PREFIX.length())));
+    if (in.remaining() < 2 || in.get() != FORMAT_VERSION || in.get() != expectedType) {
+      throw new IllegalArgumentException("Unsupported binary message format or type");
+    }
+    return in;
+  }
+
+  private static void writeBytes(ByteArrayOutputStream out, byte[] bytes) {
+    writeVarInt(out, bytes.length);
+    out.write(bytes, 0, bytes.length);
+  }
+
+  private static byte[] readBytes(ByteBuffer in) {
+    int length = readVarInt(in);
+    if (length > in.remaining()) {
+      throw new IllegalArgumentException("Truncated binary message");
+    }
+    byte[] bytes = new byte[length];
+    in.get(bytes);
+    return bytes;
+  }
+
+  private static void writeVarInt(ByteArrayOutputStream out, int value) {
+    while ((value & ~0x7F) != 0) {
+      out.write((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    out.write(value);
+  }
+
+  private static int readVarInt(ByteBuffer in) {
+    int value = 0;
+    for (int shift = 0; shift < 32; shift += 7) {
+      int b = in.get();
+      value |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        if (value < 0) {
+          break;
+        }
+        return value;
+      }
+    }
+    throw new IllegalArgumentException("Malformed binary length");
+  }
+
+  /**
+   * Decoded input data of the service {@link
+   * DistributedUtilAdapter.ReaderService#TRANSMIT_CARD_REQUEST}.
+   *
+   * @since 3.5.0
+   */
+  static final class CardRequestMessage {
+
+    private final CardRequestSpi cardRequest;
+    private final ChannelControl channelControl;
+
+    private CardRequestMessage(CardRequestSpi cardRequest, ChannelControl channelControl) {
+      this.cardRequest = cardRequest;
+      this.channelControl = channelControl;
+    }
+
+    /**
+     * @return A not null reference.
+     * @since 3.5.0
+     */
+    CardRequestSpi getCardRequest() {
+      return cardRequest;
+    }
+
+    /**
+     * @return A not null reference.
+     * @since 3.5.0
+     */
+    ChannelControl getChannelControl() {
+      return channelControl;
+    }
+  }
+}
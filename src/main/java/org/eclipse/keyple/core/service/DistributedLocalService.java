@@ -11,11 +11,18 @@
  ************************************************************************************** */
 package org.eclipse.keyple.core.service;
 
+import java.util.concurrent.CompletableFuture;
 import org.eclipse.keyple.core.common.KeypleDistributedLocalServiceExtension;
 
 /**
  * Local Service API of the Keyple Distributed Solution.
  *
+ * <p>The requests targeting a reader are serialized per reader: they are processed one after the
+ * other, in their order of arrival, whether they are received synchronously through the local
+ * service API or submitted with {@link #executeLocallyAsync(String, String)}. The requests of
+ * different readers are processed concurrently by the executor service provided by {@link
+ * org.eclipse.keyple.core.service.spi.ExecutorServiceFactorySpi#getReaderOperationExecutor()}.
+ *
  * @since 2.0.0
  */
 public interface DistributedLocalService {
@@ -39,4 +46,30 @@ public interface DistributedLocalService {
    */
   <T extends KeypleDistributedLocalServiceExtension> T getExtension(
       Class<T> distributedLocalServiceExtensionClass);
+
+  /**
+   * Submits a request received from a remote client for asynchronous processing, without blocking
+   * the calling thread (typically an I/O thread of the transport layer).
+   *
+   * <p>This is the asynchronous variant of the {@code executeLocally} method of the local service
+   * API provided to the local service extension.
+   *
+   * @param jsonData The JSON or binary encoded request data.
+   * @param readerName The name of the target reader, or null if the request targets the plugins.
+   * @return A future completed with the response data, which contain the error if the processing
+   *     failed.
+   * @throws IllegalStateException If the target reader is not registered.
+   * @since 3.5.0
+   */
+  CompletableFuture<String> executeLocallyAsync(String jsonData, String readerName);
+
+  /**
+   * Gets the metrics of the queue serializing the requests processed on a reader.
+   *
+   * @param readerName The name of the reader.
+   * @return A not null reference, whose values are all zero if no request has been received for
+   *     the reader since its connection, or if the reader is unknown.
+   * @since 3.5.0
+   */
+  ReaderQueueMetrics getReaderQueueMetrics(String readerName);
 }
@@ -14,11 +14,22 @@
 import static org.eclipse.keyple.core.service.DistributedUtilAdapter.*;
 import static org.eclipse.keyple.core.service.InternalDto.*;
 
+import com.google.gson.Gson;
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.TypeAdapter;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.*;
-import java.util.regex.Pattern;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
 import org.eclipse.keyple.core.common.KeypleDistributedLocalServiceExtension;
 import org.eclipse.keyple.core.distributed.local.LocalServiceApi;
 import org.eclipse.keyple.core.distributed.local.spi.LocalServiceSpi;
@@ -51,6 +62,15 @@
   private final String name;
   private final LocalServiceSpi localServiceSpi;
 
+  private final ConcurrentMap<String, ReaderRequestQueueAdapter> readerRequestQueues =
+      new ConcurrentHashMap<String, ReaderRequestQueueAdapter>();
+
+  /* Parsed card selections, by digest of their JSON content, never modified by the readers */
+  private final Map<String, CardSelections> cardSelectionsCache =
+      createLruCache(CARD_SELECTIONS_CACHE_SIZE);
+  private final Map<String, CardSelectionScenarioAdapter> cardSelectionScenariosCache =
+      createLruCache(CARD_SELECTIONS_CACHE_SIZE);
+
   private List<String> poolPluginNames;
   private boolean isRegistered;
 
@@ -73,7 +93,7 @@
    */
   @Override
   public boolean isReaderContactless(String readerName) {
-    CardReader reader = SmartCardServiceProvider.getService().findReader(Pattern.quote(readerName));
+    CardReader reader = SmartCardServiceProvider.getService().getReader(readerName);
     if (reader == null) {
       throw new IllegalStateException("Reader '" + readerName + "' is not registered");
     }
@@ -93,19 +113,32 @@ public void setPoolPluginNames(String... poolPluginNames) {
   /**
    * {@inheritDoc}
    *
+   * <p>A request targeting a reader is executed by the calling thread if no other request is in
+   * progress on the reader. Otherwise, it is queued behind the requests in progress and the calling
+   * thread waits for its completion.
+   *
    * @since 2.0.0
    */
   @Override
   public String executeLocally(String jsonData, String readerName) {
     if (readerName != null) {
-      if (logger.isDebugEnabled()) {
-        logger.debug(
-            "[localService={}] Processing data on local reader [reader={}, jsonData={}]",
-            name,
-            readerName,
-            jsonData);
+      CompletableFuture<String> output = submitReaderRequest(jsonData, readerName, true);
+      try {
+        return output.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException(
+            "Interrupted while waiting for the processing of a request on reader '"
+                + readerName
+                + "'",
+            e);
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+        throw new IllegalStateException(
+            "Failed to process a request on reader '" + readerName + "'", e.getCause());
       }
-      return new LocalReaderExecutor(jsonData, readerName).execute();
     } else {
       if (logger.isDebugEnabled()) {
         logger.debug(
@@ -115,6 +148,103 @@ public String executeLocally(String jsonData, String readerName) {
     }
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public CompletableFuture<String> executeLocallyAsync(
+      final String jsonData, final String readerName) {
+    if (readerName != null) {
+      return submitReaderRequest(jsonData, readerName, false);
+    }
+    if (logger.isDebugEnabled()) {
+      logger.debug(
+          "[localService={}] Processing data on local plugins [jsonData={}]", name, jsonData);
+    }
+    final LocalPluginExecutor localPluginExecutor = new LocalPluginExecutor(jsonData);
+    return CompletableFuture.supplyAsync(
+        new Supplier<String>() {
+          @Override
+          public String get() {
+            return localPluginExecutor.execute();
+          }
+        },
+        SmartCardServiceAdapter.getInstance()
+            .getExecutorServiceFactory()
+            .getReaderOperationExecutor());
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public ReaderQueueMetrics getReaderQueueMetrics(String readerName) {
+    ReaderRequestQueueAdapter readerRequestQueue = readerRequestQueues.get(readerName);
+    // An empty queue is returned, but not kept, for a reader that has not received any request
+    return readerRequestQueue != null ? readerRequestQueue : new ReaderRequestQueueAdapter();
+  }
+
+  /**
+   * Submits a request to the queue of the target reader.
+   *
+   * @param jsonData The JSON or binary encoded request data.
+   * @param readerName The name of the target reader.
+   * @param isCallerWaiting true if the calling thread waits for the response, in which case the
+   *     request is executed by the calling thread if the queue of the reader is idle.
+   * @return A future completed with the response data.
+   * @throws IllegalStateException If the target reader is not registered.
+   */
+  private CompletableFuture<String> submitReaderRequest(
+      String jsonData, String readerName, boolean isCallerWaiting) {
+    final LocalReaderExecutor localReaderExecutor = new LocalReaderExecutor(jsonData, readerName);
+    ReaderRequestQueueAdapter readerRequestQueue = getReaderRequestQueue(readerName);
+    if (logger.isDebugEnabled()) {
+      logger.debug(
+          "[localService={}] Processing data on local reader [reader={}, queueDepth={}, jsonData={}]",
+          name,
+          readerName,
+          readerRequestQueue.getQueueDepth(),
+          jsonData);
+    }
+    Callable<String> operation =
+        new Callable<String>() {
+          @Override
+          public String call() {
+            return localReaderExecutor.execute();
+          }
+        };
+    return isCallerWaiting
+        ? readerRequestQueue.execute(operation)
+        : readerRequestQueue.submit(operation);
+  }
+
+  /**
+   * Gets the request queue of a reader, creating it if needed.
+   *
+   * <p>The queue is removed when the reader is disconnected or becomes unavailable (see {@link
+   * #onPluginEvent(PluginEvent)} and {@link #onReaderEvent(CardReaderEvent)}), or when the service
+   * is unregistered.
+   *
+   * @param readerName The name of the reader.
+   * @return A not null reference.
+   */
+  private ReaderRequestQueueAdapter getReaderRequestQueue(String readerName) {
+    ReaderRequestQueueAdapter readerRequestQueue = readerRequestQueues.get(readerName);
+    if (readerRequestQueue == null) {
+      readerRequestQueue = new ReaderRequestQueueAdapter();
+      ReaderRequestQueueAdapter existingQueue =
+          readerRequestQueues.putIfAbsent(readerName, readerRequestQueue);
+      if (existingQueue != null) {
+        readerRequestQueue = existingQueue;
+      }
+    }
+    return readerRequestQueue;
+  }
+
   /**
    * {@inheritDoc}
    *
@@ -144,6 +274,25 @@ public <T extends KeypleDistributedLocalServiceExtension> T getExtension(
    */
   @Override
   public void onPluginEvent(PluginEvent pluginEvent) {
+    onPluginEvent(pluginEvent, new EventBody(JsonProperty.PLUGIN_EVENT, pluginEvent));
+  }
+
+  /**
+   * Forwards a plugin event with its JSON data, encoded at most once for all the local services
+   * notified of the same event.
+   *
+   * @param pluginEvent The plugin event.
+   * @param eventBody The JSON data of the event.
+   * @since 3.5.0
+   */
+  void onPluginEvent(PluginEvent pluginEvent, EventBody eventBody) {
+
+    if (pluginEvent.getType() == PluginEvent.Type.READER_DISCONNECTED
+        || pluginEvent.getType() == PluginEvent.Type.UNAVAILABLE) {
+      for (String readerName : pluginEvent.getReaderNames()) {
+        readerRequestQueues.remove(readerName);
+      }
+    }
 
     if (logger.isDebugEnabled()) {
       logger.debug(
@@ -154,11 +303,7 @@ public void onPluginEvent(PluginEvent pluginEvent) {
           pluginEvent.getPluginName());
     }
 
-    JsonObject body = new JsonObject();
-    body.addProperty(JsonProperty.CORE_API_LEVEL.getKey(), CORE_API_LEVEL);
-    body.add(JsonProperty.PLUGIN_EVENT.getKey(), JsonUtil.getParser().toJsonTree(pluginEvent));
-
-    localServiceSpi.onPluginEvent(pluginEvent.getReaderNames().first(), body.toString());
+    localServiceSpi.onPluginEvent(pluginEvent.getReaderNames().first(), eventBody.get());
   }
 
   /**
@@ -168,6 +313,22 @@ public void onPluginEvent(PluginEvent pluginEvent) {
    */
   @Override
   public void onReaderEvent(CardReaderEvent readerEvent) {
+    onReaderEvent(readerEvent, new EventBody(JsonProperty.READER_EVENT, readerEvent));
+  }
+
+  /**
+   * Forwards a reader event with its JSON data, encoded at most once for all the local services
+   * notified of the same event.
+   *
+   * @param readerEvent The reader event.
+   * @param eventBody The JSON data of the event.
+   * @since 3.5.0
+   */
+  void onReaderEvent(CardReaderEvent readerEvent, EventBody eventBody) {
+
+    if (readerEvent.getType() == CardReaderEvent.Type.UNAVAILABLE) {
+      readerRequestQueues.remove(readerEvent.getReaderName());
+    }
 
     if (logger.isDebugEnabled()) {
       logger.debug(
@@ -178,11 +339,39 @@ public void onReaderEvent(CardReaderEvent readerEvent) {
           ((ReaderEventAdapter) readerEvent).getPluginName());
     }
 
-    JsonObject body = new JsonObject();
-    body.addProperty(JsonProperty.CORE_API_LEVEL.getKey(), CORE_API_LEVEL);
-    body.add(JsonProperty.READER_EVENT.getKey(), JsonUtil.getParser().toJsonTree(readerEvent));
+    localServiceSpi.onReaderEvent(readerEvent.getReaderName(), eventBody.get());
+  }
 
-    localServiceSpi.onReaderEvent(readerEvent.getReaderName(), body.toString());
+  /**
+   * Encodes the JSON data of an event in a single pass, without building an intermediate JSON
+   * tree.
+   *
+   * <p>The output is identical to the one of a JSON tree converted to a string: nulls are
+   * serialized according to the parser configuration and no HTML escaping is applied.
+   *
+   * @param eventProperty The property of the event.
+   * @param event The event.
+   * @return A not empty JSON string.
+   */
+  @SuppressWarnings("unchecked")
+  private static String buildEventBody(JsonProperty eventProperty, Object event) {
+    Gson parser = JsonUtil.getParser();
+    StringWriter body = new StringWriter();
+    try {
+      JsonWriter writer = new JsonWriter(body);
+      writer.setSerializeNulls(parser.serializeNulls());
+      writer.beginObject();
+      writer.name(JsonProperty.CORE_API_LEVEL.getKey()).value(CORE_API_LEVEL);
+      writer.name(eventProperty.getKey());
+      // The type adapter is used directly since Gson.toJson() would enforce its HTML escaping
+      ((TypeAdapter<Object>) parser.getAdapter(event.getClass())).write(writer, event);
+      writer.endObject();
+      writer.flush();
+    } catch (IOException e) {
+      // Cannot occur when writing to a StringWriter.
+      throw new IllegalStateException("Failed to encode the event JSON data", e);
+    }
+    return body.toString();
   }
 
   /**
@@ -216,6 +405,7 @@ void unregister() {
         }
       }
     }
+    readerRequestQueues.clear();
     isRegistered = false;
   }
 
@@ -231,53 +421,118 @@ private void checkStatus() {
     }
   }
 
+  /**
+   * JSON data of a plugin or reader event to forward, encoded on first use.
+   *
+   * <p>The JSON data does not depend on the local service, so a single instance is created per
+   * notification of an event and shared by all the local services notified of it.
+   *
+   * @since 3.5.0
+   */
+  static final class EventBody {
+
+    private final JsonProperty eventProperty;
+    private final Object event;
+    private String body;
+
+    /**
+     * Constructor.
+     *
+     * @param eventProperty The property of the event ({@link JsonProperty#PLUGIN_EVENT} or {@link
+     *     JsonProperty#READER_EVENT}).
+     * @param event The event.
+     * @since 3.5.0
+     */
+    EventBody(JsonProperty eventProperty, Object event) {
+      this.eventProperty = eventProperty;
+      this.event = event;
+    }
+
+    /**
+     * Gets the JSON data of the event, encoding it on the first call.
+     *
+     * @return A not empty JSON string.
+     * @since 3.5.0
+     */
+    String get() {
+      if (body == null) {
+        body = buildEventBody(eventProperty, event);
+      }
+      return body;
+    }
+  }
+
   /** Inner class used to execute a service on a specific local reader. */
   private final class LocalReaderExecutor {
 
     private final AbstractReaderAdapter reader;
+    private final String binaryInput;
     private final JsonObject input;
-    private final JsonObject output;
     private final int inputCoreApiLevel;
+    private final boolean isBinaryOutputAccepted;
+    private Object result;
+    private String cardSelectionsDigest;
 
     /**
      * Constructor.
      *
-     * @param jsonData The JSON service input data.
+     * @param jsonData The JSON or binary encoded service input data.
      * @param readerName The name of the target reader.
      */
     private LocalReaderExecutor(String jsonData, String readerName) {
 
-      reader =
-          (AbstractReaderAdapter)
-              SmartCardServiceProvider.getService().findReader(Pattern.quote(readerName));
+      reader = (AbstractReaderAdapter) SmartCardServiceProvider.getService().getReader(readerName);
       if (reader == null) {
         throw new IllegalStateException("Reader '" + readerName + "' is not registered");
       }
+      if (DistributedBinaryCodecAdapter.isBinaryMessage(jsonData)) {
+        binaryInput = jsonData;
+        input = null;
+        inputCoreApiLevel = CORE_API_LEVEL;
+        isBinaryOutputAccepted = true;
+        return;
+      }
+      binaryInput = null;
       input = JsonUtil.getParser().fromJson(jsonData, JsonObject.class);
-      output = new JsonObject();
       if (input.has(JsonProperty.CORE_API_LEVEL.getKey())) {
         inputCoreApiLevel = input.get(JsonProperty.CORE_API_LEVEL.getKey()).getAsInt();
       } else {
         inputCoreApiLevel = 1;
       }
+      isBinaryOutputAccepted =
+          inputCoreApiLevel == CORE_API_LEVEL
+              && input.has(JsonProperty.BINARY_ENCODING.getKey())
+              && input.get(JsonProperty.BINARY_ENCODING.getKey()).getAsBoolean()
+              && SmartCardServiceAdapter.getInstance().isDistributedBinaryEncodingEnabled();
     }
 
     /**
      * The main method.
      *
-     * @return A not null JSON string which can eventually contain an exception.
+     * <p>The result of the service {@link ReaderService#TRANSMIT_CARD_REQUEST} is binary encoded
+     * if the input data are binary encoded or offer the binary encoding. Errors are always JSON
+     * encoded.
+     *
+     * @return A not null JSON or binary encoded string which can eventually contain an exception.
      */
     private String execute() {
 
-      output.addProperty(JsonProperty.CORE_API_LEVEL.getKey(), inputCoreApiLevel);
-      output.add(JsonProperty.SERVICE.getKey(), input.get(JsonProperty.SERVICE.getKey()));
       try {
         checkStatus();
+        if (binaryInput != null) {
+          DistributedBinaryCodecAdapter.CardRequestMessage message =
+              DistributedBinaryCodecAdapter.decodeCardRequest(binaryInput);
+          result = reader.transmitCardRequest(message.getCardRequest(), message.getChannelControl());
+          return DistributedBinaryCodecAdapter.encodeCardResponse((CardResponseApi) result);
+        }
         ReaderService service =
             ReaderService.valueOf(input.get(JsonProperty.SERVICE.getKey()).getAsString());
         switch (service) {
           case TRANSMIT_CARD_REQUEST:
             transmitCardRequest();
+            if (isBinaryOutputAccepted) {
+              return DistributedBinaryCodecAdapter.encodeCardResponse((CardResponseApi) result);
+            }
             break;
           case TRANSMIT_CARD_SELECTION_REQUESTS:
             transmitCardSelectionRequests();
@@ -303,15 +558,79 @@ private String execute() {
           case RELEASE_CHANNEL:
             releaseChannel();
             break;
+          case EXECUTE_BATCH:
+            executeBatch();
+            break;
           default:
             throw new IllegalArgumentException("Unsupported reader service: " + service.name());
         }
       } catch (Exception e) {
-        output.add(JsonProperty.ERROR.getKey(), JsonUtil.getParser().toJsonTree(new BodyError(e)));
+        return buildOutput(null, e);
+      }
+      try {
+        return buildOutput(result, null);
+      } catch (RuntimeException e) {
+        return buildOutput(null, e);
+      }
+    }
+
+    /**
+     * Encodes the output JSON data in a single pass, without building an intermediate JSON tree.
+     *
+     * @param result The result of the service, or null if none.
+     * @param error The error which occurred, or null if none.
+     * @return A not empty JSON string.
+     */
+    private String buildOutput(Object result, Exception error) {
+      Gson parser = JsonUtil.getParser();
+      StringWriter output = new StringWriter();
+      try {
+        JsonWriter writer = parser.newJsonWriter(output);
+        writer.beginObject();
+        writer.name(JsonProperty.CORE_API_LEVEL.getKey()).value(inputCoreApiLevel);
+        writer.name(JsonProperty.SERVICE.getKey());
+        if (input != null) {
+          parser.toJson(input.get(JsonProperty.SERVICE.getKey()), writer);
+        } else {
+          writer.value(ReaderService.TRANSMIT_CARD_REQUEST.name());
+        }
+        if (isBatchService()) {
+          // Advertised before any error, so that the remote reader can read it in a single pass.
+          writer.name(JsonProperty.BATCH_SUPPORTED.getKey()).value(true);
+        }
+        if (result != null) {
+          writer.name(JsonProperty.RESULT.getKey());
+          parser.toJson(result, result.getClass(), writer);
+        }
+        if (cardSelectionsDigest != null && error == null) {
+          writer.name(JsonProperty.CARD_SELECTIONS_DIGEST.getKey()).value(cardSelectionsDigest);
+        }
+        if (error != null) {
+          writer.name(JsonProperty.ERROR.getKey());
+          parser.toJson(new BodyError(error), BodyError.class, writer);
+        }
+        writer.endObject();
+        writer.flush();
+      } catch (IOException e) {
+        // Cannot occur when writing to a StringWriter.
+        throw new IllegalStateException("Failed to encode the output JSON data", e);
       }
       return output.toString();
     }
 
+    /**
+     * Indicates if the input data are those of the service {@link ReaderService#EXECUTE_BATCH},
+     * whose outputs advertise the support of this service, even in case of error.
+     *
+     * @return true if the service is the batch service.
+     */
+    private boolean isBatchService() {
+      JsonElement service = input != null ? input.get(JsonProperty.SERVICE.getKey()) : null;
+      return service != null
+          && service.isJsonPrimitive()
+          && ReaderService.EXECUTE_BATCH.name().equals(service.getAsString());
+    }
+
     /**
      * Service {@link ReaderService#TRANSMIT_CARD_REQUEST}.
      *
@@ -331,15 +650,13 @@ private void transmitCardRequest()
 
       CardRequestSpi cardRequest =
           JsonUtil.getParser()
-              .fromJson(
-                  params.getAsJsonObject(JsonProperty.CARD_REQUEST.getKey()).toString(),
-                  CardRequest.class);
+              .fromJson(params.get(JsonProperty.CARD_REQUEST.getKey()), CardRequest.class);
 
       // Execute the service on the reader
       CardResponseApi cardResponse = reader.transmitCardRequest(cardRequest, channelControl);
 
       // Build result
-      output.add(JsonProperty.RESULT.getKey(), JsonUtil.getParser().toJsonTree(cardResponse));
+      result = cardResponse;
     }
 
     /**
@@ -361,6 +678,53 @@ private void transmitCardSelectionRequests()
       ChannelControl channelControl =
           ChannelControl.valueOf(params.get(JsonProperty.CHANNEL_CONTROL.getKey()).getAsString());
 
+      // Card selectors and card selection requests, parsed or retrieved from the cache
+      CardSelections cardSelections;
+      if (params.has(JsonProperty.CARD_SELECTORS.getKey())) {
+        JsonArray content = new JsonArray();
+        content.add(params.get(JsonProperty.CARD_SELECTORS_TYPES.getKey()));
+        content.add(params.get(JsonProperty.CARD_SELECTORS.getKey()));
+        content.add(params.get(JsonProperty.CARD_SELECTION_REQUESTS.getKey()));
+        String digest = computeDigest(content.toString());
+        cardSelections = cardSelectionsCache.get(digest);
+        if (cardSelections == null) {
+          cardSelections = parseCardSelections(params);
+          cardSelectionsCache.put(digest, cardSelections);
+        }
+        cardSelectionsDigest = digest;
+      } else {
+        // Only the digest returned by a previous request is provided.
+        String digest = params.get(JsonProperty.CARD_SELECTIONS_DIGEST.getKey()).getAsString();
+        cardSelections = cardSelectionsCache.get(digest);
+        if (cardSelections == null) {
+          // No longer cached: no result is returned so that the full content is sent again.
+          return;
+        }
+        cardSelectionsDigest = digest;
+      }
+
+      // Execute the service on the reader
+      List<CardSelectionResponseApi> cardSelectionResponses =
+          reader.transmitCardSelectionRequests(
+              cardSelections.cardSelectors,
+              cardSelections.cardSelectionRequests,
+              multiSelectionProcessing,
+              channelControl);
+
+      // Build result
+      result = cardSelectionResponses;
+    }
+
+    /**
+     * Parses the card selectors and the card selection requests of the service {@link
+     * ReaderService#TRANSMIT_CARD_SELECTION_REQUESTS}.
+     *
+     * @param params The parameters of the service.
+     * @return A not null reference.
+     * @throws IllegalArgumentException If the type of a card selector is not found.
+     */
+    private CardSelections parseCardSelections(JsonObject params) {
+
       // Card selectors
       List<String> cardSelectorsTypes =
           JsonUtil.getParser()
@@ -375,7 +739,8 @@ private void transmitCardSelectionRequests()
       for (int i = 0; i < cardSelectorsTypes.size(); i++) {
         CardSelector<?> cardSelector;
         try {
-          Class<?> classOfCardSelector = Class.forName(cardSelectorsTypes.get(i));
+          Class<?> classOfCardSelector =
+              ClassResolverAdapter.resolveClass(cardSelectorsTypes.get(i), CardSelector.class);
           cardSelector =
               (CardSelector<?>)
                   JsonUtil.getParser().fromJson(cardSelectorsJsonArray.get(i), classOfCardSelector);
@@ -389,17 +754,10 @@ private void transmitCardSelectionRequests()
       List<CardSelectionRequestSpi> cardSelectionRequests =
           JsonUtil.getParser()
               .fromJson(
-                  params.getAsJsonArray(JsonProperty.CARD_SELECTION_REQUESTS.getKey()).toString(),
+                  params.get(JsonProperty.CARD_SELECTION_REQUESTS.getKey()),
                   new TypeToken<ArrayList<CardSelectionRequest>>() {}.getType());
 
-      // Execute the service on the reader
-      List<CardSelectionResponseApi> cardSelectionResponses =
-          reader.transmitCardSelectionRequests(
-              cardSelectors, cardSelectionRequests, multiSelectionProcessing, channelControl);
-
-      // Build result
-      output.add(
-          JsonProperty.RESULT.getKey(), JsonUtil.getParser().toJsonTree(cardSelectionResponses));
+      return new CardSelections(cardSelectors, cardSelectionRequests);
     }
 
     /** Service {@link ReaderService#SCHEDULE_CARD_SELECTION_SCENARIO}. */
@@ -408,11 +766,16 @@ private void scheduleCardSelectionScenario() {
       // Extract parameters from the message
       JsonObject params = input.getAsJsonObject(JsonProperty.PARAMETERS.getKey());
 
-      CardSelectionScenarioAdapter cardSelectionScenario =
-          JsonUtil.getParser()
-              .fromJson(
-                  params.get(JsonProperty.CARD_SELECTION_SCENARIO.getKey()),
-                  CardSelectionScenarioAdapter.class);
+      JsonElement cardSelectionScenarioJson =
+          params.get(JsonProperty.CARD_SELECTION_SCENARIO.getKey());
+      String digest = computeDigest(cardSelectionScenarioJson.toString());
+      CardSelectionScenarioAdapter cardSelectionScenario = cardSelectionScenariosCache.get(digest);
+      if (cardSelectionScenario == null) {
+        cardSelectionScenario =
+            JsonUtil.getParser()
+                .fromJson(cardSelectionScenarioJson, CardSelectionScenarioAdapter.class);
+        cardSelectionScenariosCache.put(digest, cardSelectionScenario);
+      }
 
       ObservableCardReader.NotificationMode notificationMode =
           ObservableCardReader.NotificationMode.valueOf(
@@ -437,7 +800,7 @@ private void isCardPresent() {
       boolean isCardPresent = reader.isCardPresent();
 
       // Build result
-      output.addProperty(JsonProperty.RESULT.getKey(), isCardPresent);
+      result = isCardPresent;
     }
 
     /** Service {@link ReaderService#IS_CONTACTLESS}. */
@@ -447,7 +810,7 @@ private void isContactless() {
       boolean isContactless = reader.isContactless();
 
       // Build result
-      output.addProperty(JsonProperty.RESULT.getKey(), isContactless);
+      result = isContactless;
     }
 
     /** Service {@link ReaderService#START_CARD_DETECTION}. */
@@ -490,6 +853,66 @@ private void releaseChannel() throws ReaderBrokenCommunicationException {
       // Execute the service on the reader
       reader.releaseChannel();
     }
+
+    /**
+     * Service {@link ReaderService#EXECUTE_BATCH}.
+     *
+     * @throws CardBrokenCommunicationException If a card communication error occurs.
+     * @throws ReaderBrokenCommunicationException If a reader communication error occurs.
+     */
+    private void executeBatch()
+        throws CardBrokenCommunicationException,
+            ReaderBrokenCommunicationException,
+            UnexpectedStatusWordException {
+
+      // Extract parameters from the message
+      JsonObject params = input.getAsJsonObject(JsonProperty.PARAMETERS.getKey());
+      JsonArray stepsJsonArray = params.getAsJsonArray(JsonProperty.BATCH_STEPS.getKey());
+
+      List<ReaderBatchAdapter.Step> steps = new ArrayList<>(stepsJsonArray.size());
+      for (JsonElement stepJson : stepsJsonArray) {
+        JsonObject stepJsonObject = stepJson.getAsJsonObject();
+        ReaderService operation =
+            ReaderService.valueOf(stepJsonObject.get(JsonProperty.SERVICE.getKey()).getAsString());
+        boolean stopIfUnsuccessful =
+            stepJsonObject.has(JsonProperty.STOP_IF_UNSUCCESSFUL.getKey())
+                && stepJsonObject.get(JsonProperty.STOP_IF_UNSUCCESSFUL.getKey()).getAsBoolean();
+        CardRequestSpi cardRequest = null;
+        ChannelControl channelControl = null;
+        if (operation == ReaderService.TRANSMIT_CARD_REQUEST) {
+          cardRequest =
+              JsonUtil.getParser()
+                  .fromJson(
+                      stepJsonObject.get(JsonProperty.CARD_REQUEST.getKey()), CardRequest.class);
+          channelControl =
+              ChannelControl.valueOf(
+                  stepJsonObject.get(JsonProperty.CHANNEL_CONTROL.getKey()).getAsString());
+        }
+        steps.add(
+            new ReaderBatchAdapter.Step(
+                operation, cardRequest, channelControl, stopIfUnsuccessful));
+      }
+
+      // Execute the service on the reader
+      result = ReaderBatchAdapter.executeSequentially(reader, steps);
+    }
+  }
+
+  /**
+   * Parsed card selectors and card selection requests of the service {@link
+   * ReaderService#TRANSMIT_CARD_SELECTION_REQUESTS}, shared by all the requests having the same
+   * content.
+   */
+  private static final class CardSelections {
+
+    private final List<CardSelector<?>> cardSelectors;
+    private final List<CardSelectionRequestSpi> cardSelectionRequests;
+
+    private CardSelections(
+        List<CardSelector<?>> cardSelectors, List<CardSelectionRequestSpi> cardSelectionRequests) {
+      this.cardSelectors = cardSelectors;
+      this.cardSelectionRequests = cardSelectionRequests;
+    }
   }
 
   /** Inner class used to execute a service on local plugins. */
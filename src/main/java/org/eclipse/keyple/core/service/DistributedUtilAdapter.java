@@ -11,11 +11,27 @@
  ************************************************************************************** */
 package org.eclipse.keyple.core.service;
 
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import java.io.StringReader;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import org.eclipse.keyple.core.distributed.remote.spi.AbstractRemotePluginSpi;
 import org.eclipse.keyple.core.distributed.remote.spi.RemoteReaderSpi;
+import org.eclipse.keyple.core.service.spi.AsyncRemoteReaderSpi;
 import org.eclipse.keyple.core.service.spi.PluginObserverSpi;
+import org.eclipse.keyple.core.util.Assert;
 import org.eclipse.keyple.core.util.json.BodyError;
 import org.eclipse.keyple.core.util.json.JsonUtil;
 import org.eclipse.keypop.card.CardBrokenCommunicationException;
@@ -42,6 +58,13 @@ final class DistributedUtilAdapter {
    */
   static final int CORE_API_LEVEL = 2;
 
+  /**
+   * Maximum number of card selections kept in the caches of the distributed components: {@value}
+   *
+   * @since 3.5.0
+   */
+  static final int CARD_SELECTIONS_CACHE_SIZE = 64;
+
   /** Constructor. */
   private DistributedUtilAdapter() {}
 
@@ -105,6 +128,196 @@ static JsonObject executeReaderServiceRemotely(
     return getJsonObject(outputJson);
   }
 
+  /**
+   * Executes remotely the provided JSON input data of a specific reader service and decodes the
+   * result contained in the JSON output data in a single pass, without building an intermediate
+   * JSON tree. Throws the embedded exception if the output contains an error.
+   *
+   * <p>This method is intended for the client Core API levels using the {@link
+   * JsonProperty#RESULT} key, i.e. 1 and above.
+   *
+   * @param input The JSON input data to process.
+   * @param resultType The type of the expected result.
+   * @param remoteReaderSpi The SPI in charge of carrying out the treatment.
+   * @param readerName The name of the remote reader.
+   * @param logger The logger to use for logging.
+   * @param <T> The type of the expected result.
+   * @return Null if the output does not contain any result.
+   * @throws IllegalArgumentException If the returned data are null or empty.
+   * @throws Exception The embedded exception if exists.
+   * @since 3.5.0
+   */
+  static <T> T executeReaderServiceRemotely(
+      String input,
+      Type resultType,
+      RemoteReaderSpi remoteReaderSpi,
+      String readerName,
+      Logger logger)
+      throws Exception { // NOSONAR
+    return decodeReaderServiceOutput(
+        executeReaderServiceRemotely(input, remoteReaderSpi, readerName, logger), resultType);
+  }
+
+  /**
+   * Executes remotely the provided input data of a specific reader service and returns the output
+   * data as is, whatever their format.
+   *
+   * @param input The input data to process.
+   * @param remoteReaderSpi The SPI in charge of carrying out the treatment.
+   * @param readerName The name of the remote reader.
+   * @param logger The logger to use for logging.
+   * @return A not empty string.
+   * @throws IllegalArgumentException If the returned data are null or empty.
+   * @since 3.5.0
+   */
+  static String executeReaderServiceRemotely(
+      String input, RemoteReaderSpi remoteReaderSpi, String readerName, Logger logger) {
+
+    if (logger.isDebugEnabled()) {
+      logger.debug("[reader={}] Send [jsonData={}]", readerName, input);
+    }
+
+    String output = remoteReaderSpi.executeRemotely(input);
+
+    if (logger.isDebugEnabled()) {
+      logger.debug("[reader={}] Receive [jsonData={}]", readerName, output);
+    }
+
+    Assert.getInstance().notEmpty(output, "output");
+    return output;
+  }
+
+  /**
+   * Executes remotely and asynchronously the provided input data of a specific reader service and
+   * returns a future completed with the output data as is, whatever their format.
+   *
+   * @param input The input data to process.
+   * @param asyncRemoteReaderSpi The SPI in charge of carrying out the treatment.
+   * @param readerName The name of the remote reader.
+   * @param logger The logger to use for logging.
+   * @return A future completed with a not empty string, or completed exceptionally with an {@link
+   *     IllegalArgumentException} if the returned data are null or empty.
+   * @since 3.5.0
+   */
+  static CompletableFuture<String> executeReaderServiceRemotelyAsync(
+      String input,
+      AsyncRemoteReaderSpi asyncRemoteReaderSpi,
+      final String readerName,
+      final Logger logger) {
+
+    if (logger.isDebugEnabled()) {
+      logger.debug("[reader={}] Send [jsonData={}]", readerName, input);
+    }
+
+    return asyncRemoteReaderSpi
+        .executeRemotelyAsync(input)
+        .thenApply(
+            new Function<String, String>() {
+              @Override
+              public String apply(String output) {
+                if (logger.isDebugEnabled()) {
+                  logger.debug("[reader={}] Receive [jsonData={}]", readerName, output);
+                }
+                Assert.getInstance().notEmpty(output, "output");
+                return output;
+              }
+            });
+  }
+
+  /**
+   * Decodes the result contained in the provided JSON output data of a reader service in a single
+   * pass, without building an intermediate JSON tree. Throws the embedded exception if the output
+   * contains an error.
+   *
+   * @param outputJson The JSON output data.
+   * @param resultType The type of the expected result.
+   * @param <T> The type of the expected result.
+   * @return Null if the output does not contain any result.
+   * @throws Exception The embedded exception if exists.
+   * @since 3.5.0
+   */
+  static <T> T decodeReaderServiceOutput(String outputJson, Type resultType)
+      throws Exception { // NOSONAR
+    return decodeReaderServiceOutput(outputJson, resultType, null);
+  }
+
+  /**
+   * Decodes the result contained in the provided JSON output data of a reader service in a single
+   * pass, as {@link #decodeReaderServiceOutput(String, Type)}, and collects the other top-level
+   * properties of the output.
+   *
+   * @param outputJson The JSON output data.
+   * @param resultType The type of the expected result.
+   * @param otherProperties The object collecting the top-level properties other than the result
+   *     and the error (optional).
+   * @param <T> The type of the expected result.
+   * @return Null if the output does not contain any result.
+   * @throws Exception The embedded exception if exists.
+   * @since 3.5.0
+   */
+  static <T> T decodeReaderServiceOutput(
+      String outputJson, Type resultType, JsonObject otherProperties) throws Exception { // NOSONAR
+
+    Gson parser = JsonUtil.getParser();
+    JsonReader reader = parser.newJsonReader(new StringReader(outputJson));
+    T result = null;
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String key = reader.nextName();
+      if (JsonProperty.RESULT.getKey().equals(key)) {
+        result = parser.fromJson(reader, resultType);
+      } else if (JsonProperty.ERROR.getKey().equals(key) || JsonProperty.ERROR.name().equals(key)) {
+        JsonObject output = new JsonObject();
+        output.add(key, parser.<JsonElement>fromJson(reader, JsonElement.class));
+        checkError(output, outputJson);
+      } else if (otherProperties != null) {
+        otherProperties.add(key, parser.<JsonElement>fromJson(reader, JsonElement.class));
+      } else {
+        reader.skipValue();
+      }
+    }
+    reader.endObject();
+    return result;
+  }
+
+  /**
+   * Computes the digest identifying a JSON content (SHA-256, encoded in unpadded URL-safe Base64).
+   *
+   * @param content The content.
+   * @return A not empty string.
+   * @since 3.5.0
+   */
+  static String computeDigest(String content) {
+    try {
+      return Base64.getUrlEncoder()
+          .withoutPadding()
+          .encodeToString(
+              MessageDigest.getInstance("SHA-256")
+                  .digest(content.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      // Cannot occur, SHA-256 is supported by every Java platform.
+      throw new IllegalStateException("SHA-256 algorithm not supported", e);
+    }
+  }
+
+  /**
+   * Creates a thread-safe cache keeping the most recently used entries.
+   *
+   * @param maxSize The maximum number of entries.
+   * @param <V> The type of the cached values.
+   * @return A new not null reference.
+   * @since 3.5.0
+   */
+  static <V> Map<String, V> createLruCache(final int maxSize) {
+    return Collections.synchronizedMap(
+        new LinkedHashMap<String, V>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+            return size() > maxSize;
+          }
+        });
+  }
+
   /**
    * Parses the provided JSON output data, checks if the JSON contains an error and throws the
    * embedded exception if exists.
@@ -119,6 +332,19 @@ private static JsonObject getJsonObject(String outputJson) throws Exception { //
       return null;
     }
     JsonObject output = JsonUtil.getParser().fromJson(outputJson, JsonObject.class);
+    checkError(output, outputJson);
+    return output;
+  }
+
+  /**
+   * Checks if the provided JSON output data contains an error and throws the embedded exception if
+   * exists.
+   *
+   * @param output The JSON output data.
+   * @param outputJson The original JSON string, for error reporting.
+   * @throws Exception The embedded exception if exists.
+   */
+  private static void checkError(JsonObject output, String outputJson) throws Exception { // NOSONAR
     if (output.has(JsonProperty.ERROR.name())) { // Legacy mode
       Exception exception = null;
       try {
@@ -163,11 +389,10 @@ private static JsonObject getJsonObject(String outputJson) throws Exception { //
         }
       } else {
         // Standard error.
-        BodyError body = JsonUtil.getParser().fromJson(error.toString(), BodyError.class);
+        BodyError body = JsonUtil.getParser().fromJson(error, BodyError.class);
         throw body.getException();
       }
     }
-    return output;
   }
 
   /**
@@ -194,6 +419,21 @@ enum JsonProperty {
      */
     CORE_API_LEVEL("coreApiLevel"),
 
+    /**
+     * @since 3.5.0
+     */
+    BINARY_ENCODING("binaryEncoding"),
+
+    /**
+     * @since 3.5.0
+     */
+    BATCH_STEPS("batchSteps"),
+
+    /**
+     * @since 3.5.0
+     */
+    BATCH_SUPPORTED("batchSupported"),
+
     /**
      * @since 2.0.0
      */
@@ -219,6 +459,11 @@ enum JsonProperty {
      */
     CARD_SELECTION_SCENARIO("cardSelectionScenario"),
 
+    /**
+     * @since 3.5.0
+     */
+    CARD_SELECTIONS_DIGEST("cardSelectionsDigest"),
+
     /**
      * @since 2.0.0
      */
@@ -297,7 +542,12 @@ enum JsonProperty {
     /**
      * @since 2.0.0
      */
-    SERVICE("service");
+    SERVICE("service"),
+
+    /**
+     * @since 3.5.0
+     */
+    STOP_IF_UNSUCCESSFUL("stopIfUnsuccessful");
 
     private final String key;
 
@@ -443,6 +693,13 @@ enum ReaderService {
      *
      * @since 2.0.0
      */
-    RELEASE_CHANNEL
+    RELEASE_CHANNEL,
+
+    /**
+     * Refers to {@link ReaderBatch#execute()}
+     *
+     * @since 3.5.0
+     */
+    EXECUTE_BATCH
   }
 }
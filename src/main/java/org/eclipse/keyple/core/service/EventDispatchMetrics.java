@@ -0,0 +1,59 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+/**
+ * Metrics of the queue of the events waiting to be delivered to the observers of an observable
+ * remote plugin or reader (see {@link SmartCardService#getRemoteEventDispatchMetrics(String,
+ * String)}).
+ *
+ * <p>The values are read live and are not guaranteed to be consistent with each other.
+ *
+ * @since 3.5.0
+ */
+public interface EventDispatchMetrics {
+
+  /**
+   * Gets the number of events waiting to be delivered.
+   *
+   * @return A positive int.
+   * @since 3.5.0
+   */
+  int getQueueDepth();
+
+  /**
+   * Gets the number of events delivered to the observers since the registration of the plugin or
+   * reader.
+   *
+   * @return A positive long.
+   * @since 3.5.0
+   */
+  long getDeliveredEventCount();
+
+  /**
+   * Gets the number of events dropped because the queue was full (see {@link
+   * EventOverflowPolicy#DROP_OLDEST}) or because the plugin or reader was unregistered.
+   *
+   * @return A positive long.
+   * @since 3.5.0
+   */
+  long getDroppedEventCount();
+
+  /**
+   * Gets the number of events removed by pairs because the queue was full (see {@link
+   * EventOverflowPolicy#COALESCE}).
+   *
+   * @return A positive long.
+   * @since 3.5.0
+   */
+  long getCoalescedEventCount();
+}
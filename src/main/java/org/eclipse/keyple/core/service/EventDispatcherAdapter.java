@@ -0,0 +1,343 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Dispatcher of the events of an observable remote plugin or reader to its observers.
+ *
+ * <p>The events are queued in a bounded queue and delivered one after the other, in their order of
+ * notification, by a single task submitted to the event notification executor service, so that
+ * each observer receives the events in order and a dispatcher never uses more than one thread at
+ * a time. Each event is delivered to the observers in turn: a slow observer delays the delivery to
+ * the other observers of the same owner. When the queue is full, the {@link EventOverflowPolicy}
+ * provided at construction is applied.
+ *
+ * @param <O> The type of the observers.
+ * @param <E> The type of the events.
+ * @since 3.5.0
+ */
+final class EventDispatcherAdapter<O, E> implements EventDispatchMetrics {
+
+  private static final Logger logger = LoggerFactory.getLogger(EventDispatcherAdapter.class);
+
+  private final String ownerType;
+  private final String ownerName;
+  private final ExecutorService executorService;
+  private final EventHandler<O, E> eventHandler;
+  private final int queueCapacity;
+  private final EventOverflowPolicy overflowPolicy;
+  private final Deque<Notification<O, E>> pendingNotifications =
+      new ArrayDeque<Notification<O, E>>();
+  private final Runnable deliveryTask =
+      new Runnable() {
+        @Override
+        public void run() {
+          deliverPendingNotifications();
+        }
+      };
+
+  private boolean isDeliveryInProgress;
+  private boolean isClosed;
+  private Thread deliveryThread;
+  private long deliveredEventCount;
+  private long droppedEventCount;
+  private long coalescedEventCount;
+
+  /**
+   * Constructor.
+   *
+   * @param ownerType The type of the owner of the dispatcher ("plugin" or "reader"), for logging.
+   * @param ownerName The name of the owner of the dispatcher, for logging.
+   * @param executorService The executor service running the delivery task.
+   * @param eventHandler The handler notifying the observers.
+   * @param queueCapacity The maximum number of events waiting to be delivered.
+   * @param overflowPolicy The policy to apply when the queue is full.
+   * @since 3.5.0
+   */
+  EventDispatcherAdapter(
+      String ownerType,
+      String ownerName,
+      ExecutorService executorService,
+      EventHandler<O, E> eventHandler,
+      int queueCapacity,
+      EventOverflowPolicy overflowPolicy) {
+    this.ownerType = ownerType;
+    this.ownerName = ownerName;
+    this.executorService = executorService;
+    this.eventHandler = eventHandler;
+    this.queueCapacity = queueCapacity;
+    this.overflowPolicy = overflowPolicy;
+  }
+
+  /**
+   * Queues an event to be delivered to the provided observers.
+   *
+   * <p>If the queue is full, the overflow policy is applied. With {@link
+   * EventOverflowPolicy#BLOCK}, the calling thread waits for room in the queue, unless it is the
+   * thread delivering the events (an observer notifying an event), in which case the event is
+   * queued beyond the capacity.
+   *
+   * <p>The event is dropped if the dispatcher is closed.
+   *
+   * @param event The event.
+   * @param observers The observers to notify, not modified afterwards.
+   * @since 3.5.0
+   */
+  void dispatch(E event, Collection<O> observers) {
+    synchronized (this) {
+      if (pendingNotifications.size() >= queueCapacity && !isClosed && !makeRoom(event)) {
+        return;
+      }
+      if (isClosed) {
+        droppedEventCount++;
+        if (logger.isDebugEnabled()) {
+          logger.debug("[{}={}] Event dispatcher closed, event dropped", ownerType, ownerName);
+        }
+        return;
+      }
+      pendingNotifications.add(new Notification<O, E>(event, observers));
+      if (isDeliveryInProgress) {
+        return;
+      }
+      isDeliveryInProgress = true;
+    }
+    scheduleDelivery();
+  }
+
+  /**
+   * Closes the dispatcher: the events already queued are still delivered, the next ones are
+   * dropped, and the threads waiting for room in the queue are released.
+   *
+   * @since 3.5.0
+   */
+  synchronized void close() {
+    isClosed = true;
+    notifyAll();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public synchronized int getQueueDepth() {
+    return pendingNotifications.size();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public synchronized long getDeliveredEventCount() {
+    return deliveredEventCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public synchronized long getDroppedEventCount() {
+    return droppedEventCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public synchronized long getCoalescedEventCount() {
+    return coalescedEventCount;
+  }
+
+  /**
+   * Applies the overflow policy to a full queue, while holding the monitor.
+   *
+   * @param event The new event.
+   * @return false if the new event must not be queued because it has been coalesced with the last
+   *     pending one.
+   */
+  private boolean makeRoom(E event) {
+    switch (overflowPolicy) {
+      case BLOCK:
+        while (pendingNotifications.size() >= queueCapacity
+            && !isClosed
+            && Thread.currentThread() != deliveryThread) {
+          try {
+            wait();
+          } catch (InterruptedException e) {
+            // Queue the event beyond the capacity rather than losing it.
+            Thread.currentThread().interrupt();
+            break;
+          }
+        }
+        return true;
+      case COALESCE:
+        if (eventHandler.isCancelledBy(pendingNotifications.getLast().event, event)) {
+          pendingNotifications.removeLast();
+          coalescedEventCount += 2;
+          return false;
+        }
+        if (removePendingPair()) {
+          return true;
+        }
+        dropOldestEvent();
+        return true;
+      case DROP_OLDEST:
+        dropOldestEvent();
+        return true;
+      default:
+        throw new IllegalStateException("Unsupported overflow policy: " + overflowPolicy.name());
+    }
+  }
+
+  /**
+   * Removes from the queue the first pending event followed by an event cancelling it, and the
+   * cancelling event.
+   *
+   * @return false if no such pair is pending.
+   */
+  private boolean removePendingPair() {
+    Iterator<Notification<O, E>> iterator = pendingNotifications.iterator();
+    Notification<O, E> previous = iterator.next();
+    while (iterator.hasNext()) {
+      Notification<O, E> current = iterator.next();
+      if (eventHandler.isCancelledBy(previous.event, current.event)) {
+        iterator.remove();
+        pendingNotifications.removeFirstOccurrence(previous);
+        coalescedEventCount += 2;
+        return true;
+      }
+      previous = current;
+    }
+    return false;
+  }
+
+  /** Drops the oldest pending event. */
+  private void dropOldestEvent() {
+    pendingNotifications.removeFirst();
+    droppedEventCount++;
+    if (logger.isDebugEnabled()) {
+      logger.debug(
+          "[{}={}] Event queue full, oldest event dropped [queueCapacity={}]",
+          ownerType,
+          ownerName,
+          queueCapacity);
+    }
+  }
+
+  /**
+   * Submits the delivery task to the executor service.
+   *
+   * <p>If the task is rejected, the pending events are dropped.
+   */
+  private void scheduleDelivery() {
+    try {
+      executorService.execute(deliveryTask);
+    } catch (RuntimeException e) {
+      synchronized (this) {
+        droppedEventCount += pendingNotifications.size();
+        pendingNotifications.clear();
+        isDeliveryInProgress = false;
+        notifyAll();
+      }
+      logger.error(
+          "[{}={}] Failed to schedule event notification, pending events dropped [reason={}]",
+          ownerType,
+          ownerName,
+          e.getMessage(),
+          e);
+    }
+  }
+
+  /** Delivers the pending events until the queue is empty. */
+  private void deliverPendingNotifications() {
+    synchronized (this) {
+      deliveryThread = Thread.currentThread();
+    }
+    while (true) {
+      Notification<O, E> notification;
+      synchronized (this) {
+        notification = pendingNotifications.poll();
+        if (notification == null) {
+          isDeliveryInProgress = false;
+          deliveryThread = null;
+          return;
+        }
+        notifyAll();
+      }
+      for (O observer : notification.observers) {
+        eventHandler.notifyObserver(observer, notification.event);
+      }
+      synchronized (this) {
+        deliveredEventCount++;
+      }
+    }
+  }
+
+  /**
+   * Handler of the events of a dispatcher.
+   *
+   * @param <O> The type of the observers.
+   * @param <E> The type of the events.
+   * @since 3.5.0
+   */
+  interface EventHandler<O, E> {
+
+    /**
+     * Notifies an observer of an event.
+     *
+     * <p>This method must not throw an exception.
+     *
+     * @param observer The observer.
+     * @param event The event.
+     * @since 3.5.0
+     */
+    void notifyObserver(O observer, E event);
+
+    /**
+     * Indicates whether a pending event and the event following it cancel each other (see {@link
+     * EventOverflowPolicy#COALESCE}).
+     *
+     * @param event The pending event.
+     * @param nextEvent The event following it.
+     * @return true if both events can be removed from the queue.
+     * @since 3.5.0
+     */
+    boolean isCancelledBy(E event, E nextEvent);
+  }
+
+  /** Event waiting in the queue, with the observers to notify. */
+  private static final class Notification<O, E> {
+
+    private final E event;
+    private final Collection<O> observers;
+
+    private Notification(E event, Collection<O> observers) {
+      this.event = event;
+      this.observers = observers;
+    }
+  }
+}
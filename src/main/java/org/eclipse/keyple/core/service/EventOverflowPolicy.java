@@ -0,0 +1,52 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+/**
+ * Policy applied by an observable remote plugin or reader when an event is notified while the
+ * queue of the events waiting to be delivered to its observers is full (see {@link
+ * SmartCardService#setRemoteEventDispatchPolicy(int, EventOverflowPolicy)}).
+ *
+ * @since 3.5.0
+ */
+public enum EventOverflowPolicy {
+
+  /**
+   * The thread notifying the event waits until the queue has room for it.
+   *
+   * <p>No event is lost, and the backpressure is applied to the transport layer of the "Keyple
+   * Distributed" solution: a slow observer stalls the thread delivering the remote events, which
+   * may delay the other exchanges of the transport layer. This policy must be explicitly chosen.
+   *
+   * @since 3.5.0
+   */
+  BLOCK,
+
+  /**
+   * The oldest event of the queue is dropped to make room for the new one.
+   *
+   * @since 3.5.0
+   */
+  DROP_OLDEST,
+
+  /**
+   * A pending card insertion or match followed by the removal of the card (or a pending reader
+   * connection followed by the disconnection of the same readers) is removed from the queue, as if
+   * none of these events had occurred, to make room for the new event. If no such pair is pending,
+   * the oldest event of the queue is dropped.
+   *
+   * <p>This is the default policy.
+   *
+   * @since 3.5.0
+   */
+  COALESCE
+}
@@ -0,0 +1,294 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.keyple.core.service.spi.ExecutorServiceFactorySpi;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Default implementation of {@link ExecutorServiceFactorySpi}, used when no factory is provided by
+ * the application.
+ *
+ * <ul>
+ *   <li>The active (polling) monitoring jobs of all the observable readers share a single bounded
+ *       scheduler and run as scheduled ticks.
+ *   <li>The events detected by the active monitoring jobs are processed on a separate on-demand
+ *       executor, so that the processing of a card (observers notification) never delays the
+ *       polling of the other readers.
+ *   <li>The passive monitoring jobs, which block in the reader SPI, run on a dedicated thread per
+ *       reader, created only for the readers that need it.
+ * </ul>
+ *
+ * <p>It also provides the threads monitoring the readers of the observable local plugins and the
+ * executor services notifying the events of the observable remote plugins and readers, as well as
+ * the on-demand executor running the reader operations requested asynchronously.
+ *
+ * <p>When the virtual thread mode is enabled and the JVM supports it (Java 21+), all these threads,
+ * except the ones of the shared monitoring scheduler which only run short polling ticks, are
+ * virtual threads. The virtual thread API is accessed by reflection to keep the Java 8 source
+ * compatibility.
+ *
+ * @since 3.5.0
+ */
+final class ExecutorServiceFactoryAdapter implements ExecutorServiceFactorySpi {
+
+  private static final Logger logger = LoggerFactory.getLogger(ExecutorServiceFactoryAdapter.class);
+
+  private static final String MONITORING_SCHEDULER_THREAD_NAME_PREFIX =
+      "keyple-monitoring-scheduler-";
+  private static final String MONITORING_EVENT_THREAD_NAME_PREFIX = "keyple-monitoring-event-";
+  private static final String READER_MONITORING_THREAD_NAME_PREFIX = "keyple-monitoring-";
+  private static final String PLUGIN_MONITORING_THREAD_NAME_PREFIX = "keyple-plugin-monitoring-";
+  private static final String EVENT_NOTIFICATION_THREAD_NAME_PREFIX = "keyple-event-notification-";
+  private static final String READER_OPERATION_THREAD_NAME_PREFIX = "keyple-reader-operation-";
+  private static final long MONITORING_SCHEDULER_KEEP_ALIVE_MILLIS = 10000;
+
+  private final int monitoringSchedulerPoolSize;
+  private final boolean isVirtualThreadsEnabled;
+  private volatile ScheduledExecutorService monitoringScheduler;
+  private volatile ExecutorService monitoringEventExecutor;
+  private volatile ExecutorService eventNotificationExecutor;
+  private volatile ExecutorService readerOperationExecutor;
+
+  /**
+   * Constructor.
+   *
+   * @param monitoringSchedulerPoolSize The number of threads of the shared monitoring scheduler.
+   * @param isVirtualThreadsRequested true if the virtual thread mode is requested. The mode is
+   *     enabled only if the JVM supports virtual threads.
+   * @since 3.5.0
+   */
+  ExecutorServiceFactoryAdapter(
+      int monitoringSchedulerPoolSize, boolean isVirtualThreadsRequested) {
+    this.monitoringSchedulerPoolSize = monitoringSchedulerPoolSize;
+    if (isVirtualThreadsRequested && !isVirtualThreadsSupported()) {
+      logger.warn(
+          "Virtual threads are not supported by the JVM, platform threads used [javaVersion={}]",
+          System.getProperty("java.version"));
+      this.isVirtualThreadsEnabled = false;
+    } else {
+      this.isVirtualThreadsEnabled = isVirtualThreadsRequested;
+    }
+  }
+
+  /**
+   * Indicates whether the virtual thread mode is enabled.
+   *
+   * @return true if the threads created by this factory are virtual threads.
+   * @since 3.5.0
+   */
+  boolean isVirtualThreadsEnabled() {
+    return isVirtualThreadsEnabled;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The scheduler is created on first use. Its threads are released when no monitoring job has
+   * been scheduled for a while.
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public ScheduledExecutorService getMonitoringScheduler() {
+    ScheduledExecutorService scheduler = monitoringScheduler;
+    if (scheduler == null) {
+      synchronized (this) {
+        scheduler = monitoringScheduler;
+        if (scheduler == null) {
+          ScheduledThreadPoolExecutor executor =
+              new ScheduledThreadPoolExecutor(
+                  monitoringSchedulerPoolSize,
+                  new NamedThreadFactory(MONITORING_SCHEDULER_THREAD_NAME_PREFIX, true));
+          executor.setKeepAliveTime(MONITORING_SCHEDULER_KEEP_ALIVE_MILLIS, TimeUnit.MILLISECONDS);
+          executor.allowCoreThreadTimeOut(true);
+          scheduler = executor;
+          monitoringScheduler = scheduler;
+        }
+      }
+    }
+    return scheduler;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The executor is created on first use. Its threads are created on demand and released when
+   * idle.
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public ExecutorService getMonitoringEventExecutor() {
+    ExecutorService executor = monitoringEventExecutor;
+    if (executor == null) {
+      synchronized (this) {
+        executor = monitoringEventExecutor;
+        if (executor == null) {
+          executor =
+              Executors.newCachedThreadPool(
+                  createThreadFactory(MONITORING_EVENT_THREAD_NAME_PREFIX, true));
+          monitoringEventExecutor = executor;
+        }
+      }
+    }
+    return executor;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The returned executor service uses a single thread named after the reader.
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public ExecutorService createReaderMonitoringExecutor(String readerName) {
+    return Executors.newSingleThreadExecutor(
+        createThreadFactory(READER_MONITORING_THREAD_NAME_PREFIX + readerName, false));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The thread is named after the plugin.
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public Thread createPluginMonitoringThread(Runnable task, String pluginName) {
+    return createThreadFactory(PLUGIN_MONITORING_THREAD_NAME_PREFIX + pluginName, false)
+        .newThread(task);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The executor is created on first use and shared by all the remote plugins and readers. Its
+   * threads are created on demand and released when idle.
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public ExecutorService getEventNotificationExecutor(String pluginName, String readerName) {
+    ExecutorService executor = eventNotificationExecutor;
+    if (executor == null) {
+      synchronized (this) {
+        executor = eventNotificationExecutor;
+        if (executor == null) {
+          executor =
+              Executors.newCachedThreadPool(
+                  createThreadFactory(EVENT_NOTIFICATION_THREAD_NAME_PREFIX, true));
+          eventNotificationExecutor = executor;
+        }
+      }
+    }
+    return executor;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The executor is created on first use. Its threads are created on demand and released when
+   * idle.
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public ExecutorService getReaderOperationExecutor() {
+    ExecutorService executor = readerOperationExecutor;
+    if (executor == null) {
+      synchronized (this) {
+        executor = readerOperationExecutor;
+        if (executor == null) {
+          executor =
+              Executors.newCachedThreadPool(
+                  createThreadFactory(READER_OPERATION_THREAD_NAME_PREFIX, true));
+          readerOperationExecutor = executor;
+        }
+      }
+    }
+    return executor;
+  }
+
+  /**
+   * Creates a thread factory producing virtual threads if the virtual thread mode is enabled,
+   * platform threads otherwise.
+   *
+   * @param namePrefix The name of the threads, or their name prefix if numbered.
+   * @param isNumbered true if a sequence number must be appended to the name of the threads.
+   * @return A not null reference.
+   */
+  private ThreadFactory createThreadFactory(String namePrefix, boolean isNumbered) {
+    if (isVirtualThreadsEnabled) {
+      try {
+        Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+        Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+        if (isNumbered) {
+          builder =
+              builderClass
+                  .getMethod("name", String.class, long.class)
+                  .invoke(builder, namePrefix, 1L);
+        } else {
+          builder = builderClass.getMethod("name", String.class).invoke(builder, namePrefix);
+        }
+        return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+      } catch (Exception e) {
+        logger.warn(
+            "Failed to create a virtual thread factory, platform threads used [reason={}]",
+            e.getMessage());
+      }
+    }
+    return new NamedThreadFactory(namePrefix, isNumbered);
+  }
+
+  /**
+   * Checks if the JVM supports virtual threads.
+   *
+   * @return true if the virtual thread API is available.
+   */
+  private static boolean isVirtualThreadsSupported() {
+    try {
+      Method ofVirtual = Thread.class.getMethod("ofVirtual");
+      return ofVirtual != null;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  /** Thread factory giving a name to the created threads. */
+  private static final class NamedThreadFactory implements ThreadFactory {
+
+    private final String namePrefix;
+    private final boolean isNumbered;
+    private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+    private NamedThreadFactory(String namePrefix, boolean isNumbered) {
+      this.namePrefix = namePrefix;
+      this.isNumbered = isNumbered;
+    }
+
+    @Override
+    public Thread newThread(Runnable r) {
+      return new Thread(r, isNumbered ? namePrefix + threadNumber.getAndIncrement() : namePrefix);
+    }
+  }
+}
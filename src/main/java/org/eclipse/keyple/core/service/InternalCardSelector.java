@@ -11,6 +11,8 @@
  ************************************************************************************** */
 package org.eclipse.keyple.core.service;
 
+import java.util.regex.Pattern;
+
 /**
  * Internal interface defining the package private getters of the {@link
  * org.eclipse.keypop.reader.selection.CardSelector}.
@@ -33,4 +35,16 @@ interface InternalCardSelector {
    * @since 3.0.0
    */
   String getPowerOnDataRegex();
+
+  /**
+   * Gets the compiled form of the regular expression to be applied to the card's power-on data.
+   *
+   * <p>The pattern is compiled on first use and kept by the selector, so that selectors reused
+   * across several selection processes (e.g. scheduled selection scenarios) compile it only once.
+   *
+   * @return Null if no power-on data regex has been set.
+   * @throws java.util.regex.PatternSyntaxException If the regex is invalid.
+   * @since 3.5.0
+   */
+  Pattern getPowerOnDataPattern();
 }
@@ -97,11 +97,24 @@ static final class CardSelectionRequest implements CardSelectionRequestSpi {
       if (src.getCardRequest() != null) {
         this.cardRequest = new CardRequest(src.getCardRequest());
       }
-      this.successfulSelectionStatusWords = new HashSet<>(src.getSuccessfulSelectionStatusWords());
+      this.successfulSelectionStatusWords =
+          StatusWordSetAdapter.of(src.getSuccessfulSelectionStatusWords());
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The status words decoded from JSON data are converted once into a {@link
+     * StatusWordSetAdapter}.
+     *
+     * @since 2.1.1
+     */
     @Override
     public Set<Integer> getSuccessfulSelectionStatusWords() {
+      if (successfulSelectionStatusWords != null
+          && !(successfulSelectionStatusWords instanceof StatusWordSetAdapter)) {
+        successfulSelectionStatusWords = StatusWordSetAdapter.of(successfulSelectionStatusWords);
+      }
       return successfulSelectionStatusWords;
     }
 
@@ -152,6 +165,19 @@ static final class CardRequest implements CardRequestSpi {
       this.stopOnUnsuccessfulStatusWord = src.stopOnUnsuccessfulStatusWord();
     }
 
+    /**
+     * Builds a new instance using the provided APDU requests.
+     *
+     * @param apduRequests The APDU requests.
+     * @param stopOnUnsuccessfulStatusWord true if the processing must stop on an unsuccessful
+     *     status word.
+     * @since 3.5.0
+     */
+    CardRequest(List<ApduRequest> apduRequests, boolean stopOnUnsuccessfulStatusWord) {
+      this.apduRequests = apduRequests;
+      this.stopOnUnsuccessfulStatusWord = stopOnUnsuccessfulStatusWord;
+    }
+
     @Override
     public List<ApduRequestSpi> getApduRequests() {
       return new ArrayList<>(apduRequests);
@@ -199,17 +225,43 @@ static class ApduRequest implements ApduRequestSpi {
      */
     ApduRequest(ApduRequestSpi src) {
       this.apdu = src.getApdu().clone();
-      this.successfulStatusWords = new HashSet<>(src.getSuccessfulStatusWords());
+      this.successfulStatusWords = StatusWordSetAdapter.of(src.getSuccessfulStatusWords());
       this.info = src.getInfo();
     }
 
+    /**
+     * Builds a new instance using the provided values.
+     *
+     * @param apdu The APDU.
+     * @param successfulStatusWords The successful status words.
+     * @param info The info, may be null.
+     * @since 3.5.0
+     */
+    ApduRequest(byte[] apdu, Set<Integer> successfulStatusWords, String info) {
+      this.apdu = apdu;
+      this.successfulStatusWords = successfulStatusWords;
+      this.info = info;
+    }
+
     @Override
     public byte[] getApdu() {
       return apdu;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The status words decoded from JSON data are converted once into a {@link
+     * StatusWordSetAdapter}.
+     *
+     * @since 2.1.1
+     */
     @Override
     public Set<Integer> getSuccessfulStatusWords() {
+      if (successfulStatusWords != null
+          && !(successfulStatusWords instanceof StatusWordSetAdapter)) {
+        successfulStatusWords = StatusWordSetAdapter.of(successfulStatusWords);
+      }
       return successfulStatusWords;
     }
 
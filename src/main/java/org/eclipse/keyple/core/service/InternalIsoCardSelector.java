@@ -45,4 +45,18 @@ interface InternalIsoCardSelector extends InternalCardSelector {
    * @since 3.0.0
    */
   CommonIsoCardSelector.FileControlInformation getFileControlInformation();
+
+  /**
+   * Gets the ISO7816-4 SELECT APPLICATION command selecting the AID with the file occurrence and
+   * file control information of the selector.
+   *
+   * <p>The command is built on first use and kept by the selector, so that selectors reused across
+   * several selection processes (e.g. scheduled selection scenarios) build it only once. The
+   * returned array is shared and must not be modified.
+   *
+   * @return Null if no AID has been set.
+   * @throws IllegalArgumentException If the AID is longer than 16 bytes.
+   * @since 3.5.0
+   */
+  byte[] getSelectApplicationCommand();
 }
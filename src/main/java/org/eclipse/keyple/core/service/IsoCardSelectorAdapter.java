@@ -11,6 +11,8 @@
  ************************************************************************************** */
 package org.eclipse.keyple.core.service;
 
+import java.util.regex.Pattern;
+import org.eclipse.keyple.core.util.Assert;
 import org.eclipse.keyple.core.util.HexUtil;
 import org.eclipse.keypop.reader.selection.IsoCardSelector;
 
@@ -22,7 +24,9 @@
 final class IsoCardSelectorAdapter implements IsoCardSelector, InternalIsoCardSelector {
   private String logicalProtocolName;
   private String powerOnDataRegex;
+  private transient volatile Pattern powerOnDataPattern;
   private byte[] aid;
+  private transient volatile byte[] selectApplicationCommand;
   private FileOccurrence fileOccurrence = FileOccurrence.FIRST; // default value: FIRST
   private FileControlInformation fileControlInformation =
       FileControlInformation.FCI; // default value: FCI
@@ -47,6 +51,21 @@ public String getPowerOnDataRegex() {
     return powerOnDataRegex;
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public Pattern getPowerOnDataPattern() {
+    Pattern pattern = powerOnDataPattern;
+    if (pattern == null && powerOnDataRegex != null) {
+      pattern = Pattern.compile(powerOnDataRegex);
+      powerOnDataPattern = pattern;
+    }
+    return pattern;
+  }
+
   /**
    * {@inheritDoc}
    *
@@ -77,6 +96,21 @@ public FileControlInformation getFileControlInformation() {
     return fileControlInformation;
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public byte[] getSelectApplicationCommand() {
+    byte[] command = selectApplicationCommand;
+    if (command == null && aid != null) {
+      command = buildSelectApplicationCommand();
+      selectApplicationCommand = command;
+    }
+    return command;
+  }
+
   /**
    * {@inheritDoc}
    *
@@ -84,7 +118,9 @@ public FileControlInformation getFileControlInformation() {
    */
   @Override
   public IsoCardSelector filterByDfName(byte[] aid) {
-    this.aid = aid;
+    // A copy is kept, the SELECT APPLICATION command built from it being cached
+    this.aid = aid != null ? aid.clone() : null;
+    this.selectApplicationCommand = null;
     return this;
   }
 
@@ -96,6 +132,7 @@ public IsoCardSelector filterByDfName(byte[] aid) {
   @Override
   public IsoCardSelector filterByDfName(String aid) {
     this.aid = HexUtil.toByteArray(aid);
+    this.selectApplicationCommand = null;
     return this;
   }
 
@@ -107,6 +144,7 @@ public IsoCardSelector filterByDfName(String aid) {
   @Override
   public IsoCardSelector setFileOccurrence(FileOccurrence fileOccurrence) {
     this.fileOccurrence = fileOccurrence;
+    this.selectApplicationCommand = null;
     return this;
   }
 
@@ -118,6 +156,7 @@ public IsoCardSelector setFileOccurrence(FileOccurrence fileOccurrence) {
   @Override
   public IsoCardSelector setFileControlInformation(FileControlInformation fileControlInformation) {
     this.fileControlInformation = fileControlInformation;
+    this.selectApplicationCommand = null;
     return this;
   }
 
@@ -140,9 +179,85 @@ public IsoCardSelector filterByCardProtocol(String logicalProtocolName) {
   @Override
   public IsoCardSelector filterByPowerOnData(String powerOnDataRegex) {
     this.powerOnDataRegex = powerOnDataRegex;
+    this.powerOnDataPattern = null;
     return this;
   }
 
+  /**
+   * Builds the ISO7816-4 SELECT APPLICATION command from the current AID, file occurrence and file
+   * control information.
+   *
+   * @return A new byte array.
+   * @throws IllegalArgumentException If the AID is longer than 16 bytes.
+   */
+  private byte[] buildSelectApplicationCommand() {
+    // RL-SEL-P2LC.1
+    // RL-SEL-DFNAME.1
+    Assert.getInstance().isInRange(aid.length, 0, 16, "aid");
+    // RL-SEL-CLA.1
+    byte[] command = new byte[6 + aid.length];
+    command[0] = (byte) 0x00; // CLA
+    command[1] = (byte) 0xA4; // INS
+    command[2] = (byte) 0x04; // P1: select by name
+    // P2: b0,b1 define the File occurrence, b2,b3 define the File control information
+    // we use the bitmask defined in the respective enums
+    command[3] = computeSelectApplicationP2(fileOccurrence, fileControlInformation);
+    command[4] = (byte) (aid.length); // Lc
+    System.arraycopy(aid, 0, command, 5, aid.length); // data
+    command[5 + aid.length] = (byte) 0x00; // Le
+    return command;
+  }
+
+  /**
+   * Computes the P2 parameter of the ISO7816-4 Select Application APDU command from the provided
+   * FileOccurrence and FileControlInformation.
+   *
+   * @param fileOccurrence The file's position relative to the current file.
+   * @param fileControlInformation The file control information output.
+   * @throws IllegalStateException If one of the provided argument is unexpected.
+   */
+  private static byte computeSelectApplicationP2(
+      FileOccurrence fileOccurrence, FileControlInformation fileControlInformation) {
+
+    byte p2;
+    switch (fileOccurrence) {
+      case FIRST:
+        p2 = (byte) 0x00;
+        break;
+      case LAST:
+        p2 = (byte) 0x01;
+        break;
+      case NEXT:
+        p2 = (byte) 0x02;
+        break;
+      case PREVIOUS:
+        p2 = (byte) 0x03;
+        break;
+      default:
+        throw new IllegalStateException("Unexpected FileOccurrence value: " + fileOccurrence);
+    }
+
+    switch (fileControlInformation) {
+      case FCI:
+        p2 |= (byte) 0x00;
+        break;
+      case FCP:
+        p2 |= (byte) 0x04;
+        break;
+      case FMD:
+        p2 |= (byte) 0x08;
+        break;
+      case NO_RESPONSE:
+        p2 |= (byte) 0x0C;
+        break;
+      default:
+        throw new IllegalStateException(
+            "Unexpected FileControlInformation value: " + fileControlInformation);
+    }
+
+    return p2;
+  }
+
   /**
    * {@inheritDoc}
    *
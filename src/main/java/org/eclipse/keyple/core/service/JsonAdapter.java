@@ -84,7 +84,8 @@ public AbstractApduException deserialize(
 
       Class<? extends AbstractApduException> exceptionClass;
       try {
-        exceptionClass = (Class<? extends AbstractApduException>) Class.forName(type.getTypeName());
+        exceptionClass =
+            ClassResolverAdapter.resolveClass(type.getTypeName(), AbstractApduException.class);
       } catch (ClassNotFoundException e) {
         throw new JsonParseException(
             "Exception '"
@@ -95,7 +96,8 @@ public AbstractApduException deserialize(
 
       try {
         Constructor<? extends AbstractApduException> constructor =
-            exceptionClass.getConstructor(CardResponseApi.class, boolean.class, String.class);
+            ClassResolverAdapter.resolveConstructor(
+                exceptionClass, CardResponseApi.class, boolean.class, String.class);
 
         return constructor.newInstance(cardResponseApi, isCardResponseComplete, message);
 
@@ -276,7 +278,8 @@ public CardSelectionScenarioAdapter deserialize(
       List<CardSelector<?>> cardSelectors = new ArrayList<>(cardSelectorsTypes.size());
       for (int i = 0; i < cardSelectorsTypes.size(); i++) {
         try {
-          Class<?> classOfCardSelector = Class.forName(cardSelectorsTypes.get(i));
+          Class<?> classOfCardSelector =
+              ClassResolverAdapter.resolveClass(cardSelectorsTypes.get(i), CardSelector.class);
           cardSelectors.add(
               (CardSelector<?>)
                   JsonUtil.getParser()
@@ -57,7 +57,7 @@ final void register() throws PluginIOException {
 
     for (ReaderSpi readerSpi : readerSpiList) {
       LocalReaderAdapter localReaderAdapter = buildLocalReaderAdapter(readerSpi);
-      getReadersMap().put(readerSpi.getName(), localReaderAdapter);
+      putReader(readerSpi.getName(), localReaderAdapter);
       localReaderAdapter.register();
     }
   }
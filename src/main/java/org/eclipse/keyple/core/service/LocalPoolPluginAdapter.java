@@ -112,7 +112,7 @@ public CardReader allocateReader(String readerGroupReference) {
     }
 
     LocalReaderAdapter localReaderAdapter = buildLocalReaderAdapter(readerSpi);
-    getReadersMap().put(localReaderAdapter.getName(), localReaderAdapter);
+    putReader(localReaderAdapter.getName(), localReaderAdapter);
     localReaderAdapter.register();
 
     if (logger.isDebugEnabled()) {
@@ -158,7 +158,7 @@ public void releaseReader(CardReader reader) {
       throw new KeyplePluginException(
           "Plugin '" + getName() + "' failed to release reader: " + reader.getName(), e);
     } finally {
-      getReadersMap().remove(reader.getName());
+      removeReaderByKey(reader.getName());
       ((LocalReaderAdapter) reader).unregister();
     }
 
@@ -29,7 +29,6 @@
 import org.eclipse.keypop.reader.ReaderCommunicationException;
 import org.eclipse.keypop.reader.ReaderProtocolNotSupportedException;
 import org.eclipse.keypop.reader.selection.CardSelector;
-import org.eclipse.keypop.reader.selection.CommonIsoCardSelector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -56,6 +55,14 @@ class LocalReaderAdapter extends AbstractReaderAdapter {
   private static final int SW1_MASK = 0xFF00;
   private static final int SW2_MASK = 0x00FF;
 
+  private static final int CHAINING_BUFFER_INITIAL_CAPACITY = 258;
+
+  /**
+   * Capacity up to which a grown chaining buffer is kept for the next exchanges (64 KiB), a larger
+   * buffer being released at the end of the exchange that needed it.
+   */
+  private static final int CHAINING_BUFFER_MAX_RETAINED_CAPACITY = 65536;
+
   private final ReaderSpi readerSpi;
   private long before;
   private boolean isLogicalChannelOpen;
@@ -64,6 +71,7 @@ class LocalReaderAdapter extends AbstractReaderAdapter {
   private String currentPhysicalProtocolName;
   private final Map<String, String> protocolAssociations;
   private final boolean isAutomaticStatusCodeHandlingEnabled;
+  private byte[] chainingBuffer = new byte[CHAINING_BUFFER_INITIAL_CAPACITY];
 
   /**
    * Constructor.
@@ -230,7 +238,8 @@ final CardResponseApi processCardRequest(
         ApduResponseAdapter apduResponse = processApduRequest(apduRequest);
         apduResponses.add(apduResponse);
         if (cardRequest.stopOnUnsuccessfulStatusWord()
-            && !apduRequest.getSuccessfulStatusWords().contains(apduResponse.getStatusWord())) {
+            && !StatusWordSetAdapter.contains(
+                apduRequest.getSuccessfulStatusWords(), apduResponse.getStatusWord())) {
           if (channelControl == ChannelControl.CLOSE_AFTER) {
             closeLogicalAndPhysicalChannelsSilently();
           }
@@ -398,90 +407,88 @@ private ApduResponseAdapter processApduRequest(ApduRequestSpi apduRequest)
       if ((apduResponse.getStatusWord() & SW1_MASK) == SW_6100) {
         // RL-SW-61XX.1
         // Handle chained responses by accumulating data from multiple GET RESPONSE commands
-        List<byte[]> dataChunks = new ArrayList<>();
-
-        // Add initial data if present
-        if (apduResponse.getDataOut().length > 0) {
-          dataChunks.add(apduResponse.getDataOut());
-        }
-
-        // Keep sending GET RESPONSE until we get a status word other than 61XX
-        while ((apduResponse.getStatusWord() & SW1_MASK) == SW_6100) {
-          // Build a GetResponse APDU command with the length from SW2
-          byte[] getResponseApdu = {
-            (byte) 0x00,
-            (byte) 0xC0,
-            (byte) 0x00,
-            (byte) 0x00,
-            (byte) (apduResponse.getStatusWord() & SW2_MASK)
-          };
-
-          if (logger.isDebugEnabled()) {
-            long timeStamp = System.nanoTime();
-            long elapsed10ms = (timeStamp - before) / 100000;
-            this.before = timeStamp;
-            logger.debug(
-                "[reader={}] Send [type=RawApduRequest:GetResponse, content={}, elapsedMs={}]",
-                getName(),
-                HexUtil.toHex(getResponseApdu),
-                elapsed10ms / 10.0);
+        // directly into the reusable buffer of the reader, sized from the SW2 announcements
+        // The buffer is shrunk back to its initial capacity after an exchange that made it exceed
+        // the retained capacity, so that a single huge response does not keep it allocated
+        try {
+          int totalLength = apduResponse.getDataOutLength();
+          ensureChainingBufferCapacity(totalLength + getAnnouncedLength(apduResponse));
+          apduResponse.copyDataOutTo(chainingBuffer, 0);
+
+          // Keep sending GET RESPONSE until we get a status word other than 61XX
+          while ((apduResponse.getStatusWord() & SW1_MASK) == SW_6100) {
+            // Build a GetResponse APDU command with the length from SW2
+            byte[] getResponseApdu = {
+              (byte) 0x00,
+              (byte) 0xC0,
+              (byte) 0x00,
+              (byte) 0x00,
+              (byte) (apduResponse.getStatusWord() & SW2_MASK)
+            };
+
+            if (logger.isDebugEnabled()) {
+              long timeStamp = System.nanoTime();
+              long elapsed10ms = (timeStamp - before) / 100000;
+              this.before = timeStamp;
+              logger.debug(
+                  "[reader={}] Send [type=RawApduRequest:GetResponse, content={}, elapsedMs={}]",
+                  getName(),
+                  HexUtil.toHex(getResponseApdu),
+                  elapsed10ms / 10.0);
+            }
+
+            // Execute APDU directly to avoid recursive status handling
+            byte[] responseBytes = readerSpi.transmitApdu(getResponseApdu);
+            apduResponse = new ApduResponseAdapter(responseBytes);
+
+            if (logger.isDebugEnabled()) {
+              long timeStamp = System.nanoTime();
+              long elapsed10ms = (timeStamp - before) / 100000;
+              this.before = timeStamp;
+              logger.debug(
+                  "[reader={}] Receive [type=RawApduResponse:GetResponse, content={}, elapsedMs={}]",
+                  getName(),
+                  apduResponse,
+                  elapsed10ms / 10.0);
+            }
+
+            // Append data from this response, the card may return more data than announced
+            int dataOutLength = apduResponse.getDataOutLength();
+            ensureChainingBufferCapacity(
+                totalLength + Math.max(dataOutLength, getAnnouncedLength(apduResponse)));
+            apduResponse.copyDataOutTo(chainingBuffer, totalLength);
+            totalLength += dataOutLength;
           }
 
-          // Execute APDU directly to avoid recursive status handling
-          byte[] responseBytes = readerSpi.transmitApdu(getResponseApdu);
-          apduResponse = new ApduResponseAdapter(responseBytes);
-
-          if (logger.isDebugEnabled()) {
-            long timeStamp = System.nanoTime();
-            long elapsed10ms = (timeStamp - before) / 100000;
-            this.before = timeStamp;
-            logger.debug(
-                "[reader={}] Receive [type=RawApduResponse:GetResponse, content={}, elapsedMs={}]",
-                getName(),
-                apduResponse,
-                elapsed10ms / 10.0);
+          // Build a single response from the accumulated data with the final status word
+          if (totalLength > 0) {
+            byte[] completeApdu = Arrays.copyOf(chainingBuffer, totalLength + 2); // +2 for SW
+            completeApdu[totalLength] = (byte) ((apduResponse.getStatusWord() >> 8) & 0xFF);
+            completeApdu[totalLength + 1] = (byte) (apduResponse.getStatusWord() & 0xFF);
+            apduResponse = new ApduResponseAdapter(completeApdu);
           }
-
-          // Add data from this response
-          if (apduResponse.getDataOut().length > 0) {
-            dataChunks.add(apduResponse.getDataOut());
-          }
-        }
-
-        // Merge all data chunks into a single response with the final status word
-        if (!dataChunks.isEmpty()) {
-          int totalLength = 0;
-          for (byte[] chunk : dataChunks) {
-            totalLength += chunk.length;
-          }
-
-          byte[] completeApdu = new byte[totalLength + 2]; // +2 for status word
-          int offset = 0;
-          for (byte[] chunk : dataChunks) {
-            System.arraycopy(chunk, 0, completeApdu, offset, chunk.length);
-            offset += chunk.length;
-          }
-
-          // Append final status word
-          completeApdu[totalLength] = (byte) ((apduResponse.getStatusWord() >> 8) & 0xFF);
-          completeApdu[totalLength + 1] = (byte) (apduResponse.getStatusWord() & 0xFF);
-
-          apduResponse = new ApduResponseAdapter(completeApdu);
+        } finally {
+          shrinkChainingBuffer();
         }
 
-      } else if (apduResponse.getDataOut().length == 0) {
+      } else if (apduResponse.getDataOutLength() == 0) {
         // Handle 6CXX and Case4 only when there's no data in the response
 
         if ((apduResponse.getStatusWord() & SW1_MASK) == SW_6C00) {
           // RL-SW-6CXX.1
-          // Update the last command with the provided "le"
-          apduRequest.getApdu()[apduRequest.getApdu().length - 1] =
-              (byte) (apduResponse.getStatusWord() & SW2_MASK);
-          // Replay the last command APDU
-          apduResponse = processApduRequest(apduRequest);
+          // The request may be shared (prebuilt SELECT APPLICATION, prepared scenario run on
+          // several readers, cached scenario), replay a copy of the last command with the provided
+          // "le" instead of updating it
+          byte[] apdu = apduRequest.getApdu().clone();
+          apdu[apdu.length - 1] = (byte) (apduResponse.getStatusWord() & SW2_MASK);
+          apduResponse =
+              processApduRequest(
+                  new ApduRequest(apdu, apduRequest.getSuccessfulStatusWords())
+                      .setInfo(apduRequest.getInfo()));
 
         } else if (ApduUtil.isCase4(apduRequest.getApdu())
-            && apduRequest.getSuccessfulStatusWords().contains(apduResponse.getStatusWord())) {
+            && StatusWordSetAdapter.contains(
+                apduRequest.getSuccessfulStatusWords(), apduResponse.getStatusWord())) {
           // RL-SW-ANALYSIS.1
           // RL-SW-CASE4.1 (SW=6200 not taken into account here)
           // Build a GetResponse APDU command with the original "le"
@@ -502,6 +509,44 @@ private ApduResponseAdapter processApduRequest(ApduRequestSpi apduRequest)
     return apduResponse;
   }
 
+  /**
+   * Gets the number of bytes announced by a {@code 61XX} status word.
+   *
+   * @param apduResponse The APDU response.
+   * @return The value of SW2 (0 meaning 256) if SW1 is {@code 61}, 0 otherwise.
+   */
+  private static int getAnnouncedLength(ApduResponseAdapter apduResponse) {
+    if ((apduResponse.getStatusWord() & SW1_MASK) != SW_6100) {
+      return 0;
+    }
+    int sw2 = apduResponse.getStatusWord() & SW2_MASK;
+    return sw2 == 0 ? 256 : sw2;
+  }
+
+  /**
+   * Ensures that the GET RESPONSE chaining buffer can hold at least the provided number of data
+   * bytes plus the final status word, growing it while preserving its content if needed.
+   *
+   * @param dataLength The number of data bytes to hold.
+   */
+  private void ensureChainingBufferCapacity(int dataLength) {
+    int minCapacity = dataLength + 2;
+    if (chainingBuffer.length < minCapacity) {
+      chainingBuffer =
+          Arrays.copyOf(chainingBuffer, Math.max(minCapacity, chainingBuffer.length << 1));
+    }
+  }
+
+  /**
+   * Restores the initial capacity of the GET RESPONSE chaining buffer if it has been grown beyond
+   * {@link #CHAINING_BUFFER_MAX_RETAINED_CAPACITY}, a smaller buffer being kept for reuse.
+   */
+  private void shrinkChainingBuffer() {
+    if (chainingBuffer.length > CHAINING_BUFFER_MAX_RETAINED_CAPACITY) {
+      chainingBuffer = new byte[CHAINING_BUFFER_INITIAL_CAPACITY];
+    }
+  }
+
   /**
    * Attempts to select the card and executes the optional requests if any.
    *
@@ -593,9 +638,9 @@ private SelectionStatus processSelection(
               && ((InternalIsoCardSelector) cardSelector).getAid() != null) {
             fciResponse = selectByAid((InternalIsoCardSelector) cardSelector);
             hasMatched =
-                cardSelectionRequest
-                    .getSuccessfulSelectionStatusWords()
-                    .contains(fciResponse.getStatusWord());
+                StatusWordSetAdapter.contains(
+                    cardSelectionRequest.getSuccessfulSelectionStatusWords(),
+                    fciResponse.getStatusWord());
           } else {
             fciResponse = null;
           }
@@ -635,15 +680,16 @@ private SelectionStatus processSelection(
    */
   private boolean checkPowerOnData(String powerOnData, InternalCardSelector cardSelector) {
 
-    String powerOnDataRegex = cardSelector.getPowerOnDataRegex();
     // check the power-on data
-    if (powerOnData != null && powerOnDataRegex != null && !powerOnData.matches(powerOnDataRegex)) {
+    if (powerOnData != null
+        && cardSelector.getPowerOnDataRegex() != null
+        && !cardSelector.getPowerOnDataPattern().matcher(powerOnData).matches()) {
       if (logger.isTraceEnabled()) {
         logger.trace(
             "[reader={}] Power-on data mismatched [powerOnData={}, powerOnDataRegex={}]",
             getName(),
             powerOnData,
-            powerOnDataRegex);
+            cardSelector.getPowerOnDataRegex());
       }
       // the power-on data have been rejected
       return false;
@@ -665,22 +711,17 @@ private ApduResponseAdapter selectByAid(InternalIsoCardSelector cardSelector)
 
     ApduResponseAdapter fciResponse;
 
-    // RL-SEL-P2LC.1
-    // RL-SEL-DFNAME.1
-    Assert.getInstance()
-        .notNull(cardSelector.getAid(), "aid")
-        .isInRange(cardSelector.getAid().length, 0, 16, "aid");
+    // The SELECT APPLICATION command is built and checked once per selector
+    byte[] selectApplicationCommand = cardSelector.getSelectApplicationCommand();
 
     if (readerSpi instanceof AutonomousSelectionReaderSpi) {
       byte[] aid = cardSelector.getAid();
-      byte p2 =
-          computeSelectApplicationP2(
-              cardSelector.getFileOccurrence(), cardSelector.getFileControlInformation());
+      byte p2 = selectApplicationCommand[3];
       byte[] selectionDataBytes =
           ((AutonomousSelectionReaderSpi) readerSpi).openChannelForAid(aid, p2);
       fciResponse = new ApduResponseAdapter(selectionDataBytes);
     } else {
-      fciResponse = processExplicitAidSelection(cardSelector);
+      fciResponse = processExplicitAidSelection(cardSelector.getAid(), selectApplicationCommand);
     }
     return fciResponse;
   }
@@ -689,36 +730,19 @@ private ApduResponseAdapter selectByAid(InternalIsoCardSelector cardSelector)
    * Sends the select application command to the card and returns the requested data according to
    * AidSelector attributes (ISO7816-4 selection data) into an {@link ApduResponseApi}.
    *
-   * @param cardSelector The card selector.
+   * @param aid The AID to select.
+   * @param selectApplicationCommand The prebuilt select application command (see {@link
+   *     InternalIsoCardSelector#getSelectApplicationCommand()}).
    * @return A not null {@link ApduResponseApi}.
    * @throws ReaderIOException if the communication with the reader has failed.
    * @throws CardIOException if the communication with the card has failed.
    */
-  private ApduResponseAdapter processExplicitAidSelection(InternalIsoCardSelector cardSelector)
-      throws CardIOException, ReaderIOException {
+  private ApduResponseAdapter processExplicitAidSelection(
+      byte[] aid, byte[] selectApplicationCommand) throws CardIOException, ReaderIOException {
 
-    final byte[] aid = cardSelector.getAid();
     if (logger.isDebugEnabled()) {
       logger.debug("[reader={}] Selecting application [aid={}]", getName(), HexUtil.toHex(aid));
     }
-    /*
-     * build a get response command the actual length expected by the card in the get response
-     * command is handled in transmitApdu
-     */
-    // RL-SEL-CLA.1
-    // RL-SEL-P2LC.1
-    byte[] selectApplicationCommand = new byte[6 + aid.length];
-    selectApplicationCommand[0] = (byte) 0x00; // CLA
-    selectApplicationCommand[1] = (byte) 0xA4; // INS
-    selectApplicationCommand[2] = (byte) 0x04; // P1: select by name
-    // P2: b0,b1 define the File occurrence, b2,b3 define the File control information
-    // we use the bitmask defined in the respective enums
-    selectApplicationCommand[3] =
-        computeSelectApplicationP2(
-            cardSelector.getFileOccurrence(), cardSelector.getFileControlInformation());
-    selectApplicationCommand[4] = (byte) (aid.length); // Lc
-    System.arraycopy(aid, 0, selectApplicationCommand, 5, aid.length); // data
-    selectApplicationCommand[5 + aid.length] = (byte) 0x00; // Le
 
     ApduRequest apduRequest = new ApduRequest(selectApplicationCommand);
 
@@ -729,57 +753,6 @@ private ApduResponseAdapter processExplicitAidSelection(InternalIsoCardSelector
     return processApduRequest(apduRequest);
   }
 
-  /**
-   * Computes the P2 parameter of the ISO7816-4 Select Application APDU command from the provided
-   * FileOccurrence and FileControlInformation.
-   *
-   * @param fileOccurrence The file's position relative to the current file.
-   * @param fileControlInformation The file control information output.
-   * @throws IllegalStateException If one of the provided argument is unexpected.
-   */
-  private byte computeSelectApplicationP2(
-      CommonIsoCardSelector.FileOccurrence fileOccurrence,
-      CommonIsoCardSelector.FileControlInformation fileControlInformation) {
-
-    byte p2;
-    switch (fileOccurrence) {
-      case FIRST:
-        p2 = (byte) 0x00;
-        break;
-      case LAST:
-        p2 = (byte) 0x01;
-        break;
-      case NEXT:
-        p2 = (byte) 0x02;
-        break;
-      case PREVIOUS:
-        p2 = (byte) 0x03;
-        break;
-      default:
-        throw new IllegalStateException("Unexpected FileOccurrence value: " + fileOccurrence);
-    }
-
-    switch (fileControlInformation) {
-      case FCI:
-        p2 |= (byte) 0x00;
-        break;
-      case FCP:
-        p2 |= (byte) 0x04;
-        break;
-      case FMD:
-        p2 |= (byte) 0x08;
-        break;
-      case NO_RESPONSE:
-        p2 |= (byte) 0x0C;
-        break;
-      default:
-        throw new IllegalStateException(
-            "Unexpected FileControlInformation value: " + fileControlInformation);
-    }
-
-    return p2;
-  }
-
   /** Close the logical channel. */
   private void closeLogicalChannel() {
     if (logger.isTraceEnabled()) {
@@ -864,15 +837,20 @@ private static class SelectionStatus {
   private static final class ApduRequest implements ApduRequestSpi {
 
     private static final int DEFAULT_SUCCESSFUL_CODE = 0x9000;
+    private static final Set<Integer> DEFAULT_SUCCESSFUL_STATUS_WORDS =
+        StatusWordSetAdapter.of(DEFAULT_SUCCESSFUL_CODE);
 
     private final byte[] apdu;
     private final Set<Integer> successfulStatusWords;
     private String info;
 
     private ApduRequest(byte[] apdu) {
+      this(apdu, DEFAULT_SUCCESSFUL_STATUS_WORDS);
+    }
+
+    private ApduRequest(byte[] apdu, Set<Integer> successfulStatusWords) {
       this.apdu = apdu;
-      this.successfulStatusWords = new HashSet<>();
-      this.successfulStatusWords.add(DEFAULT_SUCCESSFUL_CODE);
+      this.successfulStatusWords = successfulStatusWords;
     }
 
     private ApduRequest setInfo(final String info) {
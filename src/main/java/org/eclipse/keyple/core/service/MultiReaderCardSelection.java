@@ -0,0 +1,99 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import java.util.Collection;
+import java.util.concurrent.ExecutorService;
+import org.eclipse.keypop.reader.CardReader;
+import org.eclipse.keypop.reader.selection.CardSelectionManager;
+
+/**
+ * Card selection scenario to be processed concurrently on several readers.
+ *
+ * <p>The scenario is the one prepared in the {@link CardSelectionManager} provided at creation
+ * time. It is transmitted to each reader in a separate task, then the responses are parsed in the
+ * calling thread, one reader after the other, so that the card extensions are never invoked
+ * concurrently.
+ *
+ * <p>Each reader is left in the state defined by the channel control of the scenario, as with
+ * {@link CardSelectionManager#processCardSelectionScenario(CardReader)}.
+ *
+ * @since 3.5.0
+ */
+public interface MultiReaderCardSelection {
+
+  /**
+   * Requests to stop the processing as soon as the scenario has matched on a reader.
+   *
+   * <p>The tasks of the other readers are then discarded: those not yet started are not executed,
+   * those in progress are not interrupted, so as not to break a card exchange, but their result is
+   * not returned.
+   *
+   * <p>If the channel is kept open by the scenario, the channel of every reader other than the
+   * first matching one is released, as soon as its task ends. The results of the readers processed
+   * before the first match, which did not match, are still returned.
+   *
+   * <p>By default, the scenario is processed on all the readers.
+   *
+   * @return The current instance.
+   * @since 3.5.0
+   */
+  MultiReaderCardSelection setFirstMatchOnly();
+
+  /**
+   * Sets the maximum duration of the processing of the scenario on each reader, counted from the
+   * start of the task of the reader, so that the time spent waiting for a thread of the executor
+   * service is not taken into account.
+   *
+   * <p>The tasks of the readers not processed in time are discarded as with {@link
+   * #setFirstMatchOnly()}, and the channel of their reader is released when they end if the channel
+   * is kept open by the scenario.
+   *
+   * <p>By default, there is no timeout.
+   *
+   * @param readerTimeoutMillis The timeout in milliseconds, or 0 for no timeout.
+   * @return The current instance.
+   * @throws IllegalArgumentException If the timeout is negative.
+   * @since 3.5.0
+   */
+  MultiReaderCardSelection setReaderTimeout(long readerTimeoutMillis);
+
+  /**
+   * Sets the executor service on which the scenario is transmitted to the readers.
+   *
+   * <p>The executor service is not shut down by the service.
+   *
+   * <p>By default, the reader operation executor of the {@link
+   * org.eclipse.keyple.core.service.spi.ExecutorServiceFactorySpi} set in the service is used.
+   *
+   * @param executorService The executor service.
+   * @return The current instance.
+   * @throws IllegalArgumentException If the executor service is null.
+   * @since 3.5.0
+   */
+  MultiReaderCardSelection setExecutorService(ExecutorService executorService);
+
+  /**
+   * Processes the scenario on the provided readers and waits for the end of the processing.
+   *
+   * <p>If the calling thread is interrupted while waiting, the pending tasks are discarded and
+   * reported with an error, the interrupt status of the thread is restored and the results already
+   * available are returned.
+   *
+   * @param readers The readers, identified by distinct names.
+   * @return A new not null reference.
+   * @throws IllegalArgumentException If the collection is null or empty, or contains a reader that
+   *     is not registered in the service.
+   * @since 3.5.0
+   */
+  MultiReaderCardSelectionResult process(Collection<? extends CardReader> readers);
+}
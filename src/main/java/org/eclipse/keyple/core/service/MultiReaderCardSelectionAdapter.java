@@ -0,0 +1,436 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.keyple.core.util.Assert;
+import org.eclipse.keypop.card.CardBrokenCommunicationException;
+import org.eclipse.keypop.card.CardSelectionResponseApi;
+import org.eclipse.keypop.card.ChannelControl;
+import org.eclipse.keypop.card.ReaderBrokenCommunicationException;
+import org.eclipse.keypop.reader.CardCommunicationException;
+import org.eclipse.keypop.reader.CardReader;
+import org.eclipse.keypop.reader.ReaderCommunicationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Implementation of {@link MultiReaderCardSelection}.
+ *
+ * @since 3.5.0
+ */
+final class MultiReaderCardSelectionAdapter implements MultiReaderCardSelection {
+
+  private static final Logger logger =
+      LoggerFactory.getLogger(MultiReaderCardSelectionAdapter.class);
+
+  private final PreparedCardSelectionScenarioAdapter preparedCardSelectionScenario;
+  private boolean isFirstMatchOnly;
+  private long readerTimeoutMillis;
+  private ExecutorService executorService;
+
+  /**
+   * Constructor.
+   *
+   * @param preparedCardSelectionScenario The card selection scenario.
+   * @since 3.5.0
+   */
+  MultiReaderCardSelectionAdapter(
+      PreparedCardSelectionScenarioAdapter preparedCardSelectionScenario) {
+    this.preparedCardSelectionScenario = preparedCardSelectionScenario;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public MultiReaderCardSelection setFirstMatchOnly() {
+    isFirstMatchOnly = true;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public MultiReaderCardSelection setReaderTimeout(long readerTimeoutMillis) {
+    if (readerTimeoutMillis < 0) {
+      throw new IllegalArgumentException(
+          "Argument [readerTimeoutMillis] has a value [" + readerTimeoutMillis + "] less than [0]");
+    }
+    this.readerTimeoutMillis = readerTimeoutMillis;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public MultiReaderCardSelection setExecutorService(ExecutorService executorService) {
+    Assert.getInstance().notNull(executorService, "executorService");
+    this.executorService = executorService;
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public MultiReaderCardSelectionResult process(Collection<? extends CardReader> readers) {
+
+    Assert.getInstance().notEmpty(readers, "readers");
+
+    Map<String, AbstractReaderAdapter> readerAdapters =
+        new LinkedHashMap<String, AbstractReaderAdapter>();
+    for (CardReader reader : readers) {
+      AbstractReaderAdapter readerAdapter =
+          PreparedCardSelectionScenarioAdapter.getReaderAdapter(reader);
+      readerAdapters.put(readerAdapter.getName(), readerAdapter);
+    }
+
+    ExecutorService executor =
+        executorService != null
+            ? executorService
+            : SmartCardServiceAdapter.getInstance()
+                .getExecutorServiceFactory()
+                .getReaderOperationExecutor();
+    CompletionService<List<CardSelectionResponseApi>> completionService =
+        new ExecutorCompletionService<List<CardSelectionResponseApi>>(executor);
+    MultiReaderCardSelectionResultAdapter result = new MultiReaderCardSelectionResultAdapter();
+
+    // Submit one task per reader
+    Map<Future<List<CardSelectionResponseApi>>, SelectionTask> pendingTasks =
+        new LinkedHashMap<Future<List<CardSelectionResponseApi>>, SelectionTask>();
+    for (Map.Entry<String, AbstractReaderAdapter> entry : readerAdapters.entrySet()) {
+      SelectionTask task = new SelectionTask(entry.getKey(), entry.getValue());
+      try {
+        pendingTasks.put(completionService.submit(task), task);
+      } catch (RejectedExecutionException e) {
+        result.addError(
+            entry.getKey(),
+            new IllegalStateException(
+                "Failed to submit the card selection of reader '" + entry.getKey() + "'", e));
+      }
+    }
+
+    // Collect the tasks in their order of completion
+    try {
+      while (!pendingTasks.isEmpty()) {
+        Future<List<CardSelectionResponseApi>> future;
+        if (readerTimeoutMillis == 0) {
+          future = completionService.take();
+        } else {
+          future = completionService.poll(getWaitNanos(pendingTasks), TimeUnit.NANOSECONDS);
+        }
+        if (future != null) {
+          collectTask(pendingTasks.remove(future), future, result, executor);
+          if (isFirstMatchOnly && result.getFirstMatchingReaderName() != null) {
+            break;
+          }
+        }
+        if (readerTimeoutMillis != 0) {
+          discardTimedOutTasks(pendingTasks, result, executor);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      for (Map.Entry<Future<List<CardSelectionResponseApi>>, SelectionTask> entry :
+          pendingTasks.entrySet()) {
+        String readerName = entry.getValue().readerName;
+        discardTask(entry.getKey(), entry.getValue(), executor);
+        result.addError(
+            readerName,
+            new IllegalStateException(
+                "Interrupted while waiting for the card selection of reader '" + readerName + "'",
+                e));
+      }
+      pendingTasks.clear();
+    }
+
+    // Discard the remaining tasks after a first match
+    for (Map.Entry<Future<List<CardSelectionResponseApi>>, SelectionTask> entry :
+        pendingTasks.entrySet()) {
+      discardTask(entry.getKey(), entry.getValue(), executor);
+    }
+    return result;
+  }
+
+  /**
+   * Computes the time to wait for the next completion, until the earliest deadline of the started
+   * tasks, or for a whole timeout if no task has started yet (the tasks starting later have a later
+   * deadline).
+   *
+   * @param pendingTasks The pending tasks.
+   * @return A positive long.
+   */
+  private long getWaitNanos(
+      Map<Future<List<CardSelectionResponseApi>>, SelectionTask> pendingTasks) {
+    long readerTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(readerTimeoutMillis);
+    long now = System.nanoTime();
+    long waitNanos = readerTimeoutNanos;
+    for (SelectionTask task : pendingTasks.values()) {
+      if (task.isStarted) {
+        waitNanos = Math.min(waitNanos, task.startNanos + readerTimeoutNanos - now);
+      }
+    }
+    return Math.max(waitNanos, 0);
+  }
+
+  /**
+   * Discards the not completed tasks which have been running for longer than the reader timeout,
+   * and marks their readers as timed out.
+   *
+   * @param pendingTasks The pending tasks.
+   * @param result The result to complete.
+   * @param executor The executor service of the tasks.
+   */
+  private void discardTimedOutTasks(
+      Map<Future<List<CardSelectionResponseApi>>, SelectionTask> pendingTasks,
+      MultiReaderCardSelectionResultAdapter result,
+      ExecutorService executor) {
+    long readerTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(readerTimeoutMillis);
+    long now = System.nanoTime();
+    Iterator<Map.Entry<Future<List<CardSelectionResponseApi>>, SelectionTask>> iterator =
+        pendingTasks.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<Future<List<CardSelectionResponseApi>>, SelectionTask> entry = iterator.next();
+      SelectionTask task = entry.getValue();
+      // A completed task is collected at the next iteration
+      if (task.isStarted
+          && !entry.getKey().isDone()
+          && now - task.startNanos >= readerTimeoutNanos) {
+        logger.warn(
+            "[reader={}] Card selection timed out [readerTimeoutMillis={}]",
+            task.readerName,
+            readerTimeoutMillis);
+        discardTask(entry.getKey(), task, executor);
+        result.addTimedOut(task.readerName);
+        iterator.remove();
+      }
+    }
+  }
+
+  /**
+   * Discards a task whose result will not be returned.
+   *
+   * <p>A task not yet started is not executed. A task in progress is not interrupted, in order not
+   * to break a card exchange: the channel of its reader is released by the task itself when it
+   * ends. The channel of the reader of an already completed task is released at once.
+   *
+   * @param future The future of the task.
+   * @param task The task.
+   * @param executor The executor service of the tasks.
+   */
+  private void discardTask(
+      Future<List<CardSelectionResponseApi>> future, SelectionTask task, ExecutorService executor) {
+    future.cancel(false);
+    if (!task.discard()) {
+      releaseChannel(task.reader, executor);
+    }
+  }
+
+  /**
+   * Parses the responses of a completed task and adds the card selection result or the error to
+   * the provided result.
+   *
+   * <p>In first match mode, the channel of the reader is released if the reader is not the first
+   * matching one.
+   *
+   * @param task The completed task.
+   * @param future The future of the task.
+   * @param result The result to complete.
+   * @param executor The executor service of the tasks.
+   */
+  private void collectTask(
+      SelectionTask task,
+      Future<List<CardSelectionResponseApi>> future,
+      MultiReaderCardSelectionResultAdapter result,
+      ExecutorService executor) {
+    try {
+      List<CardSelectionResponseApi> cardSelectionResponses;
+      try {
+        cardSelectionResponses = future.get();
+      } catch (InterruptedException e) {
+        // Not expected since the task is completed
+        Thread.currentThread().interrupt();
+        result.addError(
+            task.readerName, new IllegalStateException("Interrupted while collecting", e));
+        return;
+      } catch (ExecutionException e) {
+        result.addError(task.readerName, toRuntimeException(e.getCause()));
+        return;
+      }
+      try {
+        result.addCardSelectionResult(
+            task.readerName,
+            preparedCardSelectionScenario.parseCardSelectionResponses(cardSelectionResponses),
+            hasMatched(cardSelectionResponses));
+      } catch (RuntimeException e) {
+        result.addError(task.readerName, e);
+      }
+    } finally {
+      if (isFirstMatchOnly && !task.readerName.equals(result.getFirstMatchingReaderName())) {
+        releaseChannel(task.reader, executor);
+      }
+    }
+  }
+
+  /**
+   * Releases the channel of a reader whose card selection result is not returned, on the executor
+   * service of the tasks if possible, if the channel is kept open by the scenario.
+   *
+   * @param reader The reader.
+   * @param executor The executor service of the tasks.
+   */
+  private void releaseChannel(final AbstractReaderAdapter reader, ExecutorService executor) {
+    if (!isChannelKeptOpen()) {
+      return;
+    }
+    Runnable releaseTask =
+        new Runnable() {
+          @Override
+          public void run() {
+            releaseChannelQuietly(reader);
+          }
+        };
+    try {
+      executor.execute(releaseTask);
+    } catch (RejectedExecutionException e) {
+      releaseTask.run();
+    }
+  }
+
+  /**
+   * @return true if the channel is kept open at the end of the scenario.
+   */
+  private boolean isChannelKeptOpen() {
+    return preparedCardSelectionScenario.getChannelControl() == ChannelControl.KEEP_OPEN;
+  }
+
+  /**
+   * Releases the channel of a reader, logging the possible error.
+   *
+   * @param reader The reader.
+   */
+  private static void releaseChannelQuietly(AbstractReaderAdapter reader) {
+    try {
+      reader.releaseChannel();
+    } catch (Exception e) {
+      logger.warn(
+          "[reader={}] Failed to release the channel of a discarded card selection [message={}]",
+          reader.getName(),
+          e.getMessage());
+    }
+  }
+
+  /**
+   * Converts the cause of the failure of a task into the exception thrown by {@link
+   * org.eclipse.keypop.reader.selection.CardSelectionManager#processCardSelectionScenario}.
+   *
+   * @param cause The cause.
+   * @return A not null reference.
+   */
+  private static RuntimeException toRuntimeException(Throwable cause) {
+    if (cause instanceof ReaderBrokenCommunicationException) {
+      return new ReaderCommunicationException(cause.getMessage(), cause);
+    } else if (cause instanceof CardBrokenCommunicationException) {
+      return new CardCommunicationException(cause.getMessage(), cause);
+    } else if (cause instanceof RuntimeException) {
+      return (RuntimeException) cause;
+    } else if (cause instanceof Error) {
+      throw (Error) cause;
+    }
+    return new IllegalStateException(cause);
+  }
+
+  /**
+   * @param cardSelectionResponses The card selection responses.
+   * @return true if at least one of the responses has matched.
+   */
+  private static boolean hasMatched(List<CardSelectionResponseApi> cardSelectionResponses) {
+    for (CardSelectionResponseApi cardSelectionResponse : cardSelectionResponses) {
+      if (cardSelectionResponse.hasMatched()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Task transmitting the card selection requests of the scenario to a reader.
+   *
+   * <p>The task records its start time, from which its timeout is counted, and releases the channel
+   * of its reader when it ends if it has been discarded in the meantime.
+   */
+  private final class SelectionTask implements Callable<List<CardSelectionResponseApi>> {
+
+    private static final int PENDING = 0;
+    private static final int COMPLETED = 1;
+    private static final int DISCARDED = 2;
+
+    private final String readerName;
+    private final AbstractReaderAdapter reader;
+    private final AtomicInteger state = new AtomicInteger(PENDING);
+    private volatile long startNanos;
+    private volatile boolean isStarted;
+
+    private SelectionTask(String readerName, AbstractReaderAdapter reader) {
+      this.readerName = readerName;
+      this.reader = reader;
+    }
+
+    /**
+     * Marks the task as discarded.
+     *
+     * @return true if the task was not completed yet, and will therefore release the channel of its
+     *     reader itself if it runs.
+     */
+    private boolean discard() {
+      return state.compareAndSet(PENDING, DISCARDED);
+    }
+
+    @Override
+    public List<CardSelectionResponseApi> call()
+        throws ReaderBrokenCommunicationException, CardBrokenCommunicationException {
+      startNanos = System.nanoTime();
+      isStarted = true;
+      try {
+        return preparedCardSelectionScenario.transmitCardSelectionRequests(reader);
+      } finally {
+        if (!state.compareAndSet(PENDING, COMPLETED) && isChannelKeptOpen()) {
+          releaseChannelQuietly(reader);
+        }
+      }
+    }
+  }
+}
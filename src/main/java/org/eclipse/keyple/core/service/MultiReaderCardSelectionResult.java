@@ -0,0 +1,76 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import java.util.Set;
+import org.eclipse.keypop.reader.selection.CardSelectionResult;
+
+/**
+ * Results of the processing of a {@link MultiReaderCardSelection}.
+ *
+ * <p>The readers are identified by their names.
+ *
+ * @since 3.5.0
+ */
+public interface MultiReaderCardSelectionResult {
+
+  /**
+   * Gets the name of the first reader on which the scenario has matched, in the order of
+   * completion of the processing.
+   *
+   * @return Null if the scenario has matched on no reader.
+   * @since 3.5.0
+   */
+  String getFirstMatchingReaderName();
+
+  /**
+   * Gets the names of the readers on which the scenario has been processed successfully.
+   *
+   * @return A not null reference.
+   * @since 3.5.0
+   */
+  Set<String> getProcessedReaderNames();
+
+  /**
+   * Gets the card selection result of a reader on which the scenario has been processed
+   * successfully.
+   *
+   * @param readerName The name of the reader.
+   * @return Null if the scenario has not been processed successfully on the reader.
+   * @since 3.5.0
+   */
+  CardSelectionResult getCardSelectionResult(String readerName);
+
+  /**
+   * Gets the error that occurred during the processing of the scenario on a reader.
+   *
+   * <p>The error is one of those thrown by {@link
+   * org.eclipse.keypop.reader.selection.CardSelectionManager#processCardSelectionScenario}, or an
+   * {@link IllegalStateException} if the task could not be submitted to the executor service or if
+   * the calling thread has been interrupted while waiting for it.
+   *
+   * @param readerName The name of the reader.
+   * @return Null if no error occurred on the reader.
+   * @since 3.5.0
+   */
+  RuntimeException getError(String readerName);
+
+  /**
+   * Indicates whether the processing on a reader has been discarded because it lasted longer than
+   * the reader timeout.
+   *
+   * @param readerName The name of the reader.
+   * @return true if the reader timed out.
+   * @since 3.5.0
+   */
+  boolean isTimedOut(String readerName);
+}
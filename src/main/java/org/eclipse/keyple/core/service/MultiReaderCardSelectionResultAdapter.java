@@ -0,0 +1,121 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import org.eclipse.keypop.reader.selection.CardSelectionResult;
+
+/**
+ * Implementation of {@link MultiReaderCardSelectionResult}.
+ *
+ * @since 3.5.0
+ */
+final class MultiReaderCardSelectionResultAdapter implements MultiReaderCardSelectionResult {
+
+  private final Map<String, CardSelectionResult> cardSelectionResults =
+      new LinkedHashMap<String, CardSelectionResult>();
+  private final Map<String, RuntimeException> errors = new HashMap<String, RuntimeException>();
+  private final Set<String> timedOutReaderNames = new HashSet<String>();
+  private String firstMatchingReaderName;
+
+  /**
+   * Adds the card selection result of a reader.
+   *
+   * @param readerName The name of the reader.
+   * @param cardSelectionResult The card selection result.
+   * @param hasMatched true if the scenario has matched on the reader.
+   * @since 3.5.0
+   */
+  void addCardSelectionResult(
+      String readerName, CardSelectionResult cardSelectionResult, boolean hasMatched) {
+    cardSelectionResults.put(readerName, cardSelectionResult);
+    if (hasMatched && firstMatchingReaderName == null) {
+      firstMatchingReaderName = readerName;
+    }
+  }
+
+  /**
+   * Adds the error that occurred on a reader.
+   *
+   * @param readerName The name of the reader.
+   * @param error The error.
+   * @since 3.5.0
+   */
+  void addError(String readerName, RuntimeException error) {
+    errors.put(readerName, error);
+  }
+
+  /**
+   * Marks a reader as timed out.
+   *
+   * @param readerName The name of the reader.
+   * @since 3.5.0
+   */
+  void addTimedOut(String readerName) {
+    timedOutReaderNames.add(readerName);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public String getFirstMatchingReaderName() {
+    return firstMatchingReaderName;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public Set<String> getProcessedReaderNames() {
+    return Collections.unmodifiableSet(cardSelectionResults.keySet());
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public CardSelectionResult getCardSelectionResult(String readerName) {
+    return cardSelectionResults.get(readerName);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public RuntimeException getError(String readerName) {
+    return errors.get(readerName);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public boolean isTimedOut(String readerName) {
+    return timedOutReaderNames.contains(readerName);
+  }
+}
@@ -66,15 +66,6 @@ public void addObserver(PluginObserverSpi observer) {
     if (countObservers() == 1) {
       logger.info("[plugin={}] Starting reader monitoring", getName());
       thread = new EventThread(getName());
-      thread.setName("PluginEventMonitoringThread");
-      thread.setUncaughtExceptionHandler(
-          new Thread.UncaughtExceptionHandler() {
-            public void uncaughtException(Thread t, Throwable e) {
-              getObservationManager()
-                  .getObservationExceptionHandler()
-                  .onPluginObservationError(thread.pluginName, e);
-            }
-          });
       thread.start();
     }
   }
@@ -115,21 +106,48 @@ public void clearObservers() {
   /** Local thread to monitoring readers presence */
   private EventThread thread;
 
-  /** Thread in charge of reporting live events */
-  private class EventThread extends Thread {
+  /**
+   * Thread in charge of reporting live events.
+   *
+   * <p>The underlying thread is provided by the executor service factory of the service.
+   */
+  private class EventThread implements Runnable {
     private final String pluginName;
     private final long monitoringCycleDuration;
-    private boolean running = true;
+    private final Thread thread;
+    private volatile boolean running = true;
 
     private EventThread(String pluginName) {
       this.pluginName = pluginName;
       monitoringCycleDuration = observablePluginSpi.getMonitoringCycleDuration();
+      thread =
+          SmartCardServiceAdapter.getInstance()
+              .getExecutorServiceFactory()
+              .createPluginMonitoringThread(this, pluginName);
+      thread.setUncaughtExceptionHandler(
+          new Thread.UncaughtExceptionHandler() {
+            public void uncaughtException(Thread t, Throwable e) {
+              getObservationManager()
+                  .getObservationExceptionHandler()
+                  .onPluginObservationError(EventThread.this.pluginName, e);
+            }
+          });
+    }
+
+    /** Starts the thread. */
+    private void start() {
+      thread.start();
+    }
+
+    /** Indicates whether the thread is alive. */
+    private boolean isAlive() {
+      return thread.isAlive();
     }
 
     /** Marks the thread as one that should end when the last threadWaitTimeout occurs */
     private void end() {
       running = false;
-      interrupt();
+      thread.interrupt();
     }
 
     /** Indicate whether the thread is running or not */
@@ -147,7 +165,7 @@ private void addReader(String readerName) throws PluginIOException {
       ReaderSpi readerSpi = observablePluginSpi.searchReader(readerName);
       LocalReaderAdapter reader = buildLocalReaderAdapter(readerSpi);
       reader.register();
-      getReadersMap().put(reader.getName(), reader);
+      putReader(reader.getName(), reader);
       logger.info(
           "[plugin={}] New plugged reader added to readers list [reader={}]",
           pluginName,
@@ -157,7 +175,7 @@ private void addReader(String readerName) throws PluginIOException {
     /** Removes a reader from the list of known readers (by the plugin) */
     private void removeReader(CardReader reader) {
       ((LocalReaderAdapter) reader).unregister();
-      getReadersMap().remove(reader.getName());
+      removeReaderByKey(reader.getName());
       logger.info(
           "[plugin={}] Unplugged reader removed from readers list [reader={}]",
           pluginName,
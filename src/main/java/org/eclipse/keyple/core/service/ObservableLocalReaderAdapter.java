@@ -61,6 +61,8 @@ class ObservableLocalReaderAdapter extends LocalReaderAdapter
   private NotificationMode notificationMode;
   private DetectionMode detectionMode;
   private boolean isCardRemovedEventNotificationEnabled;
+  private volatile AdaptivePollingPolicyAdapter pollingPolicy;
+  private volatile long pollingIntervalMillis;
 
   /**
    * The events that drive the card's observation state machine.
@@ -164,6 +166,49 @@ final DetectionMode getDetectionMode() {
     return detectionMode;
   }
 
+  /**
+   * Gets the adaptive polling policy of the active monitoring jobs.
+   *
+   * @return Null if the monitoring jobs use the fixed intervals provided by the reader extension.
+   * @since 3.5.0
+   */
+  final AdaptivePollingPolicyAdapter getPollingPolicy() {
+    return pollingPolicy;
+  }
+
+  /**
+   * Sets the adaptive polling policy of the active monitoring jobs.
+   *
+   * <p>The policy is applied from the next start of an active monitoring job.
+   *
+   * @param pollingPolicy The policy, null to use the fixed intervals provided by the reader
+   *     extension.
+   * @since 3.5.0
+   */
+  final void setPollingPolicy(AdaptivePollingPolicyAdapter pollingPolicy) {
+    this.pollingPolicy = pollingPolicy;
+  }
+
+  /**
+   * Gets the current interval between two polls of the active monitoring jobs.
+   *
+   * @return 0 if no active monitoring job has been started yet.
+   * @since 3.5.0
+   */
+  final long getPollingIntervalMillis() {
+    return pollingIntervalMillis;
+  }
+
+  /**
+   * Sets the current interval between two polls, invoked by the active monitoring jobs.
+   *
+   * @param pollingIntervalMillis The interval in milliseconds.
+   * @since 3.5.0
+   */
+  final void setPollingIntervalMillis(long pollingIntervalMillis) {
+    this.pollingIntervalMillis = pollingIntervalMillis;
+  }
+
   /**
    * Get the current monitoring state
    *
@@ -387,8 +432,12 @@ final void notifyObservers(final CardReaderEvent event) {
           event.getType().name(),
           countObservers());
     }
+    // The JSON data forwarded by the distributed local services is encoded once per notification
+    DistributedLocalServiceAdapter.EventBody eventBody =
+        new DistributedLocalServiceAdapter.EventBody(
+            DistributedUtilAdapter.JsonProperty.READER_EVENT, event);
     for (CardReaderObserverSpi observer : observationManager.getObservers()) {
-      notifyObserver(observer, event);
+      notifyObserver(observer, event, eventBody);
     }
     if (logger.isDebugEnabled()) {
       logger.debug("[reader={}] Observers notified", getName());
@@ -400,10 +449,18 @@ final void notifyObservers(final CardReaderEvent event) {
    *
    * @param observer The observer to notify.
    * @param event The event.
+   * @param eventBody The JSON data of the event, for the distributed local services.
    */
-  private void notifyObserver(CardReaderObserverSpi observer, CardReaderEvent event) {
+  private void notifyObserver(
+      CardReaderObserverSpi observer,
+      CardReaderEvent event,
+      DistributedLocalServiceAdapter.EventBody eventBody) {
     try {
-      observer.onReaderEvent(event);
+      if (observer instanceof DistributedLocalServiceAdapter) {
+        ((DistributedLocalServiceAdapter) observer).onReaderEvent(event, eventBody);
+      } else {
+        observer.onReaderEvent(event);
+      }
     } catch (Exception e) {
       try {
         observationManager
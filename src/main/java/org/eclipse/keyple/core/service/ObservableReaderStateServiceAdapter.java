@@ -13,12 +13,12 @@
 
 import java.util.EnumMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import org.eclipse.keyple.core.plugin.spi.reader.observable.ObservableReaderSpi;
 import org.eclipse.keyple.core.plugin.spi.reader.observable.state.insertion.*;
 import org.eclipse.keyple.core.plugin.spi.reader.observable.state.processing.CardPresenceMonitorBlockingSpi;
 import org.eclipse.keyple.core.plugin.spi.reader.observable.state.processing.WaitForCardRemovalDuringProcessingBlockingSpi;
 import org.eclipse.keyple.core.plugin.spi.reader.observable.state.removal.*;
+import org.eclipse.keyple.core.service.spi.ExecutorServiceFactorySpi;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -39,8 +39,14 @@ final class ObservableReaderStateServiceAdapter {
 
   private final ObservableReaderSpi readerSpi;
 
-  /** Executor service to provide a unique thread used by the various monitoring jobs */
-  private final ExecutorService executorService;
+  /** Factory of the executor services used by the monitoring jobs */
+  private final ExecutorServiceFactorySpi executorServiceFactory;
+
+  /**
+   * Executor service to provide a unique thread used by the passive monitoring jobs, created only
+   * if the reader requires at least one passive monitoring job
+   */
+  private ExecutorService executorService;
 
   /** Map of all instantiated states possible */
   private final EnumMap<
@@ -61,7 +67,7 @@ final class ObservableReaderStateServiceAdapter {
     readerSpi = reader.getObservableReaderSpi();
 
     states = new EnumMap<>(AbstractObservableStateAdapter.MonitoringState.class);
-    executorService = Executors.newSingleThreadExecutor();
+    executorServiceFactory = SmartCardServiceAdapter.getInstance().getExecutorServiceFactory();
 
     // initialize states for each case:
 
@@ -84,11 +90,17 @@ final class ObservableReaderStateServiceAdapter {
                   .getCardInsertionMonitoringSleepDuration()
               : 100;
       CardInsertionActiveMonitoringJobAdapter cardInsertionActiveMonitoringJobAdapter =
-          new CardInsertionActiveMonitoringJobAdapter(reader, sleepDurationMillis, true);
+          new CardInsertionActiveMonitoringJobAdapter(
+              reader,
+              sleepDurationMillis,
+              true,
+              executorServiceFactory.getMonitoringEventExecutor());
       states.put(
           AbstractObservableStateAdapter.MonitoringState.WAIT_FOR_CARD_INSERTION,
           new WaitForCardInsertionStateAdapter(
-              this.reader, cardInsertionActiveMonitoringJobAdapter, executorService));
+              this.reader,
+              cardInsertionActiveMonitoringJobAdapter,
+              executorServiceFactory.getMonitoringScheduler()));
     } else if (readerSpi instanceof CardInsertionWaiterBlockingSpi
         || readerSpi instanceof WaitForCardInsertionBlockingSpi) {
       final CardInsertionPassiveMonitoringJobAdapter cardInsertionPassiveMonitoringJobAdapter =
@@ -96,7 +108,7 @@ final class ObservableReaderStateServiceAdapter {
       states.put(
           AbstractObservableStateAdapter.MonitoringState.WAIT_FOR_CARD_INSERTION,
           new WaitForCardInsertionStateAdapter(
-              this.reader, cardInsertionPassiveMonitoringJobAdapter, executorService));
+              this.reader, cardInsertionPassiveMonitoringJobAdapter, getExecutorService()));
     } else {
       throw new IllegalStateException(
           "Cannot cast the provided reader extension to a valid WaitForCardInsertion interface. "
@@ -112,7 +124,7 @@ final class ObservableReaderStateServiceAdapter {
       states.put(
           AbstractObservableStateAdapter.MonitoringState.WAIT_FOR_CARD_PROCESSING,
           new WaitForCardProcessingStateAdapter(
-              this.reader, cardRemovalPassiveMonitoringJobAdapter, executorService));
+              this.reader, cardRemovalPassiveMonitoringJobAdapter, getExecutorService()));
     } else {
       states.put(
           AbstractObservableStateAdapter.MonitoringState.WAIT_FOR_CARD_PROCESSING,
@@ -134,11 +146,16 @@ final class ObservableReaderStateServiceAdapter {
                   .getCardRemovalMonitoringSleepDuration()
               : 100;
       CardRemovalActiveMonitoringJobAdapter cardRemovalActiveMonitoringJobAdapter =
-          new CardRemovalActiveMonitoringJobAdapter(this.reader, sleepDurationMillis);
+          new CardRemovalActiveMonitoringJobAdapter(
+              this.reader,
+              sleepDurationMillis,
+              executorServiceFactory.getMonitoringEventExecutor());
       states.put(
           AbstractObservableStateAdapter.MonitoringState.WAIT_FOR_CARD_REMOVAL,
           new WaitForCardRemovalStateAdapter(
-              this.reader, cardRemovalActiveMonitoringJobAdapter, executorService));
+              this.reader,
+              cardRemovalActiveMonitoringJobAdapter,
+              executorServiceFactory.getMonitoringScheduler()));
     } else if (readerSpi instanceof CardRemovalWaiterBlockingSpi
         || readerSpi instanceof WaitForCardRemovalBlockingSpi) {
       final CardRemovalPassiveMonitoringJobAdapter cardRemovalPassiveMonitoringJobAdapter =
@@ -146,7 +163,7 @@ final class ObservableReaderStateServiceAdapter {
       states.put(
           AbstractObservableStateAdapter.MonitoringState.WAIT_FOR_CARD_REMOVAL,
           new WaitForCardRemovalStateAdapter(
-              this.reader, cardRemovalPassiveMonitoringJobAdapter, executorService));
+              this.reader, cardRemovalPassiveMonitoringJobAdapter, getExecutorService()));
     } else {
       throw new IllegalStateException(
           "Cannot cast the provided reader extension to a valid WaitForCardRemoval interface. "
@@ -157,6 +174,19 @@ final class ObservableReaderStateServiceAdapter {
     switchState(AbstractObservableStateAdapter.MonitoringState.WAIT_FOR_START_DETECTION);
   }
 
+  /**
+   * Gets the executor service dedicated to the passive monitoring jobs of the reader, creating it
+   * if needed.
+   *
+   * @return A not null reference.
+   */
+  private ExecutorService getExecutorService() {
+    if (executorService == null) {
+      executorService = executorServiceFactory.createReaderMonitoringExecutor(reader.getName());
+    }
+    return executorService;
+  }
+
   /**
    * Thread safe method to communicate an internal event to this reader Use this method to inform
    * the reader of external event like a tag discovered or a card inserted
@@ -236,14 +266,16 @@ synchronized AbstractObservableStateAdapter.MonitoringState getCurrentMonitoring
   }
 
   /**
-   * Shuts down the {@link ExecutorService} of this reader.
+   * Shuts down the {@link ExecutorService} of this reader, if any.
    *
    * <p>This method should be invoked when the reader monitoring ends in order to stop any remaining
-   * threads.
+   * threads. The shared monitoring scheduler is not affected.
    *
    * @since 2.0.0
    */
   void shutdown() {
-    executorService.shutdown();
+    if (executorService != null) {
+      executorService.shutdown();
+    }
   }
 }
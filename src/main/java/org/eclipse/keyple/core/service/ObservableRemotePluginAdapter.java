@@ -16,8 +16,6 @@
 import com.google.gson.JsonObject;
 import java.util.HashSet;
 import java.util.Set;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import org.eclipse.keyple.core.distributed.remote.ObservableRemotePluginApi;
 import org.eclipse.keyple.core.distributed.remote.spi.ObservableRemotePluginSpi;
 import org.eclipse.keyple.core.distributed.remote.spi.ObservableRemoteReaderSpi;
@@ -43,7 +41,7 @@ final class ObservableRemotePluginAdapter extends RemotePluginAdapter
   private final ObservableRemotePluginSpi observableRemotePluginSpi;
   private final ObservationManagerAdapter<PluginObserverSpi, PluginObservationExceptionHandlerSpi>
       observationManager;
-  private final ExecutorService eventNotificationExecutorService;
+  private final EventDispatcherAdapter<PluginObserverSpi, PluginEvent> eventDispatcher;
 
   /**
    * Constructor.
@@ -56,17 +54,26 @@ final class ObservableRemotePluginAdapter extends RemotePluginAdapter
     this.observableRemotePluginSpi = observableRemotePluginSpi;
     this.observableRemotePluginSpi.connect((ObservableRemotePluginApi) this);
     observationManager = new ObservationManagerAdapter<>(getName(), null);
-    eventNotificationExecutorService =
-        observableRemotePluginSpi.getExecutorService() != null
-            ? observableRemotePluginSpi.getExecutorService()
-            : Executors.newCachedThreadPool();
+    SmartCardServiceAdapter smartCardService = SmartCardServiceAdapter.getInstance();
+    eventDispatcher =
+        new EventDispatcherAdapter<PluginObserverSpi, PluginEvent>(
+            "plugin",
+            getName(),
+            observableRemotePluginSpi.getExecutorService() != null
+                ? observableRemotePluginSpi.getExecutorService()
+                : smartCardService
+                    .getExecutorServiceFactory()
+                    .getEventNotificationExecutor(getName(), null),
+            new PluginEventHandler(),
+            smartCardService.getRemoteEventQueueCapacity(),
+            smartCardService.getRemoteEventOverflowPolicy());
   }
 
   /**
    * Notifies asynchronously all registered observers with the provided {@link PluginEvent}.
    *
-   * <p>This method never throws an exception. Any errors at runtime are notified to the application
-   * using the exception handler.
+   * <p>The event is queued and delivered by the event dispatcher of the plugin, after the events
+   * previously notified.
    *
    * @param event The plugin event.
    * @since 2.0.0
@@ -82,42 +89,23 @@ private void notifyObservers(final PluginEvent event) {
           countObservers());
     }
 
-    Set<PluginObserverSpi> observers = observationManager.getObservers();
-
-    for (final PluginObserverSpi observer : observers) {
-      eventNotificationExecutorService.execute(
-          new Runnable() {
-            @Override
-            public void run() {
-              try {
-                observer.onPluginEvent(event);
-              } catch (Exception e) {
-                try {
-                  observationManager
-                      .getObservationExceptionHandler()
-                      .onPluginObservationError(getName(), e);
-                } catch (Exception e2) {
-                  logger.error(
-                      "[plugin={}] Failed to notify observer [reason={}]",
-                      getName(),
-                      e.getMessage(),
-                      e);
-                  logger.error(
-                      "[plugin={}] Failed to notify observation exception handler [reason={}]",
-                      getName(),
-                      e2.getMessage(),
-                      e2);
-                }
-              }
-            }
-          });
-    }
+    eventDispatcher.dispatch(event, observationManager.getObservers());
 
     if (logger.isDebugEnabled()) {
       logger.debug("[plugin={}] Observers notified", getName());
     }
   }
 
+  /**
+   * Gets the metrics of the event dispatcher of the plugin.
+   *
+   * @return A not null reference.
+   * @since 3.5.0
+   */
+  EventDispatchMetrics getEventDispatchMetrics() {
+    return eventDispatcher;
+  }
+
   /**
    * {@inheritDoc}
    *
@@ -128,6 +116,7 @@ void unregister() {
     Set<String> unregisteredReaderNames = new HashSet<>(getReaderNames());
     notifyObservers(
         new PluginEventAdapter(getName(), unregisteredReaderNames, PluginEvent.Type.UNAVAILABLE));
+    eventDispatcher.close();
     clearObservers();
     super.unregister();
   }
@@ -265,7 +254,7 @@ public void addRemoteReader(RemoteReaderSpi remoteReaderSpi, int clientCoreApiLe
     }
 
     // Register the reader.
-    getReadersMap().put(remoteReaderAdapter.getName(), remoteReaderAdapter);
+    putReader(remoteReaderAdapter.getName(), remoteReaderAdapter);
     remoteReaderAdapter.register();
 
     if (logger.isDebugEnabled()) {
@@ -292,7 +281,7 @@ public void removeRemoteReader(String remoteReaderName) {
     CardReader reader = getReader(remoteReaderName);
 
     if (reader instanceof RemoteReaderAdapter) {
-      getReadersMap().remove(reader.getName());
+      removeReaderByKey(reader.getName());
       ((RemoteReaderAdapter) reader).unregister();
     } else {
       throw new IllegalArgumentException(
@@ -337,4 +326,55 @@ public void onPluginEvent(String jsonData) {
     // Notify the observers for a plugin event.
     notifyObservers(pluginEvent);
   }
+
+  /**
+   * Handler of the events of the plugin.
+   *
+   * @since 3.5.0
+   */
+  private final class PluginEventHandler
+      implements EventDispatcherAdapter.EventHandler<PluginObserverSpi, PluginEvent> {
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Errors are notified to the application using the exception handler.
+     *
+     * @since 3.5.0
+     */
+    @Override
+    public void notifyObserver(PluginObserverSpi observer, PluginEvent event) {
+      try {
+        observer.onPluginEvent(event);
+      } catch (Exception e) {
+        try {
+          observationManager
+              .getObservationExceptionHandler()
+              .onPluginObservationError(getName(), e);
+        } catch (Exception e2) {
+          logger.error(
+              "[plugin={}] Failed to notify observer [reason={}]", getName(), e.getMessage(), e);
+          logger.error(
+              "[plugin={}] Failed to notify observation exception handler [reason={}]",
+              getName(),
+              e2.getMessage(),
+              e2);
+        }
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>A reader connection is cancelled by the disconnection of the same readers.
+     *
+     * @since 3.5.0
+     */
+    @Override
+    public boolean isCancelledBy(PluginEvent event, PluginEvent nextEvent) {
+      return event.getType() == PluginEvent.Type.READER_CONNECTED
+          && nextEvent.getType() == PluginEvent.Type.READER_DISCONNECTED
+          && event.getReaderNames().equals(nextEvent.getReaderNames());
+    }
+  }
 }
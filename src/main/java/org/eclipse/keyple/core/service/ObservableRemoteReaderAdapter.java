@@ -14,9 +14,6 @@
 import static org.eclipse.keyple.core.service.DistributedUtilAdapter.*;
 
 import com.google.gson.JsonObject;
-import java.util.*;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import org.eclipse.keyple.core.distributed.remote.spi.ObservableRemoteReaderSpi;
 import org.eclipse.keyple.core.util.Assert;
 import org.eclipse.keyple.core.util.json.JsonUtil;
@@ -41,7 +38,7 @@ final class ObservableRemoteReaderAdapter extends RemoteReaderAdapter
   private final ObservationManagerAdapter<
           CardReaderObserverSpi, CardReaderObservationExceptionHandlerSpi>
       observationManager;
-  private final ExecutorService eventNotificationExecutorService;
+  private final EventDispatcherAdapter<CardReaderObserverSpi, CardReaderEvent> eventDispatcher;
 
   /**
    * Constructor.
@@ -58,12 +55,25 @@ final class ObservableRemoteReaderAdapter extends RemoteReaderAdapter
     super(observableRemoteReaderSpi, pluginName, null, clientCoreApiLevel);
     this.observableRemoteReaderSpi = observableRemoteReaderSpi;
     this.observationManager = new ObservationManagerAdapter<>(pluginName, getName());
-    this.eventNotificationExecutorService = Executors.newCachedThreadPool();
+    SmartCardServiceAdapter smartCardService = SmartCardServiceAdapter.getInstance();
+    this.eventDispatcher =
+        new EventDispatcherAdapter<CardReaderObserverSpi, CardReaderEvent>(
+            "reader",
+            getName(),
+            smartCardService
+                .getExecutorServiceFactory()
+                .getEventNotificationExecutor(pluginName, getName()),
+            new ReaderEventHandler(),
+            smartCardService.getRemoteEventQueueCapacity(),
+            smartCardService.getRemoteEventOverflowPolicy());
   }
 
   /**
    * Notifies asynchronously all registered observers with the provided {@link CardReaderEvent}.
    *
+   * <p>The event is queued and delivered by the event dispatcher of the reader, after the events
+   * previously notified.
+   *
    * @param event The reader event.
    * @since 2.0.0
    */
@@ -77,42 +87,23 @@ void notifyObservers(final CardReaderEvent event) {
           countObservers());
     }
 
-    Set<CardReaderObserverSpi> observersCopy = observationManager.getObservers();
-
-    for (final CardReaderObserverSpi observer : observersCopy) {
-      eventNotificationExecutorService.execute(
-          new Runnable() {
-            @Override
-            public void run() {
-              try {
-                observer.onReaderEvent(event);
-              } catch (Exception e) {
-                try {
-                  observationManager
-                      .getObservationExceptionHandler()
-                      .onReaderObservationError(getPluginName(), getName(), e);
-                } catch (Exception e2) {
-                  logger.error(
-                      "[reader={}] Failed to notify observer [reason={}]",
-                      getName(),
-                      e.getMessage(),
-                      e);
-                  logger.error(
-                      "[reader={}] Failed to notify observation exception handler [reason={}]",
-                      getName(),
-                      e2.getMessage(),
-                      e2);
-                }
-              }
-            }
-          });
-    }
+    eventDispatcher.dispatch(event, observationManager.getObservers());
 
     if (logger.isDebugEnabled()) {
       logger.debug("[reader={}] Observers notified", getName());
     }
   }
 
+  /**
+   * Gets the metrics of the event dispatcher of the reader.
+   *
+   * @return A not null reference.
+   * @since 3.5.0
+   */
+  EventDispatchMetrics getEventDispatchMetrics() {
+    return eventDispatcher;
+  }
+
   /**
    * If defined, the prepared {@link CardSelectionScenarioAdapter} will be processed as soon as a
    * card is inserted. The result of this request set will be added to the reader event notified to
@@ -163,7 +154,7 @@ void scheduleCardSelectionScenario(
    *
    * <p>Notifies all observers of the UNAVAILABLE event.<br>
    * Stops the card detection unconditionally.<br>
-   * Shuts down the reader's executor service.
+   * Closes the reader's event dispatcher.
    *
    * @since 2.0.0
    */
@@ -177,6 +168,7 @@ void unregister() {
     }
     notifyObservers(
         new ReaderEventAdapter(getPluginName(), getName(), CardReaderEvent.Type.UNAVAILABLE, null));
+    eventDispatcher.close();
     clearObservers();
     super.unregister();
   }
@@ -331,4 +323,55 @@ public void setReaderObservationExceptionHandler(
     checkStatus();
     observationManager.setObservationExceptionHandler(exceptionHandler);
   }
+
+  /**
+   * Handler of the events of the reader.
+   *
+   * @since 3.5.0
+   */
+  private final class ReaderEventHandler
+      implements EventDispatcherAdapter.EventHandler<CardReaderObserverSpi, CardReaderEvent> {
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Errors are notified to the application using the exception handler.
+     *
+     * @since 3.5.0
+     */
+    @Override
+    public void notifyObserver(CardReaderObserverSpi observer, CardReaderEvent event) {
+      try {
+        observer.onReaderEvent(event);
+      } catch (Exception e) {
+        try {
+          observationManager
+              .getObservationExceptionHandler()
+              .onReaderObservationError(getPluginName(), getName(), e);
+        } catch (Exception e2) {
+          logger.error(
+              "[reader={}] Failed to notify observer [reason={}]", getName(), e.getMessage(), e);
+          logger.error(
+              "[reader={}] Failed to notify observation exception handler [reason={}]",
+              getName(),
+              e2.getMessage(),
+              e2);
+        }
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>A card insertion or match is cancelled by the removal of the card.
+     *
+     * @since 3.5.0
+     */
+    @Override
+    public boolean isCancelledBy(CardReaderEvent event, CardReaderEvent nextEvent) {
+      return (event.getType() == CardReaderEvent.Type.CARD_INSERTED
+              || event.getType() == CardReaderEvent.Type.CARD_MATCHED)
+          && nextEvent.getType() == CardReaderEvent.Type.CARD_REMOVED;
+    }
+  }
 }
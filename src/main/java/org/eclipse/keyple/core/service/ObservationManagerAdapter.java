@@ -11,6 +11,7 @@
  ************************************************************************************** */
 package org.eclipse.keyple.core.service;
 
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.Set;
 import org.eclipse.keyple.core.util.Assert;
@@ -20,6 +21,10 @@
 /**
  * Manager of event observations for plugins and readers.
  *
+ * <p>The observers are kept in an immutable snapshot replaced at each subscription change
+ * (copy-on-write), so that the notifications read the current observers without locking or
+ * copying.
+ *
  * @param <T> The type of the observers ({@link
  *     org.eclipse.keyple.core.service.spi.PluginObserverSpi} or {@link
  *     org.eclipse.keypop.reader.spi.CardReaderObserverSpi}).
@@ -33,9 +38,10 @@
   private static final Logger logger = LoggerFactory.getLogger(ObservationManagerAdapter.class);
 
   private final String ownerComponent;
-  private final Set<T> observers;
   private final Object monitor;
 
+  private volatile Set<T> observers;
+
   private S exceptionHandler;
 
   /**
@@ -51,7 +57,7 @@
     } else {
       ownerComponent = "[reader=" + readerName + "]";
     }
-    observers = new LinkedHashSet<>(1);
+    observers = Collections.emptySet();
     monitor = new Object();
   }
 
@@ -69,7 +75,11 @@ void addObserver(T observer) {
       throw new IllegalStateException("No exception handler is defined");
     }
     synchronized (monitor) {
-      observers.add(observer);
+      if (!observers.contains(observer)) {
+        Set<T> newObservers = new LinkedHashSet<>(observers);
+        newObservers.add(observer);
+        observers = Collections.unmodifiableSet(newObservers);
+      }
     }
     logger.info(
         "{} Observer added [className={}]", ownerComponent, observer.getClass().getSimpleName());
@@ -84,7 +94,11 @@ void addObserver(T observer) {
    */
   void removeObserver(T observer) {
     synchronized (monitor) {
-      observers.remove(observer);
+      if (observers.contains(observer)) {
+        Set<T> newObservers = new LinkedHashSet<>(observers);
+        newObservers.remove(observer);
+        observers = Collections.unmodifiableSet(newObservers);
+      }
     }
     logger.info(
         "{} Observer removed [className={}]",
@@ -99,7 +113,7 @@ void removeObserver(T observer) {
    */
   void clearObservers() {
     synchronized (monitor) {
-      observers.clear();
+      observers = Collections.emptySet();
     }
     logger.info("{} Observers removed", ownerComponent);
   }
@@ -127,15 +141,15 @@ void setObservationExceptionHandler(S exceptionHandler) {
   }
 
   /**
-   * Gets a copy of the set of all observers.
+   * Gets the current snapshot of the set of all observers.
+   *
+   * <p>The snapshot is not modified by the next subscription changes.
    *
-   * @return A not null copy.
+   * @return A not null unmodifiable set.
    * @since 2.0.0
    */
   Set<T> getObservers() {
-    synchronized (monitor) {
-      return new LinkedHashSet<>(observers);
-    }
+    return observers;
   }
 
   /**
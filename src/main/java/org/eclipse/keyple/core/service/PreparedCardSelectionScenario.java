@@ -0,0 +1,97 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import java.util.concurrent.CompletableFuture;
+import org.eclipse.keypop.reader.CardReader;
+import org.eclipse.keypop.reader.selection.CardSelectionManager;
+
+/**
+ * Immutable card selection scenario, prepared once from a {@link CardSelectionManager} and
+ * reusable for any number of processings.
+ *
+ * <p>Unlike the {@link CardSelectionManager}, a prepared scenario does not keep the state of its
+ * processings: each processing returns its own {@link ProcessedCardSelectionScenario}. A prepared
+ * scenario may therefore be processed concurrently on several readers, from several threads.
+ *
+ * <p>The responses are parsed by the card selection extensions of the scenario one at a time, so
+ * that the extensions are not required to be thread-safe.
+ *
+ * @since 3.5.0
+ */
+public interface PreparedCardSelectionScenario {
+
+  /**
+   * Processes the scenario on the provided reader.
+   *
+   * <p>The reader is left in the state defined by the channel control of the scenario, as with
+   * {@link CardSelectionManager#processCardSelectionScenario(CardReader)}.
+   *
+   * @param reader The reader.
+   * @return A new not null reference.
+   * @throws IllegalArgumentException If the reader is null or not registered in the service.
+   * @throws IllegalStateException If the reader is no longer registered.
+   * @throws org.eclipse.keypop.reader.ReaderCommunicationException If a reader communication
+   *     error occurs.
+   * @throws org.eclipse.keypop.reader.CardCommunicationException If a card communication error
+   *     occurs.
+   * @throws org.eclipse.keypop.reader.selection.InvalidCardResponseException If a card response
+   *     cannot be parsed.
+   * @since 3.5.0
+   */
+  ProcessedCardSelectionScenario process(CardReader reader);
+
+  /**
+   * Processes asynchronously the scenario on the provided reader (see {@link
+   * #process(CardReader)}).
+   *
+   * <p>On a remote reader whose SPI implements {@link
+   * org.eclipse.keyple.core.service.spi.AsyncRemoteReaderSpi}, no thread is blocked during the
+   * round trip with the distributed local service. Otherwise, the card selection requests are
+   * transmitted synchronously by the executor service provided by {@link
+   * org.eclipse.keyple.core.service.spi.ExecutorServiceFactorySpi#getReaderOperationExecutor()}.
+   *
+   * <p>The returned future is completed exceptionally with the exceptions that {@link
+   * #process(CardReader)} would have thrown.
+   *
+   * @param reader The reader.
+   * @return A new not null reference.
+   * @throws IllegalArgumentException If the reader is null or not registered in the service.
+   * @throws IllegalStateException If the reader is no longer registered.
+   * @since 3.5.0
+   */
+  CompletableFuture<ProcessedCardSelectionScenario> processAsync(CardReader reader);
+
+  /**
+   * Parses a processed card selection scenario exported in JSON format by {@link
+   * ProcessedCardSelectionScenario#exportProcessedCardSelectionScenario()} or by {@link
+   * CardSelectionManager#exportProcessedCardSelectionScenario()}, for the same scenario.
+   *
+   * @param processedCardSelectionScenario The processed card selection scenario in JSON format.
+   * @return A new not null reference.
+   * @throws IllegalArgumentException If the JSON is null, empty, malformed or inconsistent with
+   *     the scenario.
+   * @throws org.eclipse.keypop.reader.selection.InvalidCardResponseException If a card response
+   *     cannot be parsed.
+   * @since 3.5.0
+   */
+  ProcessedCardSelectionScenario importProcessedCardSelectionScenario(
+      String processedCardSelectionScenario);
+
+  /**
+   * Creates a new processing of the scenario on several readers concurrently.
+   *
+   * @return A new not null reference.
+   * @since 3.5.0
+   */
+  MultiReaderCardSelection createMultiReaderCardSelection();
+}
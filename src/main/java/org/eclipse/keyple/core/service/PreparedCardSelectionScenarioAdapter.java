@@ -0,0 +1,219 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiConsumer;
+import org.eclipse.keyple.core.util.Assert;
+import org.eclipse.keypop.card.CardBrokenCommunicationException;
+import org.eclipse.keypop.card.CardSelectionResponseApi;
+import org.eclipse.keypop.card.ChannelControl;
+import org.eclipse.keypop.card.ReaderBrokenCommunicationException;
+import org.eclipse.keypop.card.spi.CardSelectionExtensionSpi;
+import org.eclipse.keypop.reader.CardCommunicationException;
+import org.eclipse.keypop.reader.CardReader;
+import org.eclipse.keypop.reader.ReaderCommunicationException;
+import org.eclipse.keypop.reader.selection.CardSelectionResult;
+
+/**
+ * Implementation of {@link PreparedCardSelectionScenario}.
+ *
+ * @since 3.5.0
+ */
+final class PreparedCardSelectionScenarioAdapter implements PreparedCardSelectionScenario {
+
+  private final CardSelectionScenarioAdapter cardSelectionScenario;
+  private final List<CardSelectionExtensionSpi> cardSelections;
+
+  /**
+   * Constructor.
+   *
+   * @param cardSelectionScenario The snapshot of the card selection scenario.
+   * @param cardSelections The snapshot of the card selection extensions used to parse the
+   *     responses, in the order of the card selections.
+   * @since 3.5.0
+   */
+  PreparedCardSelectionScenarioAdapter(
+      CardSelectionScenarioAdapter cardSelectionScenario,
+      List<CardSelectionExtensionSpi> cardSelections) {
+    this.cardSelectionScenario = cardSelectionScenario;
+    this.cardSelections = cardSelections;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public ProcessedCardSelectionScenario process(CardReader reader) {
+    List<CardSelectionResponseApi> cardSelectionResponses;
+    try {
+      cardSelectionResponses = transmitCardSelectionRequests(getReaderAdapter(reader));
+    } catch (ReaderBrokenCommunicationException e) {
+      throw new ReaderCommunicationException(e.getMessage(), e);
+    } catch (CardBrokenCommunicationException e) {
+      throw new CardCommunicationException(e.getMessage(), e);
+    }
+    return new ProcessedCardSelectionScenarioAdapter(
+        cardSelectionResponses, parseCardSelectionResponses(cardSelectionResponses));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public CompletableFuture<ProcessedCardSelectionScenario> processAsync(CardReader reader) {
+    final CompletableFuture<ProcessedCardSelectionScenario> processedCardSelectionScenario =
+        new CompletableFuture<ProcessedCardSelectionScenario>();
+    getReaderAdapter(reader)
+        .transmitCardSelectionRequestsAsync(
+            cardSelectionScenario.getCardSelectors(),
+            cardSelectionScenario.getCardSelectionRequests(),
+            cardSelectionScenario.getMultiSelectionProcessing(),
+            cardSelectionScenario.getChannelControl())
+        .whenComplete(
+            new BiConsumer<List<CardSelectionResponseApi>, Throwable>() {
+              @Override
+              public void accept(
+                  List<CardSelectionResponseApi> cardSelectionResponses, Throwable error) {
+                if (error != null) {
+                  processedCardSelectionScenario.completeExceptionally(toProcessingError(error));
+                  return;
+                }
+                try {
+                  processedCardSelectionScenario.complete(
+                      new ProcessedCardSelectionScenarioAdapter(
+                          cardSelectionResponses,
+                          parseCardSelectionResponses(cardSelectionResponses)));
+                } catch (RuntimeException e) {
+                  processedCardSelectionScenario.completeExceptionally(e);
+                }
+              }
+            });
+    return processedCardSelectionScenario;
+  }
+
+  /**
+   * Converts an error of the asynchronous transmission of the card selection requests into the
+   * exception thrown by {@link #process(CardReader)} in the same situation.
+   *
+   * @param error The error.
+   * @return A not null reference.
+   */
+  private static Throwable toProcessingError(Throwable error) {
+    Throwable cause =
+        error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    if (cause instanceof ReaderBrokenCommunicationException) {
+      return new ReaderCommunicationException(cause.getMessage(), cause);
+    }
+    if (cause instanceof CardBrokenCommunicationException) {
+      return new CardCommunicationException(cause.getMessage(), cause);
+    }
+    return cause;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public ProcessedCardSelectionScenario importProcessedCardSelectionScenario(
+      String processedCardSelectionScenario) {
+    List<CardSelectionResponseApi> cardSelectionResponses =
+        CardSelectionManagerAdapter.parseProcessedCardSelectionScenario(
+            processedCardSelectionScenario);
+    return new ProcessedCardSelectionScenarioAdapter(
+        cardSelectionResponses, parseCardSelectionResponses(cardSelectionResponses));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public MultiReaderCardSelection createMultiReaderCardSelection() {
+    return new MultiReaderCardSelectionAdapter(this);
+  }
+
+  /**
+   * Transmits the card selection requests of the scenario to the provided reader.
+   *
+   * <p>This method may be invoked concurrently.
+   *
+   * @param reader The reader.
+   * @return A not null reference.
+   * @throws ReaderBrokenCommunicationException If a reader communication error occurs.
+   * @throws CardBrokenCommunicationException If a card communication error occurs.
+   * @throws IllegalStateException If the reader is no longer registered.
+   * @since 3.5.0
+   */
+  List<CardSelectionResponseApi> transmitCardSelectionRequests(AbstractReaderAdapter reader)
+      throws ReaderBrokenCommunicationException, CardBrokenCommunicationException {
+    return reader.transmitCardSelectionRequests(
+        cardSelectionScenario.getCardSelectors(),
+        cardSelectionScenario.getCardSelectionRequests(),
+        cardSelectionScenario.getMultiSelectionProcessing(),
+        cardSelectionScenario.getChannelControl());
+  }
+
+  /**
+   * Parses the provided card selection responses with the card selection extensions of the
+   * scenario.
+   *
+   * <p>This method may be invoked concurrently: the extensions are not required to be thread-safe,
+   * so the parsings are done one at a time. They are short compared with the card exchanges.
+   *
+   * @param cardSelectionResponses The card selection responses.
+   * @return A not null reference.
+   * @throws IllegalArgumentException If the list is empty or larger than the scenario.
+   * @throws org.eclipse.keypop.reader.selection.InvalidCardResponseException If a card response
+   *     cannot be parsed.
+   * @since 3.5.0
+   */
+  CardSelectionResult parseCardSelectionResponses(
+      List<CardSelectionResponseApi> cardSelectionResponses) {
+    synchronized (cardSelections) {
+      return CardSelectionManagerAdapter.parseCardSelectionResponses(
+          cardSelections, cardSelectionResponses);
+    }
+  }
+
+  /**
+   * @return The channel control of the scenario.
+   * @since 3.5.0
+   */
+  ChannelControl getChannelControl() {
+    return cardSelectionScenario.getChannelControl();
+  }
+
+  /**
+   * Gets the adapter of the provided reader.
+   *
+   * @param reader The reader.
+   * @return A not null reference.
+   * @throws IllegalArgumentException If the reader is null or not registered in the service.
+   */
+  static AbstractReaderAdapter getReaderAdapter(CardReader reader) {
+    Assert.getInstance().notNull(reader, "reader");
+    if (!(reader instanceof AbstractReaderAdapter)) {
+      throw new IllegalArgumentException("Reader '" + reader.getName() + "' is not registered");
+    }
+    return (AbstractReaderAdapter) reader;
+  }
+}
@@ -0,0 +1,40 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import org.eclipse.keypop.reader.selection.CardSelectionResult;
+
+/**
+ * Result of a processing of a {@link PreparedCardSelectionScenario}.
+ *
+ * @since 3.5.0
+ */
+public interface ProcessedCardSelectionScenario {
+
+  /**
+   * Gets the card selection result.
+   *
+   * @return A not null reference.
+   * @since 3.5.0
+   */
+  CardSelectionResult getCardSelectionResult();
+
+  /**
+   * Exports the card selection responses in JSON format, in order to be imported in another
+   * context with the same scenario.
+   *
+   * @return A not empty JSON string.
+   * @see PreparedCardSelectionScenario#importProcessedCardSelectionScenario(String)
+   * @since 3.5.0
+   */
+  String exportProcessedCardSelectionScenario();
+}
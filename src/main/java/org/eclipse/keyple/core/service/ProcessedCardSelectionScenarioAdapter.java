@@ -0,0 +1,62 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import java.util.List;
+import org.eclipse.keyple.core.util.json.JsonUtil;
+import org.eclipse.keypop.card.CardSelectionResponseApi;
+import org.eclipse.keypop.reader.selection.CardSelectionResult;
+
+/**
+ * Implementation of {@link ProcessedCardSelectionScenario}.
+ *
+ * @since 3.5.0
+ */
+final class ProcessedCardSelectionScenarioAdapter implements ProcessedCardSelectionScenario {
+
+  private final List<CardSelectionResponseApi> cardSelectionResponses;
+  private final CardSelectionResult cardSelectionResult;
+
+  /**
+   * Constructor.
+   *
+   * @param cardSelectionResponses The card selection responses.
+   * @param cardSelectionResult The card selection result parsed from the responses.
+   * @since 3.5.0
+   */
+  ProcessedCardSelectionScenarioAdapter(
+      List<CardSelectionResponseApi> cardSelectionResponses,
+      CardSelectionResult cardSelectionResult) {
+    this.cardSelectionResponses = cardSelectionResponses;
+    this.cardSelectionResult = cardSelectionResult;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public CardSelectionResult getCardSelectionResult() {
+    return cardSelectionResult;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public String exportProcessedCardSelectionScenario() {
+    return JsonUtil.toJson(cardSelectionResponses);
+  }
+}
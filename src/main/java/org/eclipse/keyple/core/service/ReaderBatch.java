@@ -0,0 +1,91 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import org.eclipse.keypop.card.CardBrokenCommunicationException;
+import org.eclipse.keypop.card.ChannelControl;
+import org.eclipse.keypop.card.ReaderBrokenCommunicationException;
+import org.eclipse.keypop.card.UnexpectedStatusWordException;
+import org.eclipse.keypop.card.spi.CardRequestSpi;
+
+/**
+ * Ordered list of card requests and reader operations to be executed on a reader as a whole.
+ *
+ * <p>On a remote reader, the whole batch is executed by the distributed local service in a single
+ * round trip, instead of one round trip per operation. On a local reader, the steps are simply
+ * executed one after the other.
+ *
+ * <p>Each step may define a stop condition: if the condition is met, the result of the step is
+ * kept and the following steps are not executed. If a step fails, the execution ends and the
+ * exception is thrown, as if the steps had been executed individually.
+ *
+ * <p>An instance is obtained with {@link SmartCardService#createReaderBatch(String)} and is not
+ * thread-safe.
+ *
+ * @since 3.5.0
+ */
+public interface ReaderBatch {
+
+  /**
+   * Adds a step transmitting a card request (see {@link
+   * org.eclipse.keypop.card.ProxyReaderApi#transmitCardRequest(CardRequestSpi, ChannelControl)}).
+   *
+   * @param cardRequest The card request.
+   * @param channelControl The channel control to apply after the processing of the request.
+   * @param stopIfUnsuccessful true if the batch must stop after this step when the status word of
+   *     at least one APDU response is not one of the successful status words of its request. The
+   *     batch also stops after this step if the card request itself requires to stop on an
+   *     unsuccessful status word and receives one: the responses received until then are kept as
+   *     the result of the step.
+   * @return The current instance.
+   * @throws IllegalArgumentException If a parameter is null.
+   * @since 3.5.0
+   */
+  ReaderBatch addCardRequest(
+      CardRequestSpi cardRequest, ChannelControl channelControl, boolean stopIfUnsuccessful);
+
+  /**
+   * Adds a step checking the presence of a card in the reader (see {@link
+   * org.eclipse.keypop.reader.CardReader#isCardPresent()}).
+   *
+   * @param stopIfCardAbsent true if the batch must stop after this step when no card is present.
+   * @return The current instance.
+   * @since 3.5.0
+   */
+  ReaderBatch addCardPresenceCheck(boolean stopIfCardAbsent);
+
+  /**
+   * Adds a step releasing the physical channel (see {@link
+   * org.eclipse.keypop.card.ProxyReaderApi#releaseChannel()}).
+   *
+   * @return The current instance.
+   * @since 3.5.0
+   */
+  ReaderBatch addReleaseChannel();
+
+  /**
+   * Executes the steps in the order in which they were added.
+   *
+   * @return A not null reference.
+   * @throws IllegalStateException If the reader is no longer registered.
+   * @throws ReaderBrokenCommunicationException If a reader communication error occurs.
+   * @throws CardBrokenCommunicationException If a card communication error occurs.
+   * @throws UnexpectedStatusWordException If a card request requiring it to stop on an
+   *     unsuccessful status word receives one without the card response being available (remote
+   *     reader whose local side does not provide it).
+   * @since 3.5.0
+   */
+  ReaderBatchResult execute()
+      throws ReaderBrokenCommunicationException,
+          CardBrokenCommunicationException,
+          UnexpectedStatusWordException;
+}
@@ -0,0 +1,259 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.keyple.core.service.DistributedUtilAdapter.ReaderService;
+import org.eclipse.keyple.core.util.Assert;
+import org.eclipse.keypop.card.ApduResponseApi;
+import org.eclipse.keypop.card.CardBrokenCommunicationException;
+import org.eclipse.keypop.card.CardResponseApi;
+import org.eclipse.keypop.card.ChannelControl;
+import org.eclipse.keypop.card.ReaderBrokenCommunicationException;
+import org.eclipse.keypop.card.UnexpectedStatusWordException;
+import org.eclipse.keypop.card.spi.ApduRequestSpi;
+import org.eclipse.keypop.card.spi.CardRequestSpi;
+
+/**
+ * Implementation of {@link ReaderBatch}.
+ *
+ * @since 3.5.0
+ */
+final class ReaderBatchAdapter implements ReaderBatch {
+
+  private final AbstractReaderAdapter reader;
+  private final List<Step> steps = new ArrayList<>();
+
+  /**
+   * Constructor.
+   *
+   * @param reader The target reader.
+   * @since 3.5.0
+   */
+  ReaderBatchAdapter(AbstractReaderAdapter reader) {
+    this.reader = reader;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public ReaderBatch addCardRequest(
+      CardRequestSpi cardRequest, ChannelControl channelControl, boolean stopIfUnsuccessful) {
+    Assert.getInstance()
+        .notNull(cardRequest, "cardRequest")
+        .notNull(channelControl, "channelControl");
+    steps.add(
+        new Step(
+            ReaderService.TRANSMIT_CARD_REQUEST, cardRequest, channelControl, stopIfUnsuccessful));
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public ReaderBatch addCardPresenceCheck(boolean stopIfCardAbsent) {
+    steps.add(new Step(ReaderService.IS_CARD_PRESENT, null, null, stopIfCardAbsent));
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public ReaderBatch addReleaseChannel() {
+    steps.add(new Step(ReaderService.RELEASE_CHANNEL, null, null, false));
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The execution is delegated to the remote reader if the target reader is remote.
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public ReaderBatchResult execute()
+      throws ReaderBrokenCommunicationException,
+          CardBrokenCommunicationException,
+          UnexpectedStatusWordException {
+    List<Step> stepsToExecute = new ArrayList<>(steps);
+    List<Object> results;
+    if (reader instanceof RemoteReaderAdapter) {
+      results = ((RemoteReaderAdapter) reader).executeBatch(stepsToExecute);
+    } else {
+      results = executeSequentially(reader, stepsToExecute);
+    }
+    return new ReaderBatchResultAdapter(stepsToExecute, results);
+  }
+
+  /**
+   * Executes the provided steps one after the other on the provided reader, until the stop
+   * condition of a step is met.
+   *
+   * @param reader The target reader.
+   * @param steps The steps to execute.
+   * @return The results of the executed steps, in the order of the steps: a {@link
+   *     CardResponseApi} for a card request, a {@link Boolean} for a card presence check, null for
+   *     a channel release.
+   * @throws ReaderBrokenCommunicationException If a reader communication error occurs.
+   * @throws CardBrokenCommunicationException If a card communication error occurs.
+   * @throws UnexpectedStatusWordException If a card request requiring it to stop on an
+   *     unsuccessful status word receives one without the card response being available.
+   * @since 3.5.0
+   */
+  static List<Object> executeSequentially(AbstractReaderAdapter reader, List<Step> steps)
+      throws ReaderBrokenCommunicationException,
+          CardBrokenCommunicationException,
+          UnexpectedStatusWordException {
+    List<Object> results = new ArrayList<>(steps.size());
+    for (Step step : steps) {
+      Object result;
+      switch (step.getOperation()) {
+        case TRANSMIT_CARD_REQUEST:
+          try {
+            result = reader.transmitCardRequest(step.getCardRequest(), step.getChannelControl());
+          } catch (UnexpectedStatusWordException e) {
+            // Keep the responses received until the unsuccessful status word as the step result
+            if (e.getCardResponse() == null) {
+              throw e;
+            }
+            result = e.getCardResponse();
+          }
+          break;
+        case IS_CARD_PRESENT:
+          result = reader.isCardPresent();
+          break;
+        case RELEASE_CHANNEL:
+          reader.releaseChannel();
+          result = null;
+          break;
+        default:
+          throw new IllegalArgumentException(
+              "Unsupported batch operation: " + step.getOperation().name());
+      }
+      results.add(result);
+      if (step.isStopConditionMet(result)) {
+        break;
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Step of a batch.
+   *
+   * @since 3.5.0
+   */
+  static final class Step {
+
+    private final ReaderService operation;
+    private final CardRequestSpi cardRequest;
+    private final ChannelControl channelControl;
+    private final boolean stopIfUnsuccessful;
+
+    /**
+     * Constructor.
+     *
+     * @param operation The reader service to execute ({@link ReaderService#TRANSMIT_CARD_REQUEST},
+     *     {@link ReaderService#IS_CARD_PRESENT} or {@link ReaderService#RELEASE_CHANNEL}).
+     * @param cardRequest The card request (card request step only).
+     * @param channelControl The channel control (card request step only).
+     * @param stopIfUnsuccessful true if the batch must stop when the step is unsuccessful.
+     * @since 3.5.0
+     */
+    Step(
+        ReaderService operation,
+        CardRequestSpi cardRequest,
+        ChannelControl channelControl,
+        boolean stopIfUnsuccessful) {
+      this.operation = operation;
+      this.cardRequest = cardRequest;
+      this.channelControl = channelControl;
+      this.stopIfUnsuccessful = stopIfUnsuccessful;
+    }
+
+    /**
+     * @return A not null reference.
+     * @since 3.5.0
+     */
+    ReaderService getOperation() {
+      return operation;
+    }
+
+    /**
+     * @return Null if the step is not a card request.
+     * @since 3.5.0
+     */
+    CardRequestSpi getCardRequest() {
+      return cardRequest;
+    }
+
+    /**
+     * @return Null if the step is not a card request.
+     * @since 3.5.0
+     */
+    ChannelControl getChannelControl() {
+      return channelControl;
+    }
+
+    /**
+     * @return true if the batch must stop when the step is unsuccessful.
+     * @since 3.5.0
+     */
+    boolean isStopIfUnsuccessful() {
+      return stopIfUnsuccessful;
+    }
+
+    /**
+     * Checks whether the provided result of the step meets its stop condition.
+     *
+     * <p>A card request step also stops the batch when the card request itself requires to stop on
+     * an unsuccessful status word and has received one.
+     *
+     * @param result The result of the step.
+     * @return true if the batch must stop after this step.
+     * @since 3.5.0
+     */
+    boolean isStopConditionMet(Object result) {
+      switch (operation) {
+        case TRANSMIT_CARD_REQUEST:
+          if (!stopIfUnsuccessful && !cardRequest.stopOnUnsuccessfulStatusWord()) {
+            return false;
+          }
+          List<ApduRequestSpi> apduRequests = cardRequest.getApduRequests();
+          List<ApduResponseApi> apduResponses = ((CardResponseApi) result).getApduResponses();
+          for (int i = 0; i < apduResponses.size() && i < apduRequests.size(); i++) {
+            if (!StatusWordSetAdapter.contains(
+                apduRequests.get(i).getSuccessfulStatusWords(),
+                apduResponses.get(i).getStatusWord())) {
+              return true;
+            }
+          }
+          return false;
+        case IS_CARD_PRESENT:
+          return stopIfUnsuccessful && !((Boolean) result);
+        default:
+          return false;
+      }
+    }
+  }
+}
@@ -0,0 +1,61 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import org.eclipse.keypop.card.CardResponseApi;
+
+/**
+ * Results of the execution of a {@link ReaderBatch}.
+ *
+ * <p>The steps are identified by their index in the order in which they were added to the batch.
+ *
+ * @since 3.5.0
+ */
+public interface ReaderBatchResult {
+
+  /**
+   * Gets the number of steps executed.
+   *
+   * @return A positive int, lower than the number of steps of the batch if it has been stopped.
+   * @since 3.5.0
+   */
+  int getExecutedStepCount();
+
+  /**
+   * Indicates whether the execution has been stopped by the stop condition of a step.
+   *
+   * @return true if the last executed step met its stop condition.
+   * @since 3.5.0
+   */
+  boolean isStopped();
+
+  /**
+   * Gets the card response of an executed card request step.
+   *
+   * @param stepIndex The index of the step.
+   * @return A not null reference.
+   * @throws IllegalArgumentException If the step has not been executed or is not a card request.
+   * @since 3.5.0
+   */
+  CardResponseApi getCardResponse(int stepIndex);
+
+  /**
+   * Gets the result of an executed card presence check step.
+   *
+   * @param stepIndex The index of the step.
+   * @return true if a card was present.
+   * @throws IllegalArgumentException If the step has not been executed or is not a card presence
+   *     check.
+   * @since 3.5.0
+   */
+  boolean isCardPresent(int stepIndex);
+}
@@ -0,0 +1,101 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import java.util.List;
+import org.eclipse.keyple.core.service.DistributedUtilAdapter.ReaderService;
+import org.eclipse.keypop.card.CardResponseApi;
+
+/**
+ * Implementation of {@link ReaderBatchResult}.
+ *
+ * @since 3.5.0
+ */
+final class ReaderBatchResultAdapter implements ReaderBatchResult {
+
+  private final List<ReaderBatchAdapter.Step> steps;
+  private final List<Object> results;
+
+  /**
+   * Constructor.
+   *
+   * @param steps All the steps of the batch.
+   * @param results The results of the executed steps (see {@link
+   *     ReaderBatchAdapter#executeSequentially(AbstractReaderAdapter, List)}).
+   * @since 3.5.0
+   */
+  ReaderBatchResultAdapter(List<ReaderBatchAdapter.Step> steps, List<Object> results) {
+    this.steps = steps;
+    this.results = results;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public int getExecutedStepCount() {
+    return results.size();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public boolean isStopped() {
+    int lastIndex = results.size() - 1;
+    return lastIndex >= 0 && steps.get(lastIndex).isStopConditionMet(results.get(lastIndex));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public CardResponseApi getCardResponse(int stepIndex) {
+    return (CardResponseApi) getResult(stepIndex, ReaderService.TRANSMIT_CARD_REQUEST);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public boolean isCardPresent(int stepIndex) {
+    return (Boolean) getResult(stepIndex, ReaderService.IS_CARD_PRESENT);
+  }
+
+  /**
+   * Gets the result of an executed step.
+   *
+   * @param stepIndex The index of the step.
+   * @param expectedOperation The expected operation of the step.
+   * @return The result.
+   * @throws IllegalArgumentException If the step has not been executed or is not of the expected
+   *     operation.
+   */
+  private Object getResult(int stepIndex, ReaderService expectedOperation) {
+    if (stepIndex < 0 || stepIndex >= results.size()) {
+      throw new IllegalArgumentException("Step " + stepIndex + " has not been executed");
+    }
+    if (steps.get(stepIndex).getOperation() != expectedOperation) {
+      throw new IllegalArgumentException(
+          "Step " + stepIndex + " is not a " + expectedOperation.name() + " step");
+    }
+    return results.get(stepIndex);
+  }
+}
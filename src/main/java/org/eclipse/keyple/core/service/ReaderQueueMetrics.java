@@ -0,0 +1,55 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+/**
+ * Metrics of the queue serializing the requests processed by a distributed local service on a
+ * given reader (see {@link DistributedLocalService#getReaderQueueMetrics(String)}).
+ *
+ * <p>The values are read live and are not guaranteed to be consistent with each other.
+ *
+ * @since 3.5.0
+ */
+public interface ReaderQueueMetrics {
+
+  /**
+   * Gets the number of requests submitted on the reader and not yet started.
+   *
+   * @return A positive int.
+   * @since 3.5.0
+   */
+  int getQueueDepth();
+
+  /**
+   * Gets the number of requests started since the registration of the local service.
+   *
+   * @return A positive long.
+   * @since 3.5.0
+   */
+  long getStartedRequestCount();
+
+  /**
+   * Gets the average time spent by the started requests in the queue.
+   *
+   * @return A positive double, 0 if no request has been started.
+   * @since 3.5.0
+   */
+  double getAverageWaitTimeMillis();
+
+  /**
+   * Gets the longest time spent by a started request in the queue.
+   *
+   * @return A positive double, 0 if no request has been started.
+   * @since 3.5.0
+   */
+  double getMaxWaitTimeMillis();
+}
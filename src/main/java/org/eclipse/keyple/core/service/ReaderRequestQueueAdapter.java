@@ -0,0 +1,200 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Queue serializing the requests processed by a distributed local service on a given reader.
+ *
+ * <p>The requests of a reader are executed one after the other, in their order of submission, by
+ * the executor service provided by {@link
+ * org.eclipse.keyple.core.service.spi.ExecutorServiceFactorySpi#getReaderOperationExecutor()}. Each
+ * request is submitted to the executor service as a separate task only when the previous one is
+ * completed, so that a busy reader never holds a thread while other readers are waiting for one.
+ *
+ * <p>A request whose caller waits for its result anyway is executed directly by the calling thread
+ * when the queue is idle, without any thread hop; the queue is then only used in case of
+ * contention.
+ *
+ * @since 3.5.0
+ */
+final class ReaderRequestQueueAdapter implements ReaderQueueMetrics {
+
+  private static final double NANOS_PER_MILLI = 1000000.0;
+
+  private final Queue<Request> pendingRequests = new ArrayDeque<Request>();
+  private boolean isRequestInProgress;
+  private long startedRequestCount;
+  private long totalWaitTimeNanos;
+  private long maxWaitTimeNanos;
+
+  /**
+   * Submits a request to be executed after the completion of the previous ones.
+   *
+   * @param operation The operation processing the request.
+   * @return A future completed with the result of the operation, or completed exceptionally with
+   *     the exception thrown by the operation or with a {@link
+   *     java.util.concurrent.RejectedExecutionException} if the operation cannot be executed.
+   * @since 3.5.0
+   */
+  CompletableFuture<String> submit(Callable<String> operation) {
+    return enqueue(operation, false);
+  }
+
+  /**
+   * Executes a request on the calling thread if the queue is idle, or submits it to be executed
+   * after the completion of the previous ones otherwise.
+   *
+   * <p>The requests submitted while the request is executed on the calling thread are executed
+   * afterwards by the executor service, as with {@link #submit(Callable)}.
+   *
+   * @param operation The operation processing the request.
+   * @return A future completed with the result of the operation, already completed if the queue was
+   *     idle, or completed exceptionally as with {@link #submit(Callable)}.
+   * @since 3.5.0
+   */
+  CompletableFuture<String> execute(Callable<String> operation) {
+    return enqueue(operation, true);
+  }
+
+  /**
+   * Adds a request to the queue and starts it if the queue is idle.
+   *
+   * @param operation The operation processing the request.
+   * @param isInlineExecutionAllowed true if the request can be executed on the calling thread.
+   * @return A future completed with the result of the operation.
+   */
+  private CompletableFuture<String> enqueue(
+      Callable<String> operation, boolean isInlineExecutionAllowed) {
+    Request request = new Request(operation);
+    synchronized (this) {
+      pendingRequests.add(request);
+      if (isRequestInProgress) {
+        return request.future;
+      }
+      isRequestInProgress = true;
+    }
+    if (isInlineExecutionAllowed) {
+      request.run();
+    } else {
+      executeNextRequest();
+    }
+    return request.future;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public synchronized int getQueueDepth() {
+    return pendingRequests.size();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public synchronized long getStartedRequestCount() {
+    return startedRequestCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public synchronized double getAverageWaitTimeMillis() {
+    return startedRequestCount != 0
+        ? totalWaitTimeNanos / NANOS_PER_MILLI / startedRequestCount
+        : 0;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public synchronized double getMaxWaitTimeMillis() {
+    return maxWaitTimeNanos / NANOS_PER_MILLI;
+  }
+
+  /**
+   * Submits the next pending request to the executor service, if any, or marks the queue as idle.
+   *
+   * <p>A request rejected by the executor service is completed exceptionally and the following one
+   * is submitted.
+   */
+  private void executeNextRequest() {
+    Request request;
+    synchronized (this) {
+      request = pendingRequests.peek();
+      if (request == null) {
+        isRequestInProgress = false;
+        return;
+      }
+    }
+    try {
+      SmartCardServiceAdapter.getInstance()
+          .getExecutorServiceFactory()
+          .getReaderOperationExecutor()
+          .execute(request);
+    } catch (RuntimeException e) {
+      synchronized (this) {
+        pendingRequests.remove(request);
+      }
+      request.future.completeExceptionally(e);
+      executeNextRequest();
+    }
+  }
+
+  /** Request waiting in the queue. */
+  private final class Request implements Runnable {
+
+    private final Callable<String> operation;
+    private final CompletableFuture<String> future = new CompletableFuture<String>();
+    private final long submissionTimeNanos = System.nanoTime();
+
+    private Request(Callable<String> operation) {
+      this.operation = operation;
+    }
+
+    @Override
+    public void run() {
+      long waitTimeNanos = System.nanoTime() - submissionTimeNanos;
+      synchronized (ReaderRequestQueueAdapter.this) {
+        pendingRequests.remove(this);
+        startedRequestCount++;
+        totalWaitTimeNanos += waitTimeNanos;
+        if (waitTimeNanos > maxWaitTimeNanos) {
+          maxWaitTimeNanos = waitTimeNanos;
+        }
+      }
+      try {
+        future.complete(operation.call());
+      } catch (Throwable e) { // NOSONAR: the future must be completed whatever the failure
+        future.completeExceptionally(e);
+      } finally {
+        executeNextRequest();
+      }
+    }
+  }
+}
@@ -130,7 +130,7 @@ final void register() throws PluginIOException {
             new RemoteReaderAdapter(remoteReaderSpi, getName(), null, CORE_API_LEVEL);
       }
 
-      getReadersMap().put(localReaderName, remoteReaderAdapter);
+      putReader(localReaderName, remoteReaderAdapter);
       remoteReaderAdapter.register();
     }
 
@@ -164,7 +164,8 @@ public CardReader allocateReader(String readerGroupReference) {
         String selectedSmartCardClassName =
             output.get(JsonProperty.SELECTED_SMART_CARD_CLASS_NAME.getKey()).getAsString();
         try {
-          Class<?> classOfSelectedSmartCard = Class.forName(selectedSmartCardClassName);
+          Class<?> classOfSelectedSmartCard =
+              ClassResolverAdapter.resolveClass(selectedSmartCardClassName, SmartCard.class);
           selectedSmartCard =
               (SmartCard)
                   JsonUtil.getParser().fromJson(selectedSmartCardJson, classOfSelectedSmartCard);
@@ -189,7 +190,7 @@ public CardReader allocateReader(String readerGroupReference) {
     RemoteReaderAdapter remoteReaderAdapter =
         new RemoteReaderAdapter(remoteReaderSpi, getName(), selectedSmartCard, CORE_API_LEVEL);
 
-    getReadersMap().put(remoteReaderSpi.getName(), remoteReaderAdapter);
+    putReader(remoteReaderSpi.getName(), remoteReaderAdapter);
     remoteReaderAdapter.register();
 
     if (logger.isDebugEnabled()) {
@@ -248,7 +249,7 @@ public void releaseReader(CardReader reader) {
     } catch (Exception e) {
       throwRuntimeException(e);
     } finally {
-      getReadersMap().remove(reader.getName());
+      removeReaderByKey(reader.getName());
       ((RemoteReaderAdapter) reader).unregister();
     }
 
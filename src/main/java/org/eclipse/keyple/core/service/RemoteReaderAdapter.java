@@ -14,13 +14,27 @@
 import static org.eclipse.keyple.core.service.DistributedUtilAdapter.*;
 import static org.eclipse.keyple.core.service.InternalLegacyDto.*;
 
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import org.eclipse.keyple.core.common.KeypleReaderExtension;
 import org.eclipse.keyple.core.distributed.remote.spi.RemoteReaderSpi;
+import org.eclipse.keyple.core.service.spi.AsyncRemoteReaderSpi;
 import org.eclipse.keyple.core.util.Assert;
 import org.eclipse.keyple.core.util.json.JsonUtil;
 import org.eclipse.keypop.card.*;
@@ -43,11 +57,24 @@ class RemoteReaderAdapter extends AbstractReaderAdapter {
   private static final String MSG_CLIENT_CORE_JSON_API_LEVEL_NOT_SUPPORTED =
       "Client Core JSON API level is not supported: ";
   private static final String OUTPUT = "output";
+  private static final Type CARD_SELECTION_RESPONSES_TYPE =
+      new TypeToken<ArrayList<CardSelectionResponseAdapter>>() {}.getType();
 
   private final RemoteReaderSpi remoteReaderSpi;
   private final SmartCard selectedSmartCard;
-  private int clientCoreApiLevel;
-  private Boolean isContactless;
+  private volatile int clientCoreApiLevel;
+  private volatile Boolean isContactless;
+
+  /* Binary encoding of the card requests, offered until accepted or refused, disabled on failure */
+  private volatile boolean isBinaryEncodingNegotiable;
+  private volatile boolean isBinaryEncodingAccepted;
+
+  /* Support of the batch service advertised by the local service, null if unknown */
+  private volatile Boolean isBatchSupported;
+
+  /* Digests returned by the local service, by digest of the card selections sent */
+  private final Map<String, String> localCardSelectionsDigests =
+      createLruCache(CARD_SELECTIONS_CACHE_SIZE);
 
   /**
    * Constructor.
@@ -56,7 +83,7 @@ class RemoteReaderAdapter extends AbstractReaderAdapter {
    * @param pluginName The name of the plugin.
    * @param selectedSmartCard The selected smart card in case of a pool plugin (optional).
    * @param clientCoreApiLevel The JSON API level of the associated client Core layer (equal to -1
-   *     if unknown).
+   *     if unknown, in which case it is resolved before the first card request).
    * @since 2.0.0
    */
   RemoteReaderAdapter(
@@ -69,6 +96,8 @@ class RemoteReaderAdapter extends AbstractReaderAdapter {
     this.selectedSmartCard = selectedSmartCard;
     this.clientCoreApiLevel = clientCoreApiLevel;
     isContactless = remoteReaderSpi.isContactless();
+    isBinaryEncodingNegotiable =
+        SmartCardServiceAdapter.getInstance().isDistributedBinaryEncodingEnabled();
   }
 
   /**
@@ -105,37 +134,40 @@ final List<CardSelectionResponseApi> processCardSelectionRequests(
       throws ReaderBrokenCommunicationException, CardBrokenCommunicationException {
 
     checkStatus();
+    resolveClientCoreApiLevel();
+
+    if (clientCoreApiLevel == CORE_API_LEVEL) {
+      // Encode the input and decode the output JSON data in a single pass.
+      try {
+        CardSelectionRequestsInput input =
+            new CardSelectionRequestsInput(
+                cardSelectors, cardSelectionRequests, multiSelectionProcessing, channelControl);
+        List<CardSelectionResponseApi> cardSelectionResponses =
+            input.decodeOutput(
+                executeReaderServiceRemotely(
+                    input.encode(true), remoteReaderSpi, getName(), logger));
+        if (cardSelectionResponses == null && input.isDigestSent()) {
+          // The digest is no longer known by the local service.
+          cardSelectionResponses =
+              input.decodeOutput(
+                  executeReaderServiceRemotely(
+                      input.encode(false), remoteReaderSpi, getName(), logger));
+        }
+        return cardSelectionResponses;
+      } catch (RuntimeException
+          | ReaderBrokenCommunicationException
+          | CardBrokenCommunicationException e) {
+        throw e;
+      } catch (Exception e) {
+        throwRuntimeException(e);
+        return Collections.emptyList();
+      }
+    }
 
     // Build the input JSON data.
     JsonObject input = new JsonObject();
     input.addProperty(JsonProperty.CORE_API_LEVEL.getKey(), clientCoreApiLevel);
     switch (clientCoreApiLevel) {
-      case CORE_API_LEVEL:
-        input.addProperty(
-            JsonProperty.SERVICE.getKey(), ReaderService.TRANSMIT_CARD_SELECTION_REQUESTS.name());
-
-        JsonObject params = new JsonObject();
-        params.addProperty(
-            JsonProperty.MULTI_SELECTION_PROCESSING.getKey(), multiSelectionProcessing.name());
-        params.addProperty(JsonProperty.CHANNEL_CONTROL.getKey(), channelControl.name());
-
-        // Original card selectors
-        List<String> cardSelectorsTypes = new ArrayList<>(cardSelectors.size());
-        for (CardSelector<?> cardSelector : cardSelectors) {
-          cardSelectorsTypes.add(cardSelector.getClass().getName());
-        }
-        params.add(
-            JsonProperty.CARD_SELECTORS_TYPES.getKey(),
-            JsonUtil.getParser().toJsonTree(cardSelectorsTypes));
-        params.add(
-            JsonProperty.CARD_SELECTORS.getKey(), JsonUtil.getParser().toJsonTree(cardSelectors));
-
-        params.add(
-            JsonProperty.CARD_SELECTION_REQUESTS.getKey(),
-            JsonUtil.getParser().toJsonTree(cardSelectionRequests));
-
-        input.add(JsonProperty.PARAMETERS.getKey(), params);
-        break;
       case 1:
         buildProcessCardSelectionRequestsInputV1(
             cardSelectors, cardSelectionRequests, multiSelectionProcessing, channelControl, input);
@@ -144,12 +176,6 @@ final List<CardSelectionResponseApi> processCardSelectionRequests(
         buildProcessCardSelectionRequestsInputV0(
             cardSelectors, cardSelectionRequests, multiSelectionProcessing, channelControl, input);
         break;
-      case -1:
-        buildProcessCardSelectionRequestsInputV1(
-            cardSelectors, cardSelectionRequests, multiSelectionProcessing, channelControl, input);
-        buildProcessCardSelectionRequestsInputV0(
-            cardSelectors, cardSelectionRequests, multiSelectionProcessing, channelControl, input);
-        break;
       default:
         throw new IllegalArgumentException(
             MSG_CLIENT_CORE_JSON_API_LEVEL_NOT_SUPPORTED + clientCoreApiLevel);
@@ -161,22 +187,17 @@ final List<CardSelectionResponseApi> processCardSelectionRequests(
 
       Assert.getInstance().notNull(output, OUTPUT);
 
-      if (clientCoreApiLevel == -1) {
-        clientCoreApiLevel = output.has(JsonProperty.RESULT.getKey()) ? 1 : 0;
-      }
-
       switch (clientCoreApiLevel) {
-        case CORE_API_LEVEL:
         case 1:
           return JsonUtil.getParser()
               .fromJson(
-                  output.getAsJsonArray(JsonProperty.RESULT.getKey()).toString(),
-                  new TypeToken<ArrayList<CardSelectionResponseAdapter>>() {}.getType());
+                  output.getAsJsonArray(JsonProperty.RESULT.getKey()),
+                  CARD_SELECTION_RESPONSES_TYPE);
         case 0:
           return JsonUtil.getParser()
               .fromJson(
                   output.get(JsonProperty.RESULT.name()).getAsString(),
-                  new TypeToken<ArrayList<CardSelectionResponseAdapter>>() {}.getType());
+                  CARD_SELECTION_RESPONSES_TYPE);
         default:
           throw new IllegalArgumentException(
               MSG_CLIENT_CORE_JSON_API_LEVEL_NOT_SUPPORTED + clientCoreApiLevel);
@@ -191,6 +212,21 @@ final List<CardSelectionResponseApi> processCardSelectionRequests(
     }
   }
 
+  /**
+   * Writes the beginning of the input JSON data of a reader service for the current Core API
+   * level, i.e. the opening of the root object, the API level and the service name.
+   *
+   * @param writer The JSON writer.
+   * @param service The reader service.
+   * @throws IOException If the encoding fails.
+   */
+  private static void writeInputHeader(JsonWriter writer, ReaderService service)
+      throws IOException {
+    writer.beginObject();
+    writer.name(JsonProperty.CORE_API_LEVEL.getKey()).value(CORE_API_LEVEL);
+    writer.name(JsonProperty.SERVICE.getKey()).value(service.name());
+  }
+
   private static void buildProcessCardSelectionRequestsInputV1(
       List<CardSelector<?>> cardSelectors,
       List<CardSelectionRequestSpi> cardSelectionRequests,
@@ -240,32 +276,31 @@ final CardResponseApi processCardRequest(
       throws CardBrokenCommunicationException, ReaderBrokenCommunicationException {
 
     checkStatus();
+    resolveClientCoreApiLevel();
+
+    if (clientCoreApiLevel == CORE_API_LEVEL) {
+      try {
+        return processCardRequestWithCurrentEncoding(cardRequest, channelControl);
+      } catch (RuntimeException
+          | ReaderBrokenCommunicationException
+          | CardBrokenCommunicationException e) {
+        throw e;
+      } catch (Exception e) {
+        throwRuntimeException(e);
+        return null;
+      }
+    }
 
     // Build the input JSON data.
     JsonObject input = new JsonObject();
     input.addProperty(JsonProperty.CORE_API_LEVEL.getKey(), clientCoreApiLevel);
     switch (clientCoreApiLevel) {
-      case CORE_API_LEVEL:
-        input.addProperty(
-            JsonProperty.SERVICE.getKey(), ReaderService.TRANSMIT_CARD_REQUEST.name());
-
-        JsonObject params = new JsonObject();
-        params.add(
-            JsonProperty.CARD_REQUEST.getKey(), JsonUtil.getParser().toJsonTree(cardRequest));
-        params.addProperty(JsonProperty.CHANNEL_CONTROL.getKey(), channelControl.name());
-
-        input.add(JsonProperty.PARAMETERS.getKey(), params);
-        break;
       case 1:
         buildProcessCardRequestInputV1(cardRequest, channelControl, input);
         break;
       case 0:
         buildProcessCardRequestInputV0(cardRequest, channelControl, input);
         break;
-      case -1:
-        buildProcessCardRequestInputV1(cardRequest, channelControl, input);
-        buildProcessCardRequestInputV0(cardRequest, channelControl, input);
-        break;
       default:
         throw new IllegalArgumentException(
             MSG_CLIENT_CORE_JSON_API_LEVEL_NOT_SUPPORTED + clientCoreApiLevel);
@@ -277,17 +312,11 @@ final CardResponseApi processCardRequest(
 
       Assert.getInstance().notNull(output, OUTPUT);
 
-      if (clientCoreApiLevel == -1) {
-        clientCoreApiLevel = output.has(JsonProperty.RESULT.getKey()) ? 1 : 0;
-      }
-
       switch (clientCoreApiLevel) {
-        case CORE_API_LEVEL:
         case 1:
           return JsonUtil.getParser()
               .fromJson(
-                  output.getAsJsonObject(JsonProperty.RESULT.getKey()).toString(),
-                  CardResponseAdapter.class);
+                  output.getAsJsonObject(JsonProperty.RESULT.getKey()), CardResponseAdapter.class);
         case 0:
           return JsonUtil.getParser()
               .fromJson(
@@ -306,6 +335,147 @@ final CardResponseApi processCardRequest(
     }
   }
 
+  /**
+   * Executes the service {@link ReaderService#TRANSMIT_CARD_REQUEST} for the current Core API
+   * level, using the binary encoding if accepted by the local service, the JSON encoding otherwise.
+   *
+   * <p>As long as the binary encoding is negotiable, it is offered in the JSON input data. A local
+   * service supporting it then answers with binary encoded output data, which enables the binary
+   * encoding for the next requests. JSON output data without error mean that it is not supported.
+   *
+   * <p>Any error or non-binary output data in response to a binary encoded request disables the
+   * binary encoding, so that the next requests fall back to the JSON encoding (see {@link
+   * #disableBinaryEncoding()}).
+   *
+   * @param cardRequest The card request.
+   * @param channelControl The channel control.
+   * @return A not null reference.
+   * @throws Exception The embedded exception if exists.
+   */
+  private CardResponseApi processCardRequestWithCurrentEncoding(
+      CardRequestSpi cardRequest, ChannelControl channelControl) throws Exception { // NOSONAR
+
+    boolean isBinaryEncodingUsed = isBinaryEncodingAccepted;
+    boolean isBinaryEncodingOffered = !isBinaryEncodingUsed && isBinaryEncodingNegotiable;
+    String input =
+        encodeCardRequestInput(
+            cardRequest, channelControl, isBinaryEncodingUsed, isBinaryEncodingOffered);
+
+    try {
+      String output = executeReaderServiceRemotely(input, remoteReaderSpi, getName(), logger);
+      return decodeCardRequestOutput(output, isBinaryEncodingUsed, isBinaryEncodingOffered);
+    } catch (Exception e) {
+      if (isBinaryEncodingUsed) {
+        disableBinaryEncoding();
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Disables the binary encoding of the card requests after a failed binary encoded request, the
+   * local service being possibly replaced by one which does not support it.
+   *
+   * <p>The next requests are JSON encoded and offer the binary encoding again, which is therefore
+   * enabled back as soon as the local service answers with binary encoded output data.
+   */
+  private void disableBinaryEncoding() {
+    if (isBinaryEncodingAccepted) {
+      isBinaryEncodingAccepted = false;
+      logger.warn(
+          "[reader={}] Binary encoding of card requests disabled, falling back to JSON", getName());
+    }
+  }
+
+  /**
+   * Encodes the input data of the service {@link ReaderService#TRANSMIT_CARD_REQUEST} for the
+   * current Core API level, using the binary encoding if accepted by the local service, the JSON
+   * encoding otherwise.
+   *
+   * @param cardRequest The card request.
+   * @param channelControl The channel control.
+   * @param isBinaryEncodingUsed true if the input data must be binary encoded.
+   * @param isBinaryEncodingOffered true if the binary encoding must be offered in the JSON input
+   *     data.
+   * @return A not empty string.
+   * @throws IOException If the encoding fails.
+   */
+  private static String encodeCardRequestInput(
+      CardRequestSpi cardRequest,
+      ChannelControl channelControl,
+      boolean isBinaryEncodingUsed,
+      boolean isBinaryEncodingOffered)
+      throws IOException {
+    if (isBinaryEncodingUsed) {
+      return DistributedBinaryCodecAdapter.encodeCardRequest(cardRequest, channelControl);
+    }
+    return buildProcessCardRequestInput(cardRequest, channelControl, isBinaryEncodingOffered);
+  }
+
+  /**
+   * Decodes the output data of the service {@link ReaderService#TRANSMIT_CARD_REQUEST} for the
+   * current Core API level and updates the state of the binary encoding negotiation accordingly.
+   *
+   * @param output The output data, binary or JSON encoded.
+   * @param isBinaryEncodingUsed true if the input data were binary encoded.
+   * @param isBinaryEncodingOffered true if the binary encoding was offered in the input data.
+   * @return A not null reference.
+   * @throws Exception The embedded exception if exists.
+   */
+  private CardResponseApi decodeCardRequestOutput(
+      String output, boolean isBinaryEncodingUsed, boolean isBinaryEncodingOffered)
+      throws Exception { // NOSONAR
+    if (DistributedBinaryCodecAdapter.isBinaryMessage(output)) {
+      if (isBinaryEncodingOffered && !isBinaryEncodingAccepted) {
+        isBinaryEncodingAccepted = true;
+        logger.info("[reader={}] Binary encoding of card requests enabled", getName());
+      }
+      return DistributedBinaryCodecAdapter.decodeCardResponse(output);
+    }
+    if (isBinaryEncodingUsed) {
+      // The local service no longer handles the binary encoding (errors are never binary encoded).
+      disableBinaryEncoding();
+    }
+    CardResponseApi cardResponse = decodeReaderServiceOutput(output, CardResponseAdapter.class);
+    if (isBinaryEncodingOffered) {
+      // The local service does not support the binary encoding.
+      isBinaryEncodingNegotiable = false;
+    }
+    return cardResponse;
+  }
+
+  /**
+   * Encodes the input JSON data of the service {@link ReaderService#TRANSMIT_CARD_REQUEST} for the
+   * current Core API level.
+   *
+   * @param isBinaryEncodingOffered true if the binary encoding of the output data is offered to the
+   *     local service.
+   * @return A not empty JSON string.
+   * @throws IOException If the encoding fails.
+   */
+  private static String buildProcessCardRequestInput(
+      CardRequestSpi cardRequest, ChannelControl channelControl, boolean isBinaryEncodingOffered)
+      throws IOException {
+
+    Gson parser = JsonUtil.getParser();
+    StringWriter input = new StringWriter();
+    JsonWriter writer = parser.newJsonWriter(input);
+
+    writeInputHeader(writer, ReaderService.TRANSMIT_CARD_REQUEST);
+    if (isBinaryEncodingOffered) {
+      writer.name(JsonProperty.BINARY_ENCODING.getKey()).value(true);
+    }
+    writer.name(JsonProperty.PARAMETERS.getKey()).beginObject();
+    writer.name(JsonProperty.CARD_REQUEST.getKey());
+    parser.toJson(cardRequest, cardRequest.getClass(), writer);
+    writer.name(JsonProperty.CHANNEL_CONTROL.getKey()).value(channelControl.name());
+    writer.endObject();
+    writer.endObject();
+
+    writer.flush();
+    return input.toString();
+  }
+
   private static void buildProcessCardRequestInputV1(
       CardRequestSpi cardRequest, ChannelControl channelControl, JsonObject input) {
     input.addProperty(JsonProperty.SERVICE.getKey(), ReaderService.TRANSMIT_CARD_REQUEST.name());
@@ -341,6 +511,155 @@ public final boolean isContactless() {
     return isContactless;
   }
 
+  /**
+   * Executes the provided batch steps on the associated local reader.
+   *
+   * <p>If the distributed local service supports it, the whole batch is executed in a single round
+   * trip with the service {@link ReaderService#EXECUTE_BATCH}. Otherwise, the steps are executed
+   * one after the other, with one round trip per step.
+   *
+   * <p>The support is advertised by the local service in each output of the batch service. The
+   * first batch is sent directly: if it is rejected without this advertisement, the local service
+   * does not know the batch service and all the batches are then executed step by step.
+   *
+   * @param steps The steps to execute.
+   * @return The results of the executed steps (see {@link
+   *     ReaderBatchAdapter#executeSequentially(AbstractReaderAdapter, List)}).
+   * @throws ReaderBrokenCommunicationException If a reader communication error occurs.
+   * @throws CardBrokenCommunicationException If a card communication error occurs.
+   * @throws UnexpectedStatusWordException If a card request requiring it to stop on an
+   *     unsuccessful status word receives one.
+   * @since 3.5.0
+   */
+  final List<Object> executeBatch(List<ReaderBatchAdapter.Step> steps)
+      throws ReaderBrokenCommunicationException,
+          CardBrokenCommunicationException,
+          UnexpectedStatusWordException {
+
+    checkStatus();
+    if (steps.isEmpty()) {
+      return new ArrayList<>(0);
+    }
+    resolveClientCoreApiLevel();
+
+    try {
+      if (clientCoreApiLevel != CORE_API_LEVEL || Boolean.FALSE.equals(isBatchSupported)) {
+        return ReaderBatchAdapter.executeSequentially(this, steps);
+      }
+      String outputJson =
+          executeReaderServiceRemotely(
+              buildExecuteBatchInput(steps), remoteReaderSpi, getName(), logger);
+      JsonObject otherProperties = new JsonObject();
+      JsonArray output;
+      try {
+        output = decodeReaderServiceOutput(outputJson, JsonArray.class, otherProperties);
+      } catch (IllegalArgumentException e) {
+        if (isBatchSupported != null
+            || otherProperties.has(JsonProperty.BATCH_SUPPORTED.getKey())) {
+          throw e;
+        }
+        // The local service does not know the batch service and rejected it without executing it.
+        logger.info(
+            "[reader={}] Batch service not supported by the local service, steps executed one by one",
+            getName());
+        isBatchSupported = false;
+        return ReaderBatchAdapter.executeSequentially(this, steps);
+      }
+      isBatchSupported = true;
+      Assert.getInstance().notNull(output, OUTPUT);
+
+      // Decode the result of each executed step according to its operation.
+      List<Object> results = new ArrayList<>(output.size());
+      for (int i = 0; i < output.size(); i++) {
+        switch (steps.get(i).getOperation()) {
+          case TRANSMIT_CARD_REQUEST:
+            results.add(JsonUtil.getParser().fromJson(output.get(i), CardResponseAdapter.class));
+            break;
+          case IS_CARD_PRESENT:
+            results.add(output.get(i).getAsBoolean());
+            break;
+          default:
+            results.add(null);
+        }
+      }
+      return results;
+    } catch (RuntimeException
+        | ReaderBrokenCommunicationException
+        | CardBrokenCommunicationException
+        | UnexpectedStatusWordException e) {
+      throw e;
+    } catch (Exception e) {
+      throwRuntimeException(e);
+      return new ArrayList<>(0);
+    }
+  }
+
+  /**
+   * Encodes the input JSON data of the service {@link ReaderService#EXECUTE_BATCH} for the current
+   * Core API level.
+   *
+   * @param steps The steps to execute.
+   * @return A not empty JSON string.
+   * @throws IOException If the encoding fails.
+   */
+  private static String buildExecuteBatchInput(List<ReaderBatchAdapter.Step> steps)
+      throws IOException {
+
+    Gson parser = JsonUtil.getParser();
+    StringWriter input = new StringWriter();
+    JsonWriter writer = parser.newJsonWriter(input);
+
+    writeInputHeader(writer, ReaderService.EXECUTE_BATCH);
+    writer.name(JsonProperty.PARAMETERS.getKey()).beginObject();
+    writer.name(JsonProperty.BATCH_STEPS.getKey()).beginArray();
+    for (ReaderBatchAdapter.Step step : steps) {
+      writer.beginObject();
+      writer.name(JsonProperty.SERVICE.getKey()).value(step.getOperation().name());
+      if (step.getOperation() == ReaderService.TRANSMIT_CARD_REQUEST) {
+        writer.name(JsonProperty.CARD_REQUEST.getKey());
+        parser.toJson(step.getCardRequest(), step.getCardRequest().getClass(), writer);
+        writer.name(JsonProperty.CHANNEL_CONTROL.getKey()).value(step.getChannelControl().name());
+      }
+      writer.name(JsonProperty.STOP_IF_UNSUCCESSFUL.getKey()).value(step.isStopIfUnsuccessful());
+      writer.endObject();
+    }
+    writer.endArray();
+    writer.endObject();
+    writer.endObject();
+
+    writer.flush();
+    return input.toString();
+  }
+
+  /**
+   * Resolves the JSON API level of the associated client Core layer if it is unknown, so that the
+   * input data of the following requests are encoded once, in the format of that level only.
+   *
+   * <p>The resolution is performed once per reader with a lightweight {@link
+   * ReaderService#IS_CONTACTLESS} request encoded in both legacy formats, the level being deduced
+   * from the format of the output. The result of the request is kept if the contactless status of
+   * the reader is not yet known.
+   */
+  private void resolveClientCoreApiLevel() {
+    if (clientCoreApiLevel != -1) {
+      return;
+    }
+    synchronized (this) {
+      if (clientCoreApiLevel == -1) {
+        boolean isContactlessResult = processIsContactless();
+        if (isContactless == null) {
+          isContactless = isContactlessResult;
+        }
+        if (logger.isDebugEnabled()) {
+          logger.debug(
+              "[reader={}] Client Core API level resolved [clientCoreApiLevel={}]",
+              getName(),
+              clientCoreApiLevel);
+        }
+      }
+    }
+  }
+
   private boolean processIsContactless() {
     checkStatus();
 
@@ -482,4 +801,340 @@ public final void releaseChannel() throws ReaderBrokenCommunicationException {
       throwRuntimeException(e);
     }
   }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The request is sent without blocking a thread if the remote reader SPI implements {@link
+   * AsyncRemoteReaderSpi} and the client Core API level is the current one.
+   *
+   * @since 3.5.0
+   */
+  @Override
+  final CompletableFuture<List<CardSelectionResponseApi>> transmitCardSelectionRequestsAsync(
+      List<CardSelector<?>> cardSelectors,
+      List<CardSelectionRequestSpi> cardSelectionRequests,
+      MultiSelectionProcessing multiSelectionProcessing,
+      ChannelControl channelControl) {
+
+    if (!isNonBlockingExecutionAvailable()) {
+      return super.transmitCardSelectionRequestsAsync(
+          cardSelectors, cardSelectionRequests, multiSelectionProcessing, channelControl);
+    }
+    checkStatus();
+
+    final CardSelectionRequestsInput input =
+        new CardSelectionRequestsInput(
+            cardSelectors, cardSelectionRequests, multiSelectionProcessing, channelControl);
+    final OutputDecoder<List<CardSelectionResponseApi>> outputDecoder =
+        new OutputDecoder<List<CardSelectionResponseApi>>() {
+          @Override
+          public List<CardSelectionResponseApi> decode(String output) throws Exception {
+            return input.decodeOutput(output);
+          }
+        };
+    String encodedInput;
+    try {
+      encodedInput = input.encode(true);
+    } catch (IOException e) {
+      return failedFuture(e);
+    }
+    logCardSelectionRequestsSent(cardSelectionRequests);
+    return executeReaderServiceRemotelyAsync(encodedInput, outputDecoder)
+        .thenCompose(
+            new Function<
+                List<CardSelectionResponseApi>,
+                CompletionStage<List<CardSelectionResponseApi>>>() {
+              @Override
+              public CompletionStage<List<CardSelectionResponseApi>> apply(
+                  List<CardSelectionResponseApi> cardSelectionResponses) {
+                if (cardSelectionResponses != null || !input.isDigestSent()) {
+                  return CompletableFuture.completedFuture(cardSelectionResponses);
+                }
+                // The digest is no longer known by the local service.
+                String fullInput;
+                try {
+                  fullInput = input.encode(false);
+                } catch (IOException e) {
+                  return failedFuture(e);
+                }
+                return executeReaderServiceRemotelyAsync(fullInput, outputDecoder);
+              }
+            })
+        .whenComplete(
+            new BiConsumer<List<CardSelectionResponseApi>, Throwable>() {
+              @Override
+              public void accept(
+                  List<CardSelectionResponseApi> cardSelectionResponses, Throwable error) {
+                logCardSelectionResponsesReceived(cardSelectionResponses);
+              }
+            });
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The request is sent without blocking a thread if the remote reader SPI implements {@link
+   * AsyncRemoteReaderSpi} and the client Core API level is the current one.
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public final CompletableFuture<CardResponseApi> transmitCardRequestAsync(
+      CardRequestSpi cardRequest, ChannelControl channelControl) {
+
+    if (!isNonBlockingExecutionAvailable()) {
+      return super.transmitCardRequestAsync(cardRequest, channelControl);
+    }
+    checkStatus();
+
+    Assert.getInstance()
+        .notNull(cardRequest, "cardRequest")
+        .notNull(channelControl, "channelControl");
+
+    final boolean isBinaryEncodingUsed = isBinaryEncodingAccepted;
+    final boolean isBinaryEncodingOffered = !isBinaryEncodingUsed && isBinaryEncodingNegotiable;
+    String input;
+    try {
+      input =
+          encodeCardRequestInput(
+              cardRequest, channelControl, isBinaryEncodingUsed, isBinaryEncodingOffered);
+    } catch (IOException e) {
+      return failedFuture(e);
+    }
+    logCardRequestSent(cardRequest);
+    return executeReaderServiceRemotelyAsync(
+            input,
+            new OutputDecoder<CardResponseApi>() {
+              @Override
+              public CardResponseApi decode(String output) throws Exception {
+                return decodeCardRequestOutput(
+                    output, isBinaryEncodingUsed, isBinaryEncodingOffered);
+              }
+            })
+        .whenComplete(
+            new BiConsumer<CardResponseApi, Throwable>() {
+              @Override
+              public void accept(CardResponseApi cardResponse, Throwable error) {
+                if (error != null && isBinaryEncodingUsed) {
+                  disableBinaryEncoding();
+                }
+                logCardResponseReceived(cardResponse);
+              }
+            });
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The request is sent without blocking a thread if the remote reader SPI implements {@link
+   * AsyncRemoteReaderSpi} and the client Core API level is the current one.
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public final CompletableFuture<Boolean> isCardPresentAsync() {
+
+    if (!isNonBlockingExecutionAvailable()) {
+      return super.isCardPresentAsync();
+    }
+    checkStatus();
+
+    JsonObject input = new JsonObject();
+    input.addProperty(JsonProperty.CORE_API_LEVEL.getKey(), CORE_API_LEVEL);
+    input.addProperty(JsonProperty.SERVICE.getKey(), ReaderService.IS_CARD_PRESENT.name());
+
+    return executeReaderServiceRemotelyAsync(
+        input.toString(),
+        new OutputDecoder<Boolean>() {
+          @Override
+          public Boolean decode(String output) throws Exception {
+            return decodeReaderServiceOutput(output, Boolean.class);
+          }
+        });
+  }
+
+  /**
+   * Indicates whether the reader services can be executed without blocking a thread, i.e. if the
+   * remote reader SPI implements {@link AsyncRemoteReaderSpi} and the client Core API level is
+   * known and equal to the current one.
+   *
+   * @return true if the non-blocking execution is available.
+   */
+  private boolean isNonBlockingExecutionAvailable() {
+    return remoteReaderSpi instanceof AsyncRemoteReaderSpi && clientCoreApiLevel == CORE_API_LEVEL;
+  }
+
+  /**
+   * Executes remotely and without blocking the provided input data of a specific reader service,
+   * then decodes the output data with the provided decoder.
+   *
+   * <p>The exceptions are reported as by the synchronous services: the communication exceptions
+   * and the runtime exceptions as is, the other ones wrapped in a runtime exception.
+   *
+   * @param input The input data to process.
+   * @param outputDecoder The decoder of the output data.
+   * @param <T> The type of the expected result.
+   * @return A not null reference.
+   */
+  private <T> CompletableFuture<T> executeReaderServiceRemotelyAsync(
+      String input, final OutputDecoder<T> outputDecoder) {
+    return DistributedUtilAdapter.executeReaderServiceRemotelyAsync(
+            input, (AsyncRemoteReaderSpi) remoteReaderSpi, getName(), logger)
+        .thenApply(
+            new Function<String, T>() {
+              @Override
+              public T apply(String output) {
+                try {
+                  return outputDecoder.decode(output);
+                } catch (RuntimeException e) {
+                  throw e;
+                } catch (ReaderBrokenCommunicationException | CardBrokenCommunicationException e) {
+                  throw new CompletionException(e);
+                } catch (Exception e) {
+                  throwRuntimeException(e);
+                  return null;
+                }
+              }
+            });
+  }
+
+  /**
+   * Returns a future completed exceptionally with a runtime exception wrapping the provided
+   * encoding error.
+   *
+   * @param e The encoding error.
+   * @param <T> The type of the expected result.
+   * @return A not null reference.
+   */
+  private static <T> CompletableFuture<T> failedFuture(IOException e) {
+    CompletableFuture<T> future = new CompletableFuture<T>();
+    try {
+      throwRuntimeException(e);
+    } catch (RuntimeException re) {
+      future.completeExceptionally(re);
+    }
+    return future;
+  }
+
+  /**
+   * Input data of the service {@link ReaderService#TRANSMIT_CARD_SELECTION_REQUESTS} for the
+   * current Core API level.
+   *
+   * <p>The card selectors and card selection requests are serialized once. When the local service
+   * has returned a digest for the same content in a previous response, only this digest is sent.
+   * If the local service no longer knows it, no result is returned and the full content must be
+   * sent again.
+   */
+  private final class CardSelectionRequestsInput {
+
+    private final String cardSelectorsTypesJson;
+    private final String cardSelectorsJson;
+    private final String cardSelectionRequestsJson;
+    private final MultiSelectionProcessing multiSelectionProcessing;
+    private final ChannelControl channelControl;
+    private final String contentDigest;
+    private volatile String sentLocalDigest;
+
+    private CardSelectionRequestsInput(
+        List<CardSelector<?>> cardSelectors,
+        List<CardSelectionRequestSpi> cardSelectionRequests,
+        MultiSelectionProcessing multiSelectionProcessing,
+        ChannelControl channelControl) {
+      Gson parser = JsonUtil.getParser();
+      List<String> cardSelectorsTypes = new ArrayList<String>(cardSelectors.size());
+      for (CardSelector<?> cardSelector : cardSelectors) {
+        cardSelectorsTypes.add(cardSelector.getClass().getName());
+      }
+      cardSelectorsTypesJson = parser.toJson(cardSelectorsTypes);
+      cardSelectorsJson = parser.toJson(cardSelectors, cardSelectors.getClass());
+      cardSelectionRequestsJson =
+          parser.toJson(cardSelectionRequests, cardSelectionRequests.getClass());
+      this.multiSelectionProcessing = multiSelectionProcessing;
+      this.channelControl = channelControl;
+      contentDigest =
+          computeDigest(cardSelectorsTypesJson + cardSelectorsJson + cardSelectionRequestsJson);
+    }
+
+    /**
+     * Encodes the input JSON data.
+     *
+     * @param isDigestAllowed true if the digest may be sent instead of the full content.
+     * @return A not empty JSON string.
+     * @throws IOException If the encoding fails.
+     */
+    private String encode(boolean isDigestAllowed) throws IOException {
+      sentLocalDigest = isDigestAllowed ? localCardSelectionsDigests.get(contentDigest) : null;
+
+      StringWriter input = new StringWriter();
+      JsonWriter writer = JsonUtil.getParser().newJsonWriter(input);
+
+      writeInputHeader(writer, ReaderService.TRANSMIT_CARD_SELECTION_REQUESTS);
+      writer.name(JsonProperty.PARAMETERS.getKey()).beginObject();
+      writer
+          .name(JsonProperty.MULTI_SELECTION_PROCESSING.getKey())
+          .value(multiSelectionProcessing.name());
+      writer.name(JsonProperty.CHANNEL_CONTROL.getKey()).value(channelControl.name());
+      if (sentLocalDigest != null) {
+        writer.name(JsonProperty.CARD_SELECTIONS_DIGEST.getKey()).value(sentLocalDigest);
+      } else {
+        writer.name(JsonProperty.CARD_SELECTORS_TYPES.getKey()).jsonValue(cardSelectorsTypesJson);
+        writer.name(JsonProperty.CARD_SELECTORS.getKey()).jsonValue(cardSelectorsJson);
+        writer
+            .name(JsonProperty.CARD_SELECTION_REQUESTS.getKey())
+            .jsonValue(cardSelectionRequestsJson);
+      }
+      writer.endObject();
+      writer.endObject();
+
+      writer.flush();
+      return input.toString();
+    }
+
+    /**
+     * Indicates whether the last encoded input contains the digest instead of the full content.
+     *
+     * @return true if the digest has been sent.
+     */
+    private boolean isDigestSent() {
+      return sentLocalDigest != null;
+    }
+
+    /**
+     * Decodes the output JSON data and keeps the digest returned by the local service, if any.
+     *
+     * @param output The JSON output data.
+     * @return Null if the local service did not return any result.
+     * @throws Exception The embedded exception if exists.
+     */
+    private List<CardSelectionResponseApi> decodeOutput(String output) throws Exception { // NOSONAR
+      JsonObject otherProperties = new JsonObject();
+      List<CardSelectionResponseApi> cardSelectionResponses =
+          decodeReaderServiceOutput(output, CARD_SELECTION_RESPONSES_TYPE, otherProperties);
+      JsonElement localDigest = otherProperties.get(JsonProperty.CARD_SELECTIONS_DIGEST.getKey());
+      if (localDigest != null) {
+        localCardSelectionsDigests.put(contentDigest, localDigest.getAsString());
+      } else if (sentLocalDigest != null) {
+        localCardSelectionsDigests.remove(contentDigest);
+      }
+      return cardSelectionResponses;
+    }
+  }
+
+  /**
+   * Decoder of the output data of a reader service.
+   *
+   * @param <T> The type of the decoded result.
+   */
+  private interface OutputDecoder<T> {
+
+    /**
+     * Decodes the provided output data.
+     *
+     * @param output The output data.
+     * @return The decoded result.
+     * @throws Exception The embedded exception if exists.
+     */
+    T decode(String output) throws Exception; // NOSONAR
+  }
 }
@@ -15,8 +15,11 @@
 import org.eclipse.keyple.core.common.KeypleCardExtension;
 import org.eclipse.keyple.core.common.KeypleDistributedLocalServiceExtensionFactory;
 import org.eclipse.keyple.core.common.KeyplePluginExtensionFactory;
+import org.eclipse.keyple.core.service.spi.DeserializationFilterSpi;
+import org.eclipse.keyple.core.service.spi.ExecutorServiceFactorySpi;
 import org.eclipse.keypop.reader.CardReader;
 import org.eclipse.keypop.reader.ReaderApiFactory;
+import org.eclipse.keypop.reader.selection.CardSelectionManager;
 
 /**
  * Keyple main service.
@@ -143,4 +146,165 @@ DistributedLocalService registerDistributedLocalService(
    * @since 3.0.0
    */
   ReaderApiFactory getReaderApiFactory();
+
+  /**
+   * Sets the factory of the executor services and threads used by the service for the monitoring
+   * of the readers and cards and for the notification of the events.
+   *
+   * <p>This method must be invoked before the registration of any plugin. If not invoked, a default
+   * factory is used.
+   *
+   * @param executorServiceFactory The executor service factory to use.
+   * @throws IllegalArgumentException If the provided factory is null.
+   * @throws IllegalStateException If a plugin is already registered.
+   * @since 3.5.0
+   */
+  void setExecutorServiceFactory(ExecutorServiceFactorySpi executorServiceFactory);
+
+  /**
+   * Sets the size of the queue of the events waiting to be delivered to the observers of each
+   * observable remote plugin and reader, and the policy to apply when the queue is full.
+   *
+   * <p>The events of a remote plugin or reader are delivered to its observers one after the other,
+   * in their order of notification, by a single task of the event notification executor service.
+   * Each event is delivered to all the observers in turn, so an observer slow to process an event
+   * delays the delivery of this event and of the next ones to the other observers of the same
+   * plugin or reader.
+   *
+   * <p>This method must be invoked before the registration of any plugin. If not invoked, a queue
+   * of 64 events and the {@link EventOverflowPolicy#COALESCE} policy are used, so that the
+   * notification of an event never blocks. The {@link EventOverflowPolicy#BLOCK} policy makes the
+   * transport thread notifying the event wait while the queue is full, that is as long as the
+   * observers are slower than the events.
+   *
+   * @param queueCapacity The maximum number of events waiting to be delivered (at least 1).
+   * @param overflowPolicy The policy to apply when the queue is full.
+   * @throws IllegalArgumentException If the capacity is less than 1 or the policy is null.
+   * @throws IllegalStateException If a plugin is already registered.
+   * @since 3.5.0
+   */
+  void setRemoteEventDispatchPolicy(int queueCapacity, EventOverflowPolicy overflowPolicy);
+
+  /**
+   * Gets the metrics of the event dispatch of an observable remote plugin or reader.
+   *
+   * @param pluginName The name of the observable remote plugin, or of the plugin of the reader.
+   * @param readerName The name of the observable remote reader, or null to get the metrics of the
+   *     plugin itself.
+   * @return A not null reference.
+   * @throws IllegalArgumentException If the plugin name is null or empty, or if the plugin or
+   *     reader is not found or not an observable remote one.
+   * @since 3.5.0
+   */
+  EventDispatchMetrics getRemoteEventDispatchMetrics(String pluginName, String readerName);
+
+  /**
+   * Enables or disables the compact binary encoding of the card requests and responses exchanged
+   * between the remote readers and the distributed local services.
+   *
+   * <p>The binary encoding is disabled by default and is used only if it is enabled on both sides:
+   * a remote reader offers it in its first JSON card request, and a distributed local service
+   * accepts it by answering in binary form. It can also be enabled with the
+   * "isDistributedBinaryEncodingEnabled" system property. The setting applies to the remote readers
+   * registered afterwards.
+   *
+   * @param isEnabled true to enable the binary encoding.
+   * @since 3.5.0
+   */
+  void setDistributedBinaryEncodingEnabled(boolean isEnabled);
+
+  /**
+   * Sets the polling intervals of the card monitoring of an observable local reader whose reader
+   * extension does not natively detect the card insertion or removal.
+   *
+   * <p>By default, the reader is polled at the fixed intervals provided by the reader extension.
+   * Once this method invoked, the reader is polled at the minimum interval right after the start of
+   * the card detection, a card insertion or a card removal, then the interval is doubled at each
+   * unsuccessful poll, up to the maximum interval. Providing the same minimum and maximum
+   * intervals defines a fixed interval.
+   *
+   * <p>The new intervals are applied from the next start of a card insertion or removal monitoring.
+   *
+   * @param readerName The name of the observable local reader.
+   * @param minIntervalMillis The minimum interval in milliseconds (strictly positive).
+   * @param maxIntervalMillis The maximum interval in milliseconds (greater than or equal to the
+   *     minimum interval).
+   * @throws IllegalArgumentException If the reader is not found or is not an observable local
+   *     reader, or if the intervals are invalid.
+   * @since 3.5.0
+   */
+  void setCardMonitoringPollingIntervals(
+      String readerName, long minIntervalMillis, long maxIntervalMillis);
+
+  /**
+   * Returns the current polling interval of the card monitoring of an observable local reader.
+   *
+   * @param readerName The name of the observable local reader.
+   * @return The interval in milliseconds, 0 if the reader has not been polled yet.
+   * @throws IllegalArgumentException If the reader is not found or is not an observable local
+   *     reader.
+   * @since 3.5.0
+   */
+  long getCardMonitoringPollingInterval(String readerName);
+
+  /**
+   * Creates a new batch of card requests and reader operations to be executed on a reader.
+   *
+   * <p>On a remote reader, the batch is executed in a single round trip with the distributed local
+   * service.
+   *
+   * @param readerName The name of the reader.
+   * @return A new not null reference.
+   * @throws IllegalArgumentException If the reader is not found.
+   * @since 3.5.0
+   */
+  ReaderBatch createReaderBatch(String readerName);
+
+  /**
+   * Creates a new processing of the card selection scenario prepared in the provided manager on
+   * several readers concurrently.
+   *
+   * <p>The scenario is copied at creation time: the subsequent changes made to the manager are not
+   * taken into account, and the processing does not change the state of the manager (in
+   * particular, the processed scenario cannot be exported from the manager).
+   *
+   * @param cardSelectionManager The card selection manager, created by the {@link ReaderApiFactory}
+   *     of the service.
+   * @return A new not null reference.
+   * @throws IllegalArgumentException If the manager is null, not created by the service or does
+   *     not contain any prepared card selection.
+   * @since 3.5.0
+   */
+  MultiReaderCardSelection createMultiReaderCardSelection(
+      CardSelectionManager cardSelectionManager);
+
+  /**
+   * Creates an immutable copy of the card selection scenario prepared in the provided manager,
+   * reusable for any number of processings, possibly concurrent.
+   *
+   * <p>The card selection extensions of the scenario are shared by all the processings, so that
+   * they do not have to be created again for each transaction. The subsequent changes made to the
+   * manager are not taken into account.
+   *
+   * @param cardSelectionManager The card selection manager, created by the {@link ReaderApiFactory}
+   *     of the service.
+   * @return A new not null reference.
+   * @throws IllegalArgumentException If the manager is null, not created by the service or does
+   *     not contain any prepared card selection.
+   * @since 3.5.0
+   */
+  PreparedCardSelectionScenario prepareCardSelectionScenario(
+      CardSelectionManager cardSelectionManager);
+
+  /**
+   * Sets the allow-list of the classes that the service may instantiate when deserializing
+   * polymorphic JSON data (card selection scenarios, distributed selected smart cards and card
+   * communication exceptions).
+   *
+   * <p>If not invoked, all the classes found by the class loader are allowed.
+   *
+   * @param deserializationFilter The filter to use, or null to allow all classes.
+   * @since 3.5.0
+   */
+  void setDeserializationFilter(DeserializationFilterSpi deserializationFilter);
 }
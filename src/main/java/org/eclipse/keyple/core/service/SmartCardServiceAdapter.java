@@ -15,6 +15,7 @@
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
 import org.eclipse.keyple.core.common.CommonApiProperties;
 import org.eclipse.keyple.core.common.KeypleCardExtension;
 import org.eclipse.keyple.core.common.KeypleDistributedLocalServiceExtensionFactory;
@@ -27,6 +28,8 @@
 import org.eclipse.keyple.core.plugin.PluginApiProperties;
 import org.eclipse.keyple.core.plugin.PluginIOException;
 import org.eclipse.keyple.core.plugin.spi.*;
+import org.eclipse.keyple.core.service.spi.DeserializationFilterSpi;
+import org.eclipse.keyple.core.service.spi.ExecutorServiceFactorySpi;
 import org.eclipse.keyple.core.util.Assert;
 import org.eclipse.keyple.core.util.json.JsonUtil;
 import org.eclipse.keypop.card.AbstractApduException;
@@ -37,6 +40,7 @@
 import org.eclipse.keypop.reader.CardReader;
 import org.eclipse.keypop.reader.ReaderApiFactory;
 import org.eclipse.keypop.reader.ReaderApiProperties;
+import org.eclipse.keypop.reader.selection.CardSelectionManager;
 import org.eclipse.keypop.reader.selection.ScheduledCardSelectionsResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -53,16 +57,23 @@ final class SmartCardServiceAdapter implements SmartCardService {
   private static final String MSG_VERSION_MISMATCH_DETECTED =
       "Version mismatch detected: {} '{}' uses '{}' version '{}' (expected '{}'). Compatibility issues may arise";
 
+  private static final int DEFAULT_REMOTE_EVENT_QUEUE_CAPACITY = 64;
+
   private static final SmartCardServiceAdapter INSTANCE = new SmartCardServiceAdapter();
 
   private final Map<String, Plugin> plugins = new ConcurrentHashMap<>();
   private final Object pluginMonitor = new Object();
+  private final ConcurrentHashMap<String, IndexedReader> readerIndex = new ConcurrentHashMap<>();
 
   private final Map<String, DistributedLocalService> distributedLocalServices =
       new ConcurrentHashMap<>();
   private final Object distributedLocalServiceMonitor = new Object();
 
   private boolean isAutomaticStatusCodeHandlingEnabled = true;
+  private volatile boolean isDistributedBinaryEncodingEnabled;
+  private volatile ExecutorServiceFactorySpi executorServiceFactory;
+  private volatile int remoteEventQueueCapacity = DEFAULT_REMOTE_EVENT_QUEUE_CAPACITY;
+  private volatile EventOverflowPolicy remoteEventOverflowPolicy = EventOverflowPolicy.COALESCE;
 
   static {
     // Register additional JSON adapters.
@@ -89,6 +100,50 @@ private SmartCardServiceAdapter() {
       isAutomaticStatusCodeHandlingEnabled = false;
       logger.warn("Automatic status code handling is disabled");
     }
+
+    if ("true".equalsIgnoreCase(System.getProperty("isDistributedBinaryEncodingEnabled"))) {
+      isDistributedBinaryEncodingEnabled = true;
+      logger.info("Binary encoding of distributed card requests is enabled");
+    }
+
+    ExecutorServiceFactoryAdapter defaultExecutorServiceFactory =
+        new ExecutorServiceFactoryAdapter(
+            getPositiveIntProperty(
+                "monitoringSchedulerPoolSize",
+                Math.max(2, Runtime.getRuntime().availableProcessors())),
+            "true".equalsIgnoreCase(System.getProperty("isVirtualThreadsEnabled")));
+    if (defaultExecutorServiceFactory.isVirtualThreadsEnabled()) {
+      logger.info("Virtual thread mode is enabled");
+    }
+    executorServiceFactory = defaultExecutorServiceFactory;
+  }
+
+  /**
+   * Gets the value of a strictly positive int system property.
+   *
+   * @param propertyName The name of the system property.
+   * @param defaultValue The value to use if the property is not set or is invalid.
+   * @return A strictly positive int.
+   */
+  private static int getPositiveIntProperty(String propertyName, int defaultValue) {
+    String value = System.getProperty(propertyName);
+    if (value == null) {
+      return defaultValue;
+    }
+    try {
+      int intValue = Integer.parseInt(value.trim());
+      if (intValue > 0) {
+        return intValue;
+      }
+    } catch (NumberFormatException e) {
+      // handled below
+    }
+    logger.warn(
+        "Invalid system property value, default value used [property={}, value={}, default={}]",
+        propertyName,
+        value,
+        defaultValue);
+    return defaultValue;
   }
 
   /**
@@ -527,14 +582,13 @@ public Plugin getPlugin(String pluginName) {
    */
   @Override
   public Plugin getPlugin(CardReader cardReader) {
-    for (Plugin plugin : plugins.values()) {
-      for (CardReader reader : plugin.getReaders()) {
-        if (reader == cardReader) {
-          return plugin;
-        }
-      }
+    if (cardReader == null) {
+      return null;
     }
-    return null;
+    IndexedReader indexedReader = getIndexedReader(cardReader.getName());
+    return indexedReader != null && indexedReader.reader == cardReader
+        ? indexedReader.plugin
+        : null;
   }
 
   /**
@@ -544,14 +598,8 @@ public Plugin getPlugin(CardReader cardReader) {
    */
   @Override
   public CardReader getReader(String readerName) {
-    for (Plugin plugin : plugins.values()) {
-      for (CardReader reader : plugin.getReaders()) {
-        if (reader.getName().equals(readerName)) {
-          return reader;
-        }
-      }
-    }
-    return null;
+    IndexedReader indexedReader = getIndexedReader(readerName);
+    return indexedReader != null ? indexedReader.reader : null;
   }
 
   /**
@@ -561,6 +609,10 @@ public CardReader getReader(String readerName) {
    */
   @Override
   public CardReader findReader(String readerNameRegex) {
+    String readerName = AbstractPluginAdapter.getLiteralReaderName(readerNameRegex);
+    if (readerName != null) {
+      return getReader(readerName);
+    }
     for (Plugin plugin : plugins.values()) {
       CardReader reader = plugin.findReader(readerNameRegex);
       if (reader != null) {
@@ -675,7 +727,321 @@ public ReaderApiFactory getReaderApiFactory() {
     return new ReaderApiFactoryAdapter();
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public void setExecutorServiceFactory(ExecutorServiceFactorySpi executorServiceFactory) {
+
+    Assert.getInstance().notNull(executorServiceFactory, "executorServiceFactory");
+
+    synchronized (pluginMonitor) {
+      if (!plugins.isEmpty()) {
+        throw new IllegalStateException(
+            "Executor service factory cannot be set while plugins are registered");
+      }
+      this.executorServiceFactory = executorServiceFactory;
+    }
+    logger.info(
+        "Executor service factory set [className={}]",
+        executorServiceFactory.getClass().getName());
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public void setRemoteEventDispatchPolicy(int queueCapacity, EventOverflowPolicy overflowPolicy) {
+
+    Assert.getInstance()
+        .greaterOrEqual(queueCapacity, 1, "queueCapacity")
+        .notNull(overflowPolicy, "overflowPolicy");
+
+    synchronized (pluginMonitor) {
+      if (!plugins.isEmpty()) {
+        throw new IllegalStateException(
+            "Remote event dispatch policy cannot be set while plugins are registered");
+      }
+      remoteEventQueueCapacity = queueCapacity;
+      remoteEventOverflowPolicy = overflowPolicy;
+    }
+    logger.info(
+        "Remote event dispatch policy set [queueCapacity={}, overflowPolicy={}]",
+        queueCapacity,
+        overflowPolicy);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public EventDispatchMetrics getRemoteEventDispatchMetrics(String pluginName, String readerName) {
+
+    Assert.getInstance().notEmpty(pluginName, "pluginName");
+
+    Plugin plugin = getPlugin(pluginName);
+    if (readerName == null) {
+      if (!(plugin instanceof ObservableRemotePluginAdapter)) {
+        throw new IllegalArgumentException(
+            "Plugin '" + pluginName + "' is not a registered observable remote plugin");
+      }
+      return ((ObservableRemotePluginAdapter) plugin).getEventDispatchMetrics();
+    }
+    CardReader reader = plugin != null ? plugin.getReader(readerName) : null;
+    if (!(reader instanceof ObservableRemoteReaderAdapter)) {
+      throw new IllegalArgumentException(
+          "Reader '"
+              + readerName
+              + "' is not a registered observable remote reader of plugin '"
+              + pluginName
+              + "'");
+    }
+    return ((ObservableRemoteReaderAdapter) reader).getEventDispatchMetrics();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public void setDistributedBinaryEncodingEnabled(boolean isEnabled) {
+    isDistributedBinaryEncodingEnabled = isEnabled;
+    logger.info(
+        "Binary encoding of distributed card requests {}", isEnabled ? "enabled" : "disabled");
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public void setDeserializationFilter(DeserializationFilterSpi deserializationFilter) {
+    ClassResolverAdapter.setDeserializationFilter(deserializationFilter);
+    logger.info(
+        "Deserialization filter set [className={}]",
+        deserializationFilter != null ? deserializationFilter.getClass().getName() : null);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public void setCardMonitoringPollingIntervals(
+      String readerName, long minIntervalMillis, long maxIntervalMillis) {
+
+    ObservableLocalReaderAdapter reader = getObservableLocalReader(readerName);
+    if (minIntervalMillis < 1) {
+      throw new IllegalArgumentException(
+          "Argument [minIntervalMillis] has a value [" + minIntervalMillis + "] less than [1]");
+    }
+    if (maxIntervalMillis < minIntervalMillis) {
+      throw new IllegalArgumentException(
+          "Argument [maxIntervalMillis] has a value ["
+              + maxIntervalMillis
+              + "] less than [minIntervalMillis="
+              + minIntervalMillis
+              + "]");
+    }
+    reader.setPollingPolicy(new AdaptivePollingPolicyAdapter(minIntervalMillis, maxIntervalMillis));
+    logger.info(
+        "[reader={}] Card monitoring polling intervals set [minIntervalMillis={}, maxIntervalMillis={}]",
+        readerName,
+        minIntervalMillis,
+        maxIntervalMillis);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public long getCardMonitoringPollingInterval(String readerName) {
+    return getObservableLocalReader(readerName).getPollingIntervalMillis();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public ReaderBatch createReaderBatch(String readerName) {
+    Assert.getInstance().notEmpty(readerName, "readerName");
+    CardReader reader = getReader(readerName);
+    if (!(reader instanceof AbstractReaderAdapter)) {
+      throw new IllegalArgumentException("Reader '" + readerName + "' is not registered");
+    }
+    return new ReaderBatchAdapter((AbstractReaderAdapter) reader);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public MultiReaderCardSelection createMultiReaderCardSelection(
+      CardSelectionManager cardSelectionManager) {
+    return prepareCardSelectionScenario(cardSelectionManager).createMultiReaderCardSelection();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public PreparedCardSelectionScenario prepareCardSelectionScenario(
+      CardSelectionManager cardSelectionManager) {
+    Assert.getInstance().notNull(cardSelectionManager, "cardSelectionManager");
+    if (!(cardSelectionManager instanceof CardSelectionManagerAdapter)) {
+      throw new IllegalArgumentException(
+          "Card selection manager not created by the service. Actual type: "
+              + cardSelectionManager.getClass().getName());
+    }
+    CardSelectionManagerAdapter manager = (CardSelectionManagerAdapter) cardSelectionManager;
+    return new PreparedCardSelectionScenarioAdapter(
+        manager.createCardSelectionScenarioSnapshot(), manager.getCardSelectionsSnapshot());
+  }
+
+  /**
+   * Gets the registered observable local reader having the provided name.
+   *
+   * @param readerName The name of the reader.
+   * @return A not null reference.
+   * @throws IllegalArgumentException If the reader is not found or is not an observable local
+   *     reader.
+   */
+  private ObservableLocalReaderAdapter getObservableLocalReader(String readerName) {
+    Assert.getInstance().notEmpty(readerName, "readerName");
+    CardReader reader = getReader(readerName);
+    if (!(reader instanceof ObservableLocalReaderAdapter)) {
+      throw new IllegalArgumentException(
+          "Reader '" + readerName + "' is not a registered observable local reader");
+    }
+    return (ObservableLocalReaderAdapter) reader;
+  }
+
+  /**
+   * Gets the maximum number of events waiting to be delivered to the observers of an observable
+   * remote plugin or reader.
+   *
+   * @return A strictly positive int.
+   * @since 3.5.0
+   */
+  int getRemoteEventQueueCapacity() {
+    return remoteEventQueueCapacity;
+  }
+
+  /**
+   * Gets the policy applied when the event queue of an observable remote plugin or reader is full.
+   *
+   * @return A not null reference.
+   * @since 3.5.0
+   */
+  EventOverflowPolicy getRemoteEventOverflowPolicy() {
+    return remoteEventOverflowPolicy;
+  }
+
   boolean isAutomaticStatusCodeHandlingEnabled() {
     return isAutomaticStatusCodeHandlingEnabled;
   }
+
+  /**
+   * Indicates whether the card requests exchanged with the distributed components may be binary
+   * encoded (see {@link DistributedBinaryCodecAdapter}).
+   *
+   * @return true if enabled with {@link #setDistributedBinaryEncodingEnabled(boolean)} or by the
+   *     "isDistributedBinaryEncodingEnabled" system property.
+   * @since 3.5.0
+   */
+  boolean isDistributedBinaryEncodingEnabled() {
+    return isDistributedBinaryEncodingEnabled;
+  }
+
+  /**
+   * Gets the factory of the executor services used for the monitoring and the event notification.
+   *
+   * @return A not null reference.
+   * @since 3.5.0
+   */
+  ExecutorServiceFactorySpi getExecutorServiceFactory() {
+    return executorServiceFactory;
+  }
+
+  /**
+   * Adds a reader to the reader index used by {@link #getReader(String)} and {@link
+   * #getPlugin(CardReader)}.
+   *
+   * <p>This method is invoked by the plugins each time a reader is added to their list of readers.
+   *
+   * @param plugin The plugin owning the reader.
+   * @param reader The reader.
+   * @since 3.5.0
+   */
+  void indexReader(Plugin plugin, CardReader reader) {
+    readerIndex.put(reader.getName(), new IndexedReader(plugin, reader));
+  }
+
+  /**
+   * Removes a reader from the reader index, if it is still the indexed one for its name.
+   *
+   * <p>This method is invoked by the plugins each time a reader is removed from their list of
+   * readers.
+   *
+   * @param reader The reader.
+   * @since 3.5.0
+   */
+  void unindexReader(final CardReader reader) {
+    readerIndex.computeIfPresent(
+        reader.getName(),
+        new BiFunction<String, IndexedReader, IndexedReader>() {
+          @Override
+          public IndexedReader apply(String readerName, IndexedReader indexedReader) {
+            return indexedReader.reader == reader ? null : indexedReader;
+          }
+        });
+  }
+
+  /**
+   * Gets the indexed reader having the provided name, provided that its plugin is currently
+   * registered to the service.
+   *
+   * @param readerName The reader name.
+   * @return Null if the reader is not found.
+   */
+  private IndexedReader getIndexedReader(String readerName) {
+    if (readerName == null) {
+      return null;
+    }
+    IndexedReader indexedReader = readerIndex.get(readerName);
+    if (indexedReader == null
+        || plugins.get(indexedReader.plugin.getName()) != indexedReader.plugin) {
+      return null;
+    }
+    return indexedReader;
+  }
+
+  /** Entry of the reader index associating a reader to its plugin. */
+  private static final class IndexedReader {
+
+    private final Plugin plugin;
+    private final CardReader reader;
+
+    private IndexedReader(Plugin plugin, CardReader reader) {
+      this.plugin = plugin;
+      this.reader = reader;
+    }
+  }
 }
@@ -0,0 +1,159 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Immutable set of status words backed by a sorted array of primitive ints.
+ *
+ * <p>It is used for the successful status words of the APDU requests built or decoded by the
+ * service, so that the success check of each APDU response is done without boxing or hashing (see
+ * {@link #contains(Set, int)}). As a {@link Set} of {@link Integer}, it is encoded in JSON exactly
+ * as any other set of status words.
+ *
+ * @since 3.5.0
+ */
+final class StatusWordSetAdapter extends AbstractSet<Integer> {
+
+  private final int[] statusWords;
+
+  /**
+   * Constructor.
+   *
+   * @param statusWords The status words, sorted and without duplicates.
+   */
+  private StatusWordSetAdapter(int[] statusWords) {
+    this.statusWords = statusWords;
+  }
+
+  /**
+   * Builds a set containing the provided status words.
+   *
+   * @param statusWords The status words, in any order, possibly duplicated.
+   * @return A not null reference.
+   * @since 3.5.0
+   */
+  static StatusWordSetAdapter of(int... statusWords) {
+    int[] sortedStatusWords = statusWords.clone();
+    Arrays.sort(sortedStatusWords);
+    int count = 0;
+    for (int i = 0; i < sortedStatusWords.length; i++) {
+      if (i == 0 || sortedStatusWords[i] != sortedStatusWords[i - 1]) {
+        sortedStatusWords[count++] = sortedStatusWords[i];
+      }
+    }
+    return new StatusWordSetAdapter(
+        count == sortedStatusWords.length
+            ? sortedStatusWords
+            : Arrays.copyOf(sortedStatusWords, count));
+  }
+
+  /**
+   * Builds a set containing the provided status words, or returns the provided collection if it is
+   * already a {@link StatusWordSetAdapter}.
+   *
+   * @param statusWords The status words.
+   * @return A not null reference.
+   * @since 3.5.0
+   */
+  static StatusWordSetAdapter of(Collection<Integer> statusWords) {
+    if (statusWords instanceof StatusWordSetAdapter) {
+      return (StatusWordSetAdapter) statusWords;
+    }
+    int[] values = new int[statusWords.size()];
+    int i = 0;
+    for (Integer statusWord : statusWords) {
+      values[i++] = statusWord;
+    }
+    return of(values);
+  }
+
+  /**
+   * Checks whether the provided set contains the provided status word, without boxing if the set
+   * is a {@link StatusWordSetAdapter}.
+   *
+   * @param statusWords The set of status words.
+   * @param statusWord The status word to look for.
+   * @return true if the status word is in the set.
+   * @since 3.5.0
+   */
+  static boolean contains(Set<Integer> statusWords, int statusWord) {
+    if (statusWords instanceof StatusWordSetAdapter) {
+      return ((StatusWordSetAdapter) statusWords).containsStatusWord(statusWord);
+    }
+    return statusWords.contains(statusWord);
+  }
+
+  /**
+   * Checks whether the set contains the provided status word.
+   *
+   * @param statusWord The status word to look for.
+   * @return true if the status word is in the set.
+   * @since 3.5.0
+   */
+  boolean containsStatusWord(int statusWord) {
+    return Arrays.binarySearch(statusWords, statusWord) >= 0;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public boolean contains(Object o) {
+    return o instanceof Integer && containsStatusWord((Integer) o);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The status words are returned in ascending order.
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public Iterator<Integer> iterator() {
+    return new Iterator<Integer>() {
+      private int index;
+
+      @Override
+      public boolean hasNext() {
+        return index < statusWords.length;
+      }
+
+      @Override
+      public Integer next() {
+        if (index >= statusWords.length) {
+          throw new NoSuchElementException();
+        }
+        return statusWords[index++];
+      }
+    };
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @since 3.5.0
+   */
+  @Override
+  public int size() {
+    return statusWords.length;
+  }
+}
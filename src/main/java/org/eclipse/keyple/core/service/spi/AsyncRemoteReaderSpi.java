@@ -0,0 +1,43 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service.spi;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Optional asynchronous variant of the remote reader SPI ({@code RemoteReaderSpi}) of the
+ * distributed remote library.
+ *
+ * <p>When the remote reader SPI provided to the service also implements this interface, the reader
+ * operations requested asynchronously on the remote reader (see {@link
+ * org.eclipse.keyple.core.service.AsyncProxyReader}) are sent through it and do not block any
+ * thread during the round trip with the distributed local service. Otherwise, the synchronous SPI
+ * is invoked from the executor service provided by {@link
+ * ExecutorServiceFactorySpi#getReaderOperationExecutor()}.
+ *
+ * @since 3.5.0
+ */
+public interface AsyncRemoteReaderSpi {
+
+  /**
+   * Sends the provided JSON data to the associated distributed local service and returns a future
+   * completed with its response.
+   *
+   * <p>This method must not block: the future is completed by the transport layer when the
+   * response is received, or completed exceptionally if the communication fails.
+   *
+   * @param jsonData The JSON data to send.
+   * @return A not null reference.
+   * @since 3.5.0
+   */
+  CompletableFuture<String> executeRemotelyAsync(String jsonData);
+}
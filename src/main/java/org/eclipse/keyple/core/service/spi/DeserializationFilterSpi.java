@@ -0,0 +1,38 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service.spi;
+
+/**
+ * Allow-list of the classes that the service may instantiate when deserializing polymorphic JSON
+ * data, i.e. data embedding the name of their original class: card selectors and card selections
+ * of an exported or distributed card selection scenario, smart cards selected by a distributed pool
+ * plugin and card communication exceptions received from a distributed component.
+ *
+ * <p>It must be provided to the service using {@link
+ * org.eclipse.keyple.core.service.SmartCardService#setDeserializationFilter(DeserializationFilterSpi)}.
+ *
+ * @since 3.5.0
+ */
+public interface DeserializationFilterSpi {
+
+  /**
+   * Indicates whether the class with the provided name may be instantiated.
+   *
+   * <p>A class which is not allowed is processed as if it was not found. This method is invoked at
+   * each resolution of a class and must therefore be fast and thread-safe.
+   *
+   * @param className The fully qualified name of the class.
+   * @return true if the class is allowed.
+   * @since 3.5.0
+   */
+  boolean isClassAllowed(String className);
+}
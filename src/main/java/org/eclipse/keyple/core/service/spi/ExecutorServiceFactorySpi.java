@@ -0,0 +1,121 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service.spi;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Factory of the executor services and threads used by the service for the monitoring of the
+ * readers and cards and for the notification of the events.
+ *
+ * <p>It allows the application to supply its own executor services and thread factories, in order
+ * to size, name or meter them. It must be provided to the service using {@link
+ * org.eclipse.keyple.core.service.SmartCardService#setExecutorServiceFactory(ExecutorServiceFactorySpi)}
+ * before the registration of any plugin.
+ *
+ * <p>The executor services obtained by the "get" methods are shared and never shut down by the
+ * service.
+ *
+ * @since 3.5.0
+ */
+public interface ExecutorServiceFactorySpi {
+
+  /**
+   * Gets the scheduler shared by the active monitoring jobs of all the observable local readers.
+   *
+   * <p>The tasks scheduled on it are short polling ticks (call to the reader to check the presence
+   * of a card) which must not be delayed by long-running tasks.
+   *
+   * @return A not null reference.
+   * @since 3.5.0
+   */
+  ScheduledExecutorService getMonitoringScheduler();
+
+  /**
+   * Gets the executor service processing the events detected by the active monitoring jobs.
+   *
+   * <p>The observers of the local readers are notified synchronously from the tasks executed by
+   * this executor service, which should therefore be able to run as many concurrent tasks as the
+   * number of readers processing a card at the same time.
+   *
+   * @return A not null reference.
+   * @since 3.5.0
+   */
+  ExecutorService getMonitoringEventExecutor();
+
+  /**
+   * Creates the executor service running the passive monitoring jobs of an observable local
+   * reader.
+   *
+   * <p>Passive monitoring jobs block in the reader extension while waiting for a card insertion or
+   * removal, so the returned executor service must provide at least one thread dedicated to the
+   * reader and must execute the submitted jobs sequentially. It is shut down by the service when
+   * the reader is unregistered.
+   *
+   * @param readerName The name of the reader.
+   * @return A new not null reference.
+   * @since 3.5.0
+   */
+  ExecutorService createReaderMonitoringExecutor(String readerName);
+
+  /**
+   * Creates the thread monitoring the readers connection and disconnection of an observable local
+   * plugin.
+   *
+   * <p>The thread must not be started, it is started by the service when the first observer is
+   * added to the plugin and ends when the last observer is removed.
+   *
+   * @param task The task to be run by the thread.
+   * @param pluginName The name of the plugin.
+   * @return A new not null and not started thread.
+   * @since 3.5.0
+   */
+  Thread createPluginMonitoringThread(Runnable task, String pluginName);
+
+  /**
+   * Gets the executor service used by an observable remote plugin or reader to notify its
+   * observers asynchronously.
+   *
+   * <p>This method is invoked once per remote plugin (if the plugin extension does not provide its
+   * own executor service) and once per remote reader. It may return a new or a shared executor
+   * service.
+   *
+   * <p>The events of a plugin or reader are delivered by a single task at a time, so each plugin or
+   * reader uses at most one thread of the executor service at a time. The executor service is not
+   * shut down by the service when the plugin or reader is unregistered.
+   *
+   * @param pluginName The name of the plugin.
+   * @param readerName The name of the reader, or null if the executor service is requested by the
+   *     plugin itself.
+   * @return A not null reference.
+   * @since 3.5.0
+   */
+  ExecutorService getEventNotificationExecutor(String pluginName, String readerName);
+
+  /**
+   * Gets the executor service running the blocking reader operations requested asynchronously
+   * (see {@link org.eclipse.keyple.core.service.AsyncProxyReader}) and the requests received by the
+   * distributed local services.
+   *
+   * <p>The requests targeting a same reader are submitted one after the other, so the number of
+   * threads used by the distributed local services is at most the number of readers in use.
+   *
+   * <p>Each task blocks for the whole duration of the operation (communication with the card or
+   * round trip with a distributed local service), so the returned executor service should be able
+   * to run as many concurrent tasks as the number of operations in progress at the same time.
+   *
+   * @return A not null reference.
+   * @since 3.5.0
+   */
+  ExecutorService getReaderOperationExecutor();
+}
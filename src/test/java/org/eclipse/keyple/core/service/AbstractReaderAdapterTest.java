@@ -12,12 +12,14 @@
 package org.eclipse.keyple.core.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.shouldHaveThrown;
 import static org.eclipse.keyple.core.service.util.PluginAdapterTestUtils.PLUGIN_NAME;
 import static org.eclipse.keyple.core.service.util.ReaderAdapterTestUtils.READER_NAME;
 import static org.mockito.Mockito.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 import org.eclipse.keyple.core.common.KeypleReaderExtension;
 import org.eclipse.keyple.core.plugin.spi.reader.ReaderSpi;
 import org.eclipse.keypop.card.*;
@@ -85,6 +87,49 @@ public void transmitCardRequest_shouldInvoke_processCardRequest()
     verify(readerAdapter, times(1)).processCardRequest(cardRequestSpi, ChannelControl.KEEP_OPEN);
   }
 
+  @Test(expected = IllegalStateException.class)
+  public void transmitCardRequestAsync_whenReaderIsNotRegistered_shouldISE() {
+    readerAdapter.transmitCardRequestAsync(cardRequestSpi, ChannelControl.KEEP_OPEN);
+  }
+
+  @Test
+  public void transmitCardRequestAsync_shouldCompleteWithResponseOf_processCardRequest()
+      throws Exception {
+    CardResponseApi cardResponse = mock(CardResponseApi.class);
+    readerAdapter = Mockito.spy(readerAdapter);
+    readerAdapter.register();
+    doReturn(cardResponse)
+        .when(readerAdapter)
+        .processCardRequest(cardRequestSpi, ChannelControl.KEEP_OPEN);
+    assertThat(
+            readerAdapter.transmitCardRequestAsync(cardRequestSpi, ChannelControl.KEEP_OPEN).get())
+        .isSameAs(cardResponse);
+  }
+
+  @Test
+  public void transmitCardRequestAsync_whenProcessCardRequestFails_shouldCompleteExceptionally()
+      throws Exception {
+    ReaderBrokenCommunicationException exception =
+        new ReaderBrokenCommunicationException(null, false, "reader error");
+    readerAdapter = Mockito.spy(readerAdapter);
+    readerAdapter.register();
+    doThrow(exception)
+        .when(readerAdapter)
+        .processCardRequest(cardRequestSpi, ChannelControl.KEEP_OPEN);
+    try {
+      readerAdapter.transmitCardRequestAsync(cardRequestSpi, ChannelControl.KEEP_OPEN).get();
+      shouldHaveThrown(ExecutionException.class);
+    } catch (ExecutionException e) {
+      assertThat(e.getCause()).isSameAs(exception);
+    }
+  }
+
+  @Test
+  public void isCardPresentAsync_shouldCompleteWithResultOf_isCardPresent() throws Exception {
+    readerAdapter.register();
+    assertThat(readerAdapter.isCardPresentAsync().get()).isFalse();
+  }
+
   private static class DefaultAbstractReaderAdapter extends AbstractReaderAdapter {
 
     DefaultAbstractReaderAdapter(
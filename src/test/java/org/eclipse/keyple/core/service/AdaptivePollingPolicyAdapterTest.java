@@ -0,0 +1,44 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class AdaptivePollingPolicyAdapterTest {
+
+  @Test
+  public void getNextIntervalMillis_duringFastPollingPeriod_shouldReturnMinInterval() {
+    AdaptivePollingPolicyAdapter policy = new AdaptivePollingPolicyAdapter(10, 1000);
+    for (int i = 1; i <= AdaptivePollingPolicyAdapter.FAST_POLLING_COUNT; i++) {
+      assertThat(policy.getNextIntervalMillis(i, 10)).isEqualTo(10);
+    }
+  }
+
+  @Test
+  public void getNextIntervalMillis_afterFastPollingPeriod_shouldDoubleIntervalUpToMaxInterval() {
+    AdaptivePollingPolicyAdapter policy = new AdaptivePollingPolicyAdapter(10, 50);
+    int idlePollCount = AdaptivePollingPolicyAdapter.FAST_POLLING_COUNT;
+    assertThat(policy.getNextIntervalMillis(++idlePollCount, 10)).isEqualTo(20);
+    assertThat(policy.getNextIntervalMillis(++idlePollCount, 20)).isEqualTo(40);
+    assertThat(policy.getNextIntervalMillis(++idlePollCount, 40)).isEqualTo(50);
+    assertThat(policy.getNextIntervalMillis(++idlePollCount, 50)).isEqualTo(50);
+  }
+
+  @Test
+  public void getNextIntervalMillis_whenMinEqualsMax_shouldReturnFixedInterval() {
+    AdaptivePollingPolicyAdapter policy = new AdaptivePollingPolicyAdapter(100, 100);
+    assertThat(policy.getNextIntervalMillis(1, 100)).isEqualTo(100);
+    assertThat(policy.getNextIntervalMillis(Integer.MAX_VALUE, 100)).isEqualTo(100);
+  }
+}
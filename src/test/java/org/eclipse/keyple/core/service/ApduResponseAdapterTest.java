@@ -29,4 +29,19 @@ public void buildApduResponseAdapter() {
     assertThat(apduResponseAdapter.getStatusWord()).isEqualTo(0x9000);
     assertThat(apduResponseAdapter.getDataOut()).isEqualTo(HexUtil.toByteArray(HEX_REQUEST_DATA));
   }
+
+  @Test
+  public void getDataOutLength_shouldReturnLengthWithoutStatusWord() {
+    apduResponseAdapter = new ApduResponseAdapter(HexUtil.toByteArray(HEX_REQUEST));
+    assertThat(apduResponseAdapter.getDataOutLength()).isEqualTo(4);
+    assertThat(new ApduResponseAdapter(HexUtil.toByteArray("9000")).getDataOutLength()).isZero();
+  }
+
+  @Test
+  public void copyDataOutTo_shouldCopyDataOutAtProvidedPosition() {
+    apduResponseAdapter = new ApduResponseAdapter(HexUtil.toByteArray(HEX_REQUEST));
+    byte[] dest = new byte[6];
+    apduResponseAdapter.copyDataOutTo(dest, 2);
+    assertThat(dest).isEqualTo(HexUtil.toByteArray("000012345678"));
+  }
 }
@@ -13,6 +13,7 @@
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.regex.Pattern;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -29,6 +30,7 @@ public void setUp() {
   public void testDefaultValues() {
     assertThat(selectorAdapter.getLogicalProtocolName()).isNull();
     assertThat(selectorAdapter.getPowerOnDataRegex()).isNull();
+    assertThat(selectorAdapter.getPowerOnDataPattern()).isNull();
   }
 
   @Test
@@ -44,4 +46,14 @@ public void testFilterByPowerOnData() {
     selectorAdapter.filterByPowerOnData(regex);
     assertThat(selectorAdapter.getPowerOnDataRegex()).isEqualTo(regex);
   }
+
+  @Test
+  public void getPowerOnDataPattern_shouldReturnSameCompiledPatternUntilFilterChanges() {
+    selectorAdapter.filterByPowerOnData("3B.*");
+    Pattern pattern = selectorAdapter.getPowerOnDataPattern();
+    assertThat(pattern.pattern()).isEqualTo("3B.*");
+    assertThat(selectorAdapter.getPowerOnDataPattern()).isSameAs(pattern);
+    selectorAdapter.filterByPowerOnData("3F.*");
+    assertThat(selectorAdapter.getPowerOnDataPattern().pattern()).isEqualTo("3F.*");
+  }
 }
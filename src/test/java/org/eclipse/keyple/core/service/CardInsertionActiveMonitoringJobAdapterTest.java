@@ -0,0 +1,98 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+public class CardInsertionActiveMonitoringJobAdapterTest {
+
+  private static final long SLEEP_DURATION_MILLIS = 10;
+
+  private final AtomicBoolean isCardPresent = new AtomicBoolean();
+  private ScheduledExecutorService scheduler;
+  private CardInsertionActiveMonitoringJobAdapter job;
+
+  @Before
+  public void setUp() {
+    scheduler = Executors.newSingleThreadScheduledExecutor();
+    ObservableLocalReaderAdapter reader = mock(ObservableLocalReaderAdapter.class);
+    when(reader.getName()).thenReturn("READER");
+    when(reader.isCardPresent())
+        .thenAnswer(
+            new Answer<Boolean>() {
+              @Override
+              public Boolean answer(InvocationOnMock invocation) {
+                return isCardPresent.get();
+              }
+            });
+    job =
+        new CardInsertionActiveMonitoringJobAdapter(
+            reader,
+            SLEEP_DURATION_MILLIS,
+            true,
+            new Executor() {
+              @Override
+              public void execute(Runnable command) {
+                command.run();
+              }
+            });
+  }
+
+  @After
+  public void tearDown() {
+    scheduler.shutdownNow();
+  }
+
+  @Test
+  public void startMonitoringJob_whenCardIsInserted_shouldNotifyCardInserted() throws Exception {
+    AbstractObservableStateAdapter monitoringState = mock(AbstractObservableStateAdapter.class);
+    isCardPresent.set(true);
+
+    job.startMonitoringJob(monitoringState, scheduler).get(1, TimeUnit.SECONDS);
+
+    verify(monitoringState).onEvent(ObservableLocalReaderAdapter.InternalEvent.CARD_INSERTED);
+  }
+
+  @Test
+  public void startMonitoringJob_whenRestartedRightAfterStop_shouldNotReviveThePreviousRun()
+      throws Exception {
+    AbstractObservableStateAdapter previousState = mock(AbstractObservableStateAdapter.class);
+    AbstractObservableStateAdapter currentState = mock(AbstractObservableStateAdapter.class);
+
+    Future<?> previousRun = job.startMonitoringJob(previousState, scheduler);
+    Thread.sleep(5 * SLEEP_DURATION_MILLIS);
+    job.stop();
+    previousRun.cancel(false);
+    isCardPresent.set(true);
+    job.startMonitoringJob(currentState, scheduler).get(1, TimeUnit.SECONDS);
+    // let a possibly pending tick of the previous run execute
+    Thread.sleep(5 * SLEEP_DURATION_MILLIS);
+
+    assertThat(previousRun.isDone()).isTrue();
+    verify(previousState, never()).onEvent(any(ObservableLocalReaderAdapter.InternalEvent.class));
+    verify(currentState).onEvent(ObservableLocalReaderAdapter.InternalEvent.CARD_INSERTED);
+  }
+}
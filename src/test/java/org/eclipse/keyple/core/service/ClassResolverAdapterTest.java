@@ -0,0 +1,103 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.shouldHaveThrown;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.eclipse.keyple.core.service.spi.DeserializationFilterSpi;
+import org.junit.After;
+import org.junit.Test;
+
+public class ClassResolverAdapterTest {
+
+  private static final Set<String> initializedClassNames =
+      Collections.synchronizedSet(new HashSet<String>());
+
+  static final class NotAList {
+    static {
+      initializedClassNames.add(NotAList.class.getName());
+    }
+  }
+
+  static final class AList extends ArrayList<String> {
+    static {
+      initializedClassNames.add(AList.class.getName());
+    }
+  }
+
+  @After
+  public void tearDown() {
+    ClassResolverAdapter.setDeserializationFilter(null);
+  }
+
+  @Test
+  public void resolveClass_whenClassIsASubtype_shouldReturnIt() throws Exception {
+    assertThat(ClassResolverAdapter.resolveClass(ArrayList.class.getName(), List.class))
+        .isSameAs(ArrayList.class);
+  }
+
+  @Test(expected = ClassNotFoundException.class)
+  public void resolveClass_whenClassIsNotASubtype_shouldThrowCNFE() throws Exception {
+    ClassResolverAdapter.resolveClass(String.class.getName(), List.class);
+  }
+
+  @Test
+  public void resolveClass_whenClassIsASubtype_shouldInitializeIt() throws Exception {
+    assertThat(ClassResolverAdapter.resolveClass(AList.class.getName(), List.class))
+        .isSameAs(AList.class);
+    assertThat(initializedClassNames).contains(AList.class.getName());
+  }
+
+  @Test
+  public void resolveClass_whenClassIsNotASubtype_shouldNotInitializeIt() throws Exception {
+    try {
+      ClassResolverAdapter.resolveClass(NotAList.class.getName(), List.class);
+      shouldHaveThrown(ClassNotFoundException.class);
+    } catch (ClassNotFoundException e) {
+      assertThat(initializedClassNames).doesNotContain(NotAList.class.getName());
+    }
+  }
+
+  @Test(expected = ClassNotFoundException.class)
+  public void resolveClass_whenClassIsUnknown_shouldThrowCNFE() throws Exception {
+    ClassResolverAdapter.resolveClass("org.eclipse.keyple.UnknownClass", Object.class);
+  }
+
+  @Test(expected = ClassNotFoundException.class)
+  public void resolveClass_whenClassIsRejectedByTheFilter_shouldThrowCNFE() throws Exception {
+    ClassResolverAdapter.setDeserializationFilter(
+        new DeserializationFilterSpi() {
+          @Override
+          public boolean isClassAllowed(String className) {
+            return false;
+          }
+        });
+    ClassResolverAdapter.resolveClass(ArrayList.class.getName(), List.class);
+  }
+
+  @Test
+  public void resolveConstructor_whenConstructorExists_shouldReturnIt() throws Exception {
+    assertThat(ClassResolverAdapter.resolveConstructor(ArrayList.class, int.class))
+        .isEqualTo(ArrayList.class.getConstructor(int.class));
+  }
+
+  @Test(expected = NoSuchMethodException.class)
+  public void resolveConstructor_whenConstructorDoesNotExist_shouldThrowNSME() throws Exception {
+    ClassResolverAdapter.resolveConstructor(ArrayList.class, String.class);
+  }
+}
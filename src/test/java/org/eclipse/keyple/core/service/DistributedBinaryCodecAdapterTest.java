@@ -0,0 +1,119 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import org.eclipse.keyple.core.util.HexUtil;
+import org.eclipse.keypop.card.ApduResponseApi;
+import org.eclipse.keypop.card.ChannelControl;
+import org.eclipse.keypop.card.spi.ApduRequestSpi;
+import org.junit.Test;
+
+public class DistributedBinaryCodecAdapterTest {
+
+  private static final String APDU_1 = "00A404000AA000000291A00000019100";
+  private static final String APDU_2 = "00B2014400";
+
+  @Test
+  public void encodeCardRequest_thenDecode_shouldRestoreCardRequest() {
+    List<InternalDto.ApduRequest> apduRequests = new ArrayList<>();
+    apduRequests.add(
+        new InternalDto.ApduRequest(
+            HexUtil.toByteArray(APDU_1),
+            new HashSet<>(Arrays.asList(0x9000, 0x6283)),
+            "Select Application"));
+    apduRequests.add(
+        new InternalDto.ApduRequest(
+            HexUtil.toByteArray(APDU_2), new HashSet<>(Collections.singletonList(0x9000)), null));
+
+    String message =
+        DistributedBinaryCodecAdapter.encodeCardRequest(
+            new InternalDto.CardRequest(apduRequests, true), ChannelControl.CLOSE_AFTER);
+
+    assertThat(DistributedBinaryCodecAdapter.isBinaryMessage(message)).isTrue();
+    assertThat(message).matches("~[A-Za-z0-9_-]+");
+
+    DistributedBinaryCodecAdapter.CardRequestMessage decoded =
+        DistributedBinaryCodecAdapter.decodeCardRequest(message);
+    assertThat(decoded.getChannelControl()).isEqualTo(ChannelControl.CLOSE_AFTER);
+    assertThat(decoded.getCardRequest().stopOnUnsuccessfulStatusWord()).isTrue();
+    List<ApduRequestSpi> decodedApduRequests = decoded.getCardRequest().getApduRequests();
+    assertThat(decodedApduRequests).hasSize(2);
+    assertThat(decodedApduRequests.get(0).getApdu()).isEqualTo(HexUtil.toByteArray(APDU_1));
+    assertThat(decodedApduRequests.get(0).getSuccessfulStatusWords())
+        .containsExactlyInAnyOrder(0x9000, 0x6283);
+    assertThat(decodedApduRequests.get(0).getInfo()).isEqualTo("Select Application");
+    assertThat(decodedApduRequests.get(1).getApdu()).isEqualTo(HexUtil.toByteArray(APDU_2));
+    assertThat(decodedApduRequests.get(1).getSuccessfulStatusWords()).containsExactly(0x9000);
+    assertThat(decodedApduRequests.get(1).getInfo()).isNull();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void encodeCardRequest_whenStatusWordIsNot16Bits_shouldThrowIAE() {
+    List<InternalDto.ApduRequest> apduRequests = new ArrayList<>();
+    apduRequests.add(
+        new InternalDto.ApduRequest(
+            HexUtil.toByteArray(APDU_2), new HashSet<>(Collections.singletonList(0x10000)), null));
+    DistributedBinaryCodecAdapter.encodeCardRequest(
+        new InternalDto.CardRequest(apduRequests, false), ChannelControl.KEEP_OPEN);
+  }
+
+  @Test
+  public void encodeCardResponse_thenDecode_shouldRestoreCardResponse() {
+    List<ApduResponseAdapter> apduResponses = new ArrayList<>();
+    apduResponses.add(new ApduResponseAdapter(HexUtil.toByteArray("6F0A84089000")));
+    apduResponses.add(new ApduResponseAdapter(HexUtil.toByteArray("6A82")));
+
+    String message =
+        DistributedBinaryCodecAdapter.encodeCardResponse(
+            new CardResponseAdapter(apduResponses, true));
+
+    CardResponseAdapter decoded = DistributedBinaryCodecAdapter.decodeCardResponse(message);
+    assertThat(decoded.isLogicalChannelOpen()).isTrue();
+    List<ApduResponseApi> decodedApduResponses = decoded.getApduResponses();
+    assertThat(decodedApduResponses).hasSize(2);
+    assertThat(decodedApduResponses.get(0).getApdu())
+        .isEqualTo(HexUtil.toByteArray("6F0A84089000"));
+    assertThat(decodedApduResponses.get(1).getStatusWord()).isEqualTo(0x6A82);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void decodeCardResponse_whenMessageIsACardRequest_shouldThrowIAE() {
+    String message =
+        DistributedBinaryCodecAdapter.encodeCardRequest(
+            new InternalDto.CardRequest(new ArrayList<InternalDto.ApduRequest>(), false),
+            ChannelControl.KEEP_OPEN);
+    DistributedBinaryCodecAdapter.decodeCardResponse(message);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void decodeCardResponse_whenMessageIsTruncated_shouldThrowIAE() {
+    List<ApduResponseAdapter> apduResponses = new ArrayList<>();
+    apduResponses.add(new ApduResponseAdapter(HexUtil.toByteArray("6F0A84089000")));
+    String message =
+        DistributedBinaryCodecAdapter.encodeCardResponse(
+            new CardResponseAdapter(apduResponses, false));
+    DistributedBinaryCodecAdapter.decodeCardResponse(message.substring(0, message.length() - 3));
+  }
+
+  @Test
+  public void isBinaryMessage_whenJson_shouldReturnFalse() {
+    assertThat(DistributedBinaryCodecAdapter.isBinaryMessage("{\"coreApiLevel\":2}")).isFalse();
+    assertThat(DistributedBinaryCodecAdapter.isBinaryMessage(null)).isFalse();
+  }
+}
@@ -0,0 +1,362 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.keyple.core.service.util.ReaderAdapterTestUtils.POWER_ON_DATA;
+import static org.eclipse.keyple.core.service.util.ReaderAdapterTestUtils.READER_NAME;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.gson.JsonObject;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import org.eclipse.keyple.core.common.KeypleDistributedLocalServiceExtension;
+import org.eclipse.keyple.core.common.KeyplePluginExtension;
+import org.eclipse.keyple.core.common.KeyplePluginExtensionFactory;
+import org.eclipse.keyple.core.common.KeypleReaderExtension;
+import org.eclipse.keyple.core.distributed.local.spi.LocalServiceSpi;
+import org.eclipse.keyple.core.distributed.remote.spi.RemoteReaderSpi;
+import org.eclipse.keyple.core.plugin.spi.PluginFactorySpi;
+import org.eclipse.keyple.core.plugin.spi.PluginSpi;
+import org.eclipse.keyple.core.plugin.spi.reader.ReaderSpi;
+import org.eclipse.keyple.core.service.DistributedUtilAdapter.JsonProperty;
+import org.eclipse.keyple.core.service.util.ReaderAdapterTestUtils;
+import org.eclipse.keyple.core.service.util.ReaderAdapterTestUtils.ReaderSpiMock;
+import org.eclipse.keyple.core.util.HexUtil;
+import org.eclipse.keyple.core.util.json.JsonUtil;
+import org.eclipse.keypop.card.CardSelectionResponseApi;
+import org.eclipse.keypop.card.ChannelControl;
+import org.eclipse.keypop.card.spi.CardSelectionRequestSpi;
+import org.eclipse.keypop.reader.CardReaderEvent;
+import org.eclipse.keypop.reader.selection.CardSelector;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+public class DistributedLocalServiceAdapterTest {
+
+  private static final String PLUGIN_NAME = "plugin";
+  private static final String REMOTE_PLUGIN_NAME = "remotePlugin";
+  private static final String LOCAL_SERVICE_NAME = "localService";
+  private static final String COMMON_API_VERSION = "2.0";
+  private static final String PLUGIN_API_VERSION = "2.3";
+
+  interface PluginMock extends KeyplePluginExtension, PluginSpi {}
+
+  interface PluginFactoryMock extends KeyplePluginExtensionFactory, PluginFactorySpi {}
+
+  interface LocalServiceMock extends KeypleDistributedLocalServiceExtension, LocalServiceSpi {}
+
+  interface RemoteReaderSpiMock extends KeypleReaderExtension, RemoteReaderSpi {}
+
+  private final List<String> inputs = new ArrayList<String>();
+  private final List<String> outputs = new ArrayList<String>();
+  private ReaderSpiMock readerSpi;
+  private LocalServiceMock localServiceSpi;
+  private volatile DistributedLocalServiceAdapter localService;
+  private RemoteReaderAdapter remoteReader;
+  private List<CardSelectionRequestSpi> cardSelectionRequests;
+
+  @Before
+  public void setUp() throws Exception {
+    readerSpi = ReaderAdapterTestUtils.getReaderSpi();
+    PluginMock plugin = mock(PluginMock.class);
+    when(plugin.getName()).thenReturn(PLUGIN_NAME);
+    when(plugin.searchAvailableReaders()).thenReturn(Collections.<ReaderSpi>singleton(readerSpi));
+    PluginFactoryMock pluginFactory = mock(PluginFactoryMock.class);
+    when(pluginFactory.getPluginName()).thenReturn(PLUGIN_NAME);
+    when(pluginFactory.getCommonApiVersion()).thenReturn(COMMON_API_VERSION);
+    when(pluginFactory.getPluginApiVersion()).thenReturn(PLUGIN_API_VERSION);
+    when(pluginFactory.getPlugin()).thenReturn(plugin);
+    SmartCardServiceProvider.getService().registerPlugin(pluginFactory);
+
+    localServiceSpi = createLocalServiceSpi();
+    localService = createLocalService(localServiceSpi);
+
+    // The remote reader is connected to the local reader through the local service
+    RemoteReaderSpiMock remoteReaderSpi = mock(RemoteReaderSpiMock.class);
+    when(remoteReaderSpi.getName()).thenReturn(READER_NAME);
+    when(remoteReaderSpi.isContactless()).thenReturn(true);
+    when(remoteReaderSpi.executeRemotely(anyString()))
+        .thenAnswer(
+            new Answer<String>() {
+              @Override
+              public String answer(InvocationOnMock invocation) {
+                String input = invocation.getArgument(0);
+                inputs.add(input);
+                String output = localService.executeLocally(input, READER_NAME);
+                outputs.add(output);
+                return output;
+              }
+            });
+    remoteReader =
+        new RemoteReaderAdapter(
+            remoteReaderSpi, REMOTE_PLUGIN_NAME, null, DistributedUtilAdapter.CORE_API_LEVEL);
+    remoteReader.register();
+
+    CardSelectionRequestSpi cardSelectionRequest = mock(CardSelectionRequestSpi.class);
+    when(cardSelectionRequest.getSuccessfulSelectionStatusWords())
+        .thenReturn(new HashSet<Integer>(Collections.singletonList(0x9000)));
+    cardSelectionRequests =
+        Collections.<CardSelectionRequestSpi>singletonList(
+            new InternalDto.CardSelectionRequest(cardSelectionRequest));
+  }
+
+  @After
+  public void tearDown() {
+    localService.unregister();
+    SmartCardServiceProvider.getService().unregisterPlugin(PLUGIN_NAME);
+  }
+
+  private static LocalServiceMock createLocalServiceSpi() {
+    LocalServiceMock localServiceSpi = mock(LocalServiceMock.class);
+    when(localServiceSpi.getName()).thenReturn(LOCAL_SERVICE_NAME);
+    return localServiceSpi;
+  }
+
+  private static DistributedLocalServiceAdapter createLocalService(
+      LocalServiceSpi localServiceSpi) {
+    DistributedLocalServiceAdapter distributedLocalService =
+        new DistributedLocalServiceAdapter(localServiceSpi);
+    distributedLocalService.register();
+    return distributedLocalService;
+  }
+
+  private List<CardSelectionResponseApi> transmitCardSelectionRequests(String powerOnDataRegex)
+      throws Exception {
+    CardSelector<?> cardSelector =
+        SmartCardServiceProvider.getService()
+            .getReaderApiFactory()
+            .createBasicCardSelector()
+            .filterByPowerOnData(powerOnDataRegex);
+    return remoteReader.transmitCardSelectionRequests(
+        Collections.<CardSelector<?>>singletonList(cardSelector),
+        cardSelectionRequests,
+        MultiSelectionProcessing.FIRST_MATCH,
+        ChannelControl.CLOSE_AFTER);
+  }
+
+  private static JsonObject parse(String json) {
+    return JsonUtil.getParser().fromJson(json, JsonObject.class);
+  }
+
+  private JsonObject getInputParameters(int index) {
+    return parse(inputs.get(index)).getAsJsonObject(JsonProperty.PARAMETERS.getKey());
+  }
+
+  private static String buildTreeEventBody(JsonProperty eventProperty, Object event) {
+    // Encoding of the events before the single pass one
+    JsonObject body = new JsonObject();
+    body.addProperty(JsonProperty.CORE_API_LEVEL.getKey(), DistributedUtilAdapter.CORE_API_LEVEL);
+    body.add(eventProperty.getKey(), JsonUtil.getParser().toJsonTree(event));
+    return body.toString();
+  }
+
+  private static void assertMatching(List<CardSelectionResponseApi> cardSelectionResponses) {
+    assertThat(cardSelectionResponses).hasSize(1);
+    assertThat(cardSelectionResponses.get(0).hasMatched()).isTrue();
+    assertThat(cardSelectionResponses.get(0).getPowerOnData()).isEqualTo(POWER_ON_DATA);
+  }
+
+  @Test
+  public void
+      transmitCardSelectionRequests_whenCardSelectionsAreRepeated_shouldSendTheDigestOnly_and_returnTheResult()
+          throws Exception {
+    assertMatching(transmitCardSelectionRequests(POWER_ON_DATA));
+    assertMatching(transmitCardSelectionRequests(POWER_ON_DATA));
+
+    assertThat(inputs).hasSize(2);
+    JsonObject firstParameters = getInputParameters(0);
+    assertThat(firstParameters.has(JsonProperty.CARD_SELECTORS.getKey())).isTrue();
+    assertThat(firstParameters.has(JsonProperty.CARD_SELECTION_REQUESTS.getKey())).isTrue();
+    assertThat(firstParameters.has(JsonProperty.CARD_SELECTIONS_DIGEST.getKey())).isFalse();
+    String digest =
+        parse(outputs.get(0)).get(JsonProperty.CARD_SELECTIONS_DIGEST.getKey()).getAsString();
+    JsonObject secondParameters = getInputParameters(1);
+    assertThat(secondParameters.has(JsonProperty.CARD_SELECTORS.getKey())).isFalse();
+    assertThat(secondParameters.has(JsonProperty.CARD_SELECTION_REQUESTS.getKey())).isFalse();
+    assertThat(secondParameters.get(JsonProperty.CARD_SELECTIONS_DIGEST.getKey()).getAsString())
+        .isEqualTo(digest);
+  }
+
+  @Test
+  public void transmitCardSelectionRequests_whenCardSelectionsChange_shouldSendTheFullContent()
+      throws Exception {
+    assertMatching(transmitCardSelectionRequests(POWER_ON_DATA));
+    assertMatching(transmitCardSelectionRequests(".*"));
+
+    assertThat(inputs).hasSize(2);
+    JsonObject secondParameters = getInputParameters(1);
+    assertThat(secondParameters.has(JsonProperty.CARD_SELECTORS.getKey())).isTrue();
+    assertThat(secondParameters.has(JsonProperty.CARD_SELECTIONS_DIGEST.getKey())).isFalse();
+  }
+
+  @Test
+  public void
+      transmitCardSelectionRequests_whenDigestIsNoLongerCached_shouldResendTheFullContent_and_returnTheResult()
+          throws Exception {
+    assertMatching(transmitCardSelectionRequests(POWER_ON_DATA));
+
+    // A restarted local service does not know the digest anymore
+    localService.unregister();
+    localService = createLocalService(createLocalServiceSpi());
+    assertMatching(transmitCardSelectionRequests(POWER_ON_DATA));
+
+    assertThat(inputs).hasSize(3);
+    assertThat(getInputParameters(1).has(JsonProperty.CARD_SELECTIONS_DIGEST.getKey())).isTrue();
+    JsonObject missOutput = parse(outputs.get(1));
+    assertThat(missOutput.has(JsonProperty.RESULT.getKey())).isFalse();
+    assertThat(missOutput.has(JsonProperty.ERROR.getKey())).isFalse();
+    JsonObject resentParameters = getInputParameters(2);
+    assertThat(resentParameters.has(JsonProperty.CARD_SELECTORS.getKey())).isTrue();
+    assertThat(resentParameters.has(JsonProperty.CARD_SELECTIONS_DIGEST.getKey())).isFalse();
+
+    // The digest is known again by the local service
+    assertMatching(transmitCardSelectionRequests(POWER_ON_DATA));
+    assertThat(inputs).hasSize(4);
+    assertThat(getInputParameters(3).has(JsonProperty.CARD_SELECTORS.getKey())).isFalse();
+  }
+
+  @Test
+  public void
+      transmitCardSelectionRequests_whenCachedCommandIsReplayedOn6CXX_shouldNotAlterTheCachedCommand()
+          throws Exception {
+    CardSelectionRequestSpi cardSelectionRequest = mock(CardSelectionRequestSpi.class);
+    when(cardSelectionRequest.getSuccessfulSelectionStatusWords())
+        .thenReturn(new HashSet<Integer>(Collections.singletonList(0x9000)));
+    when(cardSelectionRequest.getCardRequest())
+        .thenReturn(
+            new InternalDto.CardRequest(
+                Collections.singletonList(
+                    new InternalDto.ApduRequest(
+                        HexUtil.toByteArray("00B2014400"),
+                        new HashSet<Integer>(Collections.singletonList(0x9000)),
+                        null)),
+                false));
+    cardSelectionRequests =
+        Collections.<CardSelectionRequestSpi>singletonList(
+            new InternalDto.CardSelectionRequest(cardSelectionRequest));
+    when(readerSpi.transmitApdu(any(byte[].class)))
+        .thenReturn(
+            HexUtil.toByteArray("6C10"),
+            HexUtil.toByteArray("11119000"),
+            HexUtil.toByteArray("22229000"));
+
+    assertMatching(transmitCardSelectionRequests(POWER_ON_DATA));
+    List<CardSelectionResponseApi> cardSelectionResponses =
+        transmitCardSelectionRequests(POWER_ON_DATA);
+
+    assertMatching(cardSelectionResponses);
+    assertThat(getInputParameters(1).has(JsonProperty.CARD_SELECTIONS_DIGEST.getKey())).isTrue();
+    assertThat(cardSelectionResponses.get(0).getCardResponse().getApduResponses().get(0).getApdu())
+        .isEqualTo(HexUtil.toByteArray("22229000"));
+    ArgumentCaptor<byte[]> apduCaptor = ArgumentCaptor.forClass(byte[].class);
+    verify(readerSpi, times(3)).transmitApdu(apduCaptor.capture());
+    assertThat(apduCaptor.getAllValues().get(0)).isEqualTo(HexUtil.toByteArray("00B2014400"));
+    assertThat(apduCaptor.getAllValues().get(1)).isEqualTo(HexUtil.toByteArray("00B2014410"));
+    assertThat(apduCaptor.getAllValues().get(2)).isEqualTo(HexUtil.toByteArray("00B2014400"));
+  }
+
+  @Test
+  public void onPluginEvent_shouldForwardTheSameJsonAsTheTreeBasedEncoding() {
+    PluginEvent pluginEvent =
+        new PluginEventAdapter(
+            PLUGIN_NAME,
+            new HashSet<String>(Arrays.asList("reader<1>", "reader='2'&")),
+            PluginEvent.Type.READER_CONNECTED);
+
+    localService.onPluginEvent(pluginEvent);
+
+    verify(localServiceSpi)
+        .onPluginEvent("reader<1>", buildTreeEventBody(JsonProperty.PLUGIN_EVENT, pluginEvent));
+  }
+
+  @Test
+  public void onReaderEvent_shouldForwardTheSameJsonAsTheTreeBasedEncoding() {
+    List<CardSelectionResponseApi> cardSelectionResponses =
+        new ArrayList<CardSelectionResponseApi>();
+    cardSelectionResponses.add(new CardSelectionResponseAdapter("3B<8F>", null, false, null));
+    cardSelectionResponses.add(
+        new CardSelectionResponseAdapter(
+            POWER_ON_DATA,
+            new ApduResponseAdapter(HexUtil.toByteArray("6F009000")),
+            true,
+            new CardResponseAdapter(
+                Collections.singletonList(
+                    new ApduResponseAdapter(HexUtil.toByteArray("11229000"))),
+                true)));
+    CardReaderEvent readerEvent =
+        new ReaderEventAdapter(
+            PLUGIN_NAME,
+            READER_NAME,
+            CardReaderEvent.Type.CARD_MATCHED,
+            new ScheduledCardSelectionsResponseAdapter(cardSelectionResponses));
+
+    localService.onReaderEvent(readerEvent);
+
+    verify(localServiceSpi)
+        .onReaderEvent(READER_NAME, buildTreeEventBody(JsonProperty.READER_EVENT, readerEvent));
+  }
+
+  @Test
+  public void onReaderEvent_whenSeveralLocalServicesAreNotified_shouldShareTheSameEncoding() {
+    LocalServiceMock otherLocalServiceSpi = createLocalServiceSpi();
+    DistributedLocalServiceAdapter otherLocalService = createLocalService(otherLocalServiceSpi);
+    try {
+      CardReaderEvent readerEvent =
+          new ReaderEventAdapter(
+              PLUGIN_NAME, READER_NAME, CardReaderEvent.Type.CARD_INSERTED, null);
+      DistributedLocalServiceAdapter.EventBody eventBody =
+          new DistributedLocalServiceAdapter.EventBody(JsonProperty.READER_EVENT, readerEvent);
+
+      localService.onReaderEvent(readerEvent, eventBody);
+      otherLocalService.onReaderEvent(readerEvent, eventBody);
+
+      ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+      verify(localServiceSpi).onReaderEvent(eq(READER_NAME), body.capture());
+      ArgumentCaptor<String> otherBody = ArgumentCaptor.forClass(String.class);
+      verify(otherLocalServiceSpi).onReaderEvent(eq(READER_NAME), otherBody.capture());
+      assertThat(otherBody.getValue()).isSameAs(body.getValue());
+      assertThat(body.getValue())
+          .isEqualTo(buildTreeEventBody(JsonProperty.READER_EVENT, readerEvent));
+    } finally {
+      otherLocalService.unregister();
+    }
+  }
+
+  @Test
+  public void onReaderEvent_whenNotifiedTwiceOfTheSameEvent_shouldEncodeItForEachNotification() {
+    CardReaderEvent readerEvent =
+        new ReaderEventAdapter(PLUGIN_NAME, READER_NAME, CardReaderEvent.Type.CARD_INSERTED, null);
+
+    localService.onReaderEvent(readerEvent);
+    localService.onReaderEvent(readerEvent);
+
+    ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+    verify(localServiceSpi, times(2)).onReaderEvent(eq(READER_NAME), body.capture());
+    assertThat(body.getAllValues().get(1))
+        .isNotSameAs(body.getAllValues().get(0))
+        .isEqualTo(body.getAllValues().get(0));
+  }
+}
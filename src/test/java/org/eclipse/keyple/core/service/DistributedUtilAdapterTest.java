@@ -0,0 +1,51 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.gson.JsonObject;
+import java.util.Map;
+import org.junit.Test;
+
+public class DistributedUtilAdapterTest {
+
+  @Test
+  public void computeDigest_shouldDependOnContentOnly() {
+    assertThat(DistributedUtilAdapter.computeDigest("{\"a\":1}"))
+        .isEqualTo(DistributedUtilAdapter.computeDigest("{\"a\":1}"))
+        .isNotEqualTo(DistributedUtilAdapter.computeDigest("{\"a\":2}"));
+  }
+
+  @Test
+  public void createLruCache_whenFull_shouldEvictLeastRecentlyUsedEntry() {
+    Map<String, String> cache = DistributedUtilAdapter.createLruCache(2);
+    cache.put("a", "1");
+    cache.put("b", "2");
+    cache.get("a");
+    cache.put("c", "3");
+    assertThat(cache).containsOnlyKeys("a", "c");
+  }
+
+  @Test
+  public void decodeReaderServiceOutput_shouldCollectOtherProperties() throws Exception {
+    JsonObject otherProperties = new JsonObject();
+    Boolean result =
+        DistributedUtilAdapter.decodeReaderServiceOutput(
+            "{\"coreApiLevel\":2,\"result\":true,\"cardSelectionsDigest\":\"digest\"}",
+            Boolean.class,
+            otherProperties);
+    assertThat(result).isTrue();
+    assertThat(otherProperties.get("cardSelectionsDigest").getAsString()).isEqualTo("digest");
+    assertThat(otherProperties.has("result")).isFalse();
+  }
+}
@@ -0,0 +1,186 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+
+public class EventDispatcherAdapterTest {
+
+  private static final Collection<String> OBSERVERS = Arrays.asList("o1", "o2");
+
+  private ManualExecutorService executorService;
+  private List<String> notifications;
+  private EventDispatcherAdapter.EventHandler<String, String> eventHandler;
+
+  @Before
+  public void setUp() {
+    executorService = new ManualExecutorService();
+    notifications = new ArrayList<String>();
+    eventHandler =
+        new EventDispatcherAdapter.EventHandler<String, String>() {
+          @Override
+          public void notifyObserver(String observer, String event) {
+            notifications.add(observer + ":" + event);
+          }
+
+          @Override
+          public boolean isCancelledBy(String event, String nextEvent) {
+            return event.startsWith("IN") && nextEvent.startsWith("OUT");
+          }
+        };
+  }
+
+  private EventDispatcherAdapter<String, String> newDispatcher(
+      int queueCapacity, EventOverflowPolicy overflowPolicy) {
+    return new EventDispatcherAdapter<String, String>(
+        "reader", "READER", executorService, eventHandler, queueCapacity, overflowPolicy);
+  }
+
+  @Test
+  public void dispatch_shouldDeliverEventsInOrderWithASingleTask() {
+    EventDispatcherAdapter<String, String> dispatcher =
+        newDispatcher(10, EventOverflowPolicy.BLOCK);
+    dispatcher.dispatch("e1", OBSERVERS);
+    dispatcher.dispatch("e2", OBSERVERS);
+    assertThat(executorService.tasks).hasSize(1);
+    assertThat(dispatcher.getQueueDepth()).isEqualTo(2);
+
+    executorService.runTasks();
+
+    assertThat(notifications).containsExactly("o1:e1", "o2:e1", "o1:e2", "o2:e2");
+    assertThat(dispatcher.getQueueDepth()).isZero();
+    assertThat(dispatcher.getDeliveredEventCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void dispatch_whenQueueIsFullAndPolicyIsDropOldest_shouldDropOldestEvent() {
+    EventDispatcherAdapter<String, String> dispatcher =
+        newDispatcher(2, EventOverflowPolicy.DROP_OLDEST);
+    dispatcher.dispatch("e1", OBSERVERS);
+    dispatcher.dispatch("e2", OBSERVERS);
+    dispatcher.dispatch("e3", OBSERVERS);
+
+    executorService.runTasks();
+
+    assertThat(notifications).containsExactly("o1:e2", "o2:e2", "o1:e3", "o2:e3");
+    assertThat(dispatcher.getDroppedEventCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void dispatch_whenQueueIsFullAndPolicyIsCoalesce_shouldRemovePendingPair() {
+    EventDispatcherAdapter<String, String> dispatcher =
+        newDispatcher(3, EventOverflowPolicy.COALESCE);
+    dispatcher.dispatch("e1", OBSERVERS);
+    dispatcher.dispatch("IN1", OBSERVERS);
+    dispatcher.dispatch("OUT1", OBSERVERS);
+    dispatcher.dispatch("IN2", OBSERVERS);
+    dispatcher.dispatch("OUT2", OBSERVERS);
+
+    executorService.runTasks();
+
+    assertThat(notifications)
+        .containsExactly("o1:e1", "o2:e1", "o1:IN2", "o2:IN2", "o1:OUT2", "o2:OUT2");
+    assertThat(dispatcher.getCoalescedEventCount()).isEqualTo(2);
+    assertThat(dispatcher.getDroppedEventCount()).isZero();
+  }
+
+  @Test
+  public void dispatch_whenQueueIsFullAndPolicyIsCoalesceAndEventCancelsLast_shouldRemoveBoth() {
+    EventDispatcherAdapter<String, String> dispatcher =
+        newDispatcher(2, EventOverflowPolicy.COALESCE);
+    dispatcher.dispatch("e1", OBSERVERS);
+    dispatcher.dispatch("IN1", OBSERVERS);
+    dispatcher.dispatch("OUT1", OBSERVERS);
+
+    executorService.runTasks();
+
+    assertThat(notifications).containsExactly("o1:e1", "o2:e1");
+    assertThat(dispatcher.getCoalescedEventCount()).isEqualTo(2);
+    assertThat(dispatcher.getDroppedEventCount()).isZero();
+  }
+
+  @Test
+  public void dispatch_whenQueueIsFullAndPolicyIsCoalesceWithoutPair_shouldDropOldestEvent() {
+    EventDispatcherAdapter<String, String> dispatcher =
+        newDispatcher(1, EventOverflowPolicy.COALESCE);
+    dispatcher.dispatch("e1", OBSERVERS);
+    dispatcher.dispatch("e2", OBSERVERS);
+
+    executorService.runTasks();
+
+    assertThat(notifications).containsExactly("o1:e2", "o2:e2");
+    assertThat(dispatcher.getDroppedEventCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void dispatch_whenClosed_shouldDeliverPendingEvents_and_dropNextOnes() {
+    EventDispatcherAdapter<String, String> dispatcher =
+        newDispatcher(10, EventOverflowPolicy.BLOCK);
+    dispatcher.dispatch("e1", OBSERVERS);
+    dispatcher.close();
+    dispatcher.dispatch("e2", OBSERVERS);
+
+    executorService.runTasks();
+
+    assertThat(notifications).containsExactly("o1:e1", "o2:e1");
+    assertThat(dispatcher.getDroppedEventCount()).isEqualTo(1);
+  }
+
+  /** Executor service running the submitted tasks only on demand. */
+  private static final class ManualExecutorService extends AbstractExecutorService {
+
+    private final List<Runnable> tasks = new ArrayList<Runnable>();
+
+    private void runTasks() {
+      while (!tasks.isEmpty()) {
+        tasks.remove(0).run();
+      }
+    }
+
+    @Override
+    public void execute(Runnable command) {
+      tasks.add(command);
+    }
+
+    @Override
+    public void shutdown() {}
+
+    @Override
+    public List<Runnable> shutdownNow() {
+      return new ArrayList<Runnable>();
+    }
+
+    @Override
+    public boolean isShutdown() {
+      return false;
+    }
+
+    @Override
+    public boolean isTerminated() {
+      return false;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) {
+      return true;
+    }
+  }
+}
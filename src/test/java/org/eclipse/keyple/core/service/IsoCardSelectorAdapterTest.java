@@ -13,6 +13,7 @@
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.regex.Pattern;
 import org.eclipse.keyple.core.util.HexUtil;
 import org.eclipse.keypop.reader.selection.CommonIsoCardSelector;
 import org.junit.Before;
@@ -32,6 +33,7 @@ public void testDefaultValues() {
     assertThat(selectorAdapter.getAid()).isNull();
     assertThat(selectorAdapter.getLogicalProtocolName()).isNull();
     assertThat(selectorAdapter.getPowerOnDataRegex()).isNull();
+    assertThat(selectorAdapter.getPowerOnDataPattern()).isNull();
     assertThat(selectorAdapter.getFileOccurrence())
         .isEqualTo(CommonIsoCardSelector.FileOccurrence.FIRST);
     assertThat(selectorAdapter.getFileControlInformation())
@@ -80,4 +82,44 @@ public void testFilterByPowerOnData() {
     selectorAdapter.filterByPowerOnData(regex);
     assertThat(selectorAdapter.getPowerOnDataRegex()).isEqualTo(regex);
   }
+
+  @Test
+  public void getPowerOnDataPattern_shouldReturnSameCompiledPatternUntilFilterChanges() {
+    selectorAdapter.filterByPowerOnData("3B.*");
+    Pattern pattern = selectorAdapter.getPowerOnDataPattern();
+    assertThat(pattern.pattern()).isEqualTo("3B.*");
+    assertThat(selectorAdapter.getPowerOnDataPattern()).isSameAs(pattern);
+    selectorAdapter.filterByPowerOnData("3F.*");
+    assertThat(selectorAdapter.getPowerOnDataPattern().pattern()).isEqualTo("3F.*");
+  }
+
+  @Test
+  public void getSelectApplicationCommand_shouldReturnSameCommandUntilParametersChange() {
+    assertThat(selectorAdapter.getSelectApplicationCommand()).isNull();
+    selectorAdapter.filterByDfName("A000000291");
+    byte[] command = selectorAdapter.getSelectApplicationCommand();
+    assertThat(command).isEqualTo(HexUtil.toByteArray("00A4040005A00000029100"));
+    assertThat(selectorAdapter.getSelectApplicationCommand()).isSameAs(command);
+    selectorAdapter
+        .setFileOccurrence(CommonIsoCardSelector.FileOccurrence.NEXT)
+        .setFileControlInformation(CommonIsoCardSelector.FileControlInformation.FCP);
+    assertThat(selectorAdapter.getSelectApplicationCommand())
+        .isEqualTo(HexUtil.toByteArray("00A4040605A00000029100"));
+  }
+
+  @Test
+  public void getSelectApplicationCommand_whenProvidedAidIsModified_shouldNotChange() {
+    byte[] aid = HexUtil.toByteArray("A000000291");
+    selectorAdapter.filterByDfName(aid);
+    byte[] command = selectorAdapter.getSelectApplicationCommand().clone();
+    aid[0] = 0x00;
+    assertThat(selectorAdapter.getAid()).isEqualTo(HexUtil.toByteArray("A000000291"));
+    assertThat(selectorAdapter.getSelectApplicationCommand()).isEqualTo(command);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void getSelectApplicationCommand_whenAidIsTooLong_shouldThrowIAE() {
+    selectorAdapter.filterByDfName(new byte[17]);
+    selectorAdapter.getSelectApplicationCommand();
+  }
 }
@@ -17,6 +17,7 @@
 import static org.mockito.Mockito.when;
 
 import java.util.*;
+import java.util.regex.Pattern;
 import org.eclipse.keyple.core.common.KeyplePluginExtension;
 import org.eclipse.keyple.core.common.KeypleReaderExtension;
 import org.eclipse.keyple.core.plugin.PluginIOException;
@@ -145,6 +146,34 @@ public void findReader_whenReaderNameRegexMatches_returnsExistingReader() throws
     assertThat(foundedReader.getName()).isEqualTo(READER_NAME_1);
   }
 
+  @Test
+  public void findReader_whenReaderNameIsQuoted_returnsExistingReader() throws Exception {
+
+    Set<ReaderSpi> readerSpis = new HashSet<ReaderSpi>();
+    readerSpis.add(readerSpi1);
+    readerSpis.add(readerSpi2);
+    when(pluginSpi.searchAvailableReaders()).thenReturn(readerSpis);
+    LocalPluginAdapter localPluginAdapter = new LocalPluginAdapter(pluginSpi);
+    localPluginAdapter.register();
+
+    // Act
+    CardReader foundedReader = localPluginAdapter.findReader(Pattern.quote(READER_NAME_2));
+
+    // Assert
+    assertThat(foundedReader).isNotNull();
+    assertThat(foundedReader.getName()).isEqualTo(READER_NAME_2);
+    assertThat(localPluginAdapter.findReader(Pattern.quote(READER_NAME_2 + "X"))).isNull();
+  }
+
+  @Test
+  public void getLiteralReaderName_shouldReturnNameOnlyForQuotedOrLiteralRegex() {
+    assertThat(AbstractPluginAdapter.getLiteralReaderName(Pattern.quote("reader (1)")))
+        .isEqualTo("reader (1)");
+    assertThat(AbstractPluginAdapter.getLiteralReaderName("reader 1")).isEqualTo("reader 1");
+    assertThat(AbstractPluginAdapter.getLiteralReaderName("reader.*")).isNull();
+    assertThat(AbstractPluginAdapter.getLiteralReaderName(Pattern.quote("a\\Eb"))).isNull();
+  }
+
   @Test
   public void findReader_whenNoReaderNameMatches_returnsNull() throws Exception {
 
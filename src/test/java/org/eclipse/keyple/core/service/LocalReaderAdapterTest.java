@@ -32,6 +32,7 @@
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 
 public class LocalReaderAdapterTest {
@@ -190,6 +191,41 @@ public void getReaderSpi_shouldReturnReaderSpi() {
     assertThat(localReaderAdapter.isLogicalChannelOpen()).isTrue();
   }
 
+  @Test
+  public void
+      transmitCardSelectionRequests_whenSelectApplicationIsAnswered6CXX_shouldReplayACopyOfTheCachedCommand()
+          throws Exception {
+    byte[] selectResponseApdu = HexUtil.toByteArray("123456789000");
+    when(readerSpi.transmitApdu(any(byte[].class)))
+        .thenReturn(HexUtil.toByteArray("6C10"), selectResponseApdu);
+    cardSelector =
+        SmartCardServiceProvider.getService()
+            .getReaderApiFactory()
+            .createIsoCardSelector()
+            .filterByDfName("1122334455");
+    byte[] selectApplicationCommand = HexUtil.toByteArray("00A4040005112233445500");
+
+    LocalReaderAdapter localReaderAdapter = new LocalReaderAdapter(readerSpi, PLUGIN_NAME);
+    localReaderAdapter.register();
+    List<CardSelectionResponseApi> cardSelectionResponses =
+        localReaderAdapter.transmitCardSelectionRequests(
+            new ArrayList<CardSelector<?>>(Collections.singletonList(cardSelector)),
+            new ArrayList<CardSelectionRequestSpi>(
+                Collections.singletonList(cardSelectionRequestSpi)),
+            MultiSelectionProcessing.FIRST_MATCH,
+            ChannelControl.CLOSE_AFTER);
+
+    assertThat(cardSelectionResponses.get(0).getSelectApplicationResponse().getApdu())
+        .isEqualTo(selectResponseApdu);
+    ArgumentCaptor<byte[]> apduCaptor = ArgumentCaptor.forClass(byte[].class);
+    verify(readerSpi, times(2)).transmitApdu(apduCaptor.capture());
+    assertThat(apduCaptor.getAllValues().get(0)).isEqualTo(selectApplicationCommand);
+    assertThat(apduCaptor.getAllValues().get(1))
+        .isEqualTo(HexUtil.toByteArray("00A4040005112233445510"));
+    assertThat(((InternalIsoCardSelector) cardSelector).getSelectApplicationCommand())
+        .isEqualTo(selectApplicationCommand);
+  }
+
   @Test
   public void
       transmitCardSelectionRequests_withMatchingDFNameFilteringCardSelectorInvalidatedRejected_shouldReturnNotMatchingResponseAndNotOpenChannel()
@@ -709,4 +745,84 @@ public void transmitCardRequest_with6100Response_withMaxLength_shouldRequestMaxB
     assertThat(response.getApduResponses().get(0).getApdu()).isEqualTo(getResponseCApdu);
     assertThat(response.getApduResponses().get(0).getStatusWord()).isEqualTo(0x9000);
   }
+
+  @Test
+  public void
+      transmitCardRequest_with61XXResponse_exceedingBufferCapacity_shouldAccumulateAllDataAtEachCall()
+          throws Exception {
+    byte[] requestApdu = HexUtil.toByteArray("00B0000000");
+    // First response: 250 bytes, status 6100 (256 more bytes)
+    byte[] firstResponseApdu = buildResponse(250, (byte) 0xAA, 0x6100);
+    // Second response: 256 bytes, status 6110 (16 more bytes)
+    byte[] secondResponseApdu = buildResponse(256, (byte) 0x11, 0x6110);
+    // Third response: 16 bytes, status 9000 (done)
+    byte[] thirdResponseApdu = buildResponse(16, (byte) 0x22, 0x9000);
+
+    when(apduRequestSpi.getApdu()).thenReturn(requestApdu);
+    when(readerSpi.transmitApdu(requestApdu)).thenReturn(firstResponseApdu);
+    when(readerSpi.transmitApdu(HexUtil.toByteArray("00C0000000"))).thenReturn(secondResponseApdu);
+    when(readerSpi.transmitApdu(HexUtil.toByteArray("00C0000010"))).thenReturn(thirdResponseApdu);
+
+    LocalReaderAdapter localReaderAdapter = new LocalReaderAdapter(readerSpi, PLUGIN_NAME);
+    localReaderAdapter.register();
+
+    byte[] expectedApdu = new byte[250 + 256 + 16 + 2];
+    Arrays.fill(expectedApdu, 0, 250, (byte) 0xAA);
+    Arrays.fill(expectedApdu, 250, 506, (byte) 0x11);
+    Arrays.fill(expectedApdu, 506, 522, (byte) 0x22);
+    expectedApdu[522] = (byte) 0x90;
+
+    // the grown chaining buffer is reused from one request to the next
+    for (int i = 0; i < 2; i++) {
+      CardResponseApi response =
+          localReaderAdapter.transmitCardRequest(cardRequestSpi, ChannelControl.KEEP_OPEN);
+      assertThat(response.getApduResponses().get(0).getApdu()).isEqualTo(expectedApdu);
+      assertThat(response.getApduResponses().get(0).getStatusWord()).isEqualTo(0x9000);
+    }
+  }
+
+  @Test
+  public void
+      transmitCardRequest_with61XXResponse_afterOversizedExchange_shouldReturnOnlyTheNewData()
+          throws Exception {
+    byte[] largeRequestApdu = HexUtil.toByteArray("00B0000000");
+    byte[] smallRequestApdu = HexUtil.toByteArray("00B0010000");
+    ApduRequestSpi smallApduRequestSpi = mock(ApduRequestSpi.class);
+    when(smallApduRequestSpi.getApdu()).thenReturn(smallRequestApdu);
+    when(smallApduRequestSpi.getSuccessfulStatusWords())
+        .thenReturn(new HashSet<Integer>(Collections.singletonList(0x9000)));
+    CardRequestSpi smallCardRequestSpi = mock(CardRequestSpi.class);
+    when(smallCardRequestSpi.getApduRequests())
+        .thenReturn(Collections.singletonList(smallApduRequestSpi));
+
+    when(apduRequestSpi.getApdu()).thenReturn(largeRequestApdu);
+    when(readerSpi.transmitApdu(largeRequestApdu))
+        .thenReturn(buildResponse(250, (byte) 0xAA, 0x6100));
+    when(readerSpi.transmitApdu(HexUtil.toByteArray("00C0000000")))
+        .thenReturn(buildResponse(256, (byte) 0x11, 0x9000));
+    when(readerSpi.transmitApdu(smallRequestApdu))
+        .thenReturn(buildResponse(4, (byte) 0x33, 0x6104));
+    when(readerSpi.transmitApdu(HexUtil.toByteArray("00C0000004")))
+        .thenReturn(buildResponse(4, (byte) 0x44, 0x9000));
+
+    LocalReaderAdapter localReaderAdapter = new LocalReaderAdapter(readerSpi, PLUGIN_NAME);
+    localReaderAdapter.register();
+
+    CardResponseApi largeResponse =
+        localReaderAdapter.transmitCardRequest(cardRequestSpi, ChannelControl.KEEP_OPEN);
+    CardResponseApi smallResponse =
+        localReaderAdapter.transmitCardRequest(smallCardRequestSpi, ChannelControl.KEEP_OPEN);
+
+    assertThat(largeResponse.getApduResponses().get(0).getApdu()).hasSize(250 + 256 + 2);
+    assertThat(smallResponse.getApduResponses().get(0).getApdu())
+        .isEqualTo(HexUtil.toByteArray("33333333444444449000"));
+  }
+
+  private static byte[] buildResponse(int dataLength, byte value, int statusWord) {
+    byte[] response = new byte[dataLength + 2];
+    Arrays.fill(response, 0, dataLength, value);
+    response[dataLength] = (byte) (statusWord >> 8);
+    response[dataLength + 1] = (byte) statusWord;
+    return response;
+  }
 }
@@ -0,0 +1,237 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.eclipse.keypop.card.CardSelectionResponseApi;
+import org.eclipse.keypop.card.ChannelControl;
+import org.eclipse.keypop.card.ReaderBrokenCommunicationException;
+import org.eclipse.keypop.card.spi.CardSelectionExtensionSpi;
+import org.eclipse.keypop.card.spi.CardSelectionRequestSpi;
+import org.eclipse.keypop.card.spi.SmartCardSpi;
+import org.eclipse.keypop.reader.ReaderCommunicationException;
+import org.eclipse.keypop.reader.selection.CardSelector;
+import org.eclipse.keypop.reader.selection.spi.SmartCard;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+public class MultiReaderCardSelectionAdapterTest {
+
+  private ExecutorService executorService;
+  private CountDownLatch blockingLatch;
+  private MultiReaderCardSelectionAdapter multiReaderCardSelection;
+
+  @Before
+  public void setUp() throws Exception {
+    executorService = Executors.newCachedThreadPool();
+    blockingLatch = new CountDownLatch(1);
+    CardSelectionExtensionSpi cardSelection = mock(CardSelectionExtensionSpi.class);
+    when(cardSelection.parse(any(CardSelectionResponseApi.class)))
+        .thenReturn(mock(SmartCardSpi.class, withSettings().extraInterfaces(SmartCard.class)));
+    CardSelectionScenarioAdapter cardSelectionScenario =
+        new CardSelectionScenarioAdapter(
+            Collections.<CardSelector<?>>singletonList(mock(CardSelector.class)),
+            Collections.singletonList(mock(CardSelectionRequestSpi.class)),
+            MultiSelectionProcessing.FIRST_MATCH,
+            ChannelControl.KEEP_OPEN);
+    multiReaderCardSelection =
+        new MultiReaderCardSelectionAdapter(
+            new PreparedCardSelectionScenarioAdapter(
+                cardSelectionScenario, Collections.singletonList(cardSelection)));
+    multiReaderCardSelection.setExecutorService(executorService);
+  }
+
+  @After
+  public void tearDown() {
+    blockingLatch.countDown();
+    executorService.shutdownNow();
+  }
+
+  private static LocalReaderAdapter mockReader(String readerName) {
+    LocalReaderAdapter reader = mock(LocalReaderAdapter.class);
+    when(reader.getName()).thenReturn(readerName);
+    return reader;
+  }
+
+  private static LocalReaderAdapter mockReader(String readerName, boolean hasMatched)
+      throws Exception {
+    CardSelectionResponseApi cardSelectionResponse = mock(CardSelectionResponseApi.class);
+    when(cardSelectionResponse.hasMatched()).thenReturn(hasMatched);
+    LocalReaderAdapter reader = mockReader(readerName);
+    when(reader.transmitCardSelectionRequests(
+            anyList(), anyList(), any(MultiSelectionProcessing.class), any(ChannelControl.class)))
+        .thenReturn(Collections.singletonList(cardSelectionResponse));
+    return reader;
+  }
+
+  private static LocalReaderAdapter mockSlowReader(String readerName, final long durationMillis)
+      throws Exception {
+    final CardSelectionResponseApi cardSelectionResponse = mock(CardSelectionResponseApi.class);
+    LocalReaderAdapter reader = mockReader(readerName);
+    when(reader.transmitCardSelectionRequests(
+            anyList(), anyList(), any(MultiSelectionProcessing.class), any(ChannelControl.class)))
+        .thenAnswer(
+            new Answer<List<CardSelectionResponseApi>>() {
+              @Override
+              public List<CardSelectionResponseApi> answer(InvocationOnMock invocation)
+                  throws Throwable {
+                Thread.sleep(durationMillis);
+                return Collections.singletonList(cardSelectionResponse);
+              }
+            });
+    return reader;
+  }
+
+  private LocalReaderAdapter mockBlockingReader(String readerName) throws Exception {
+    LocalReaderAdapter reader = mockReader(readerName);
+    when(reader.transmitCardSelectionRequests(
+            anyList(), anyList(), any(MultiSelectionProcessing.class), any(ChannelControl.class)))
+        .thenAnswer(
+            new Answer<List<CardSelectionResponseApi>>() {
+              @Override
+              public List<CardSelectionResponseApi> answer(InvocationOnMock invocation)
+                  throws Throwable {
+                blockingLatch.await();
+                return Collections.emptyList();
+              }
+            });
+    return reader;
+  }
+
+  @Test
+  public void process_shouldReturnTheResultOfEachReader() throws Exception {
+    MultiReaderCardSelectionResult result =
+        multiReaderCardSelection.process(
+            Arrays.asList(mockReader("READER_1", true), mockReader("READER_2", false)));
+
+    assertThat(result.getFirstMatchingReaderName()).isEqualTo("READER_1");
+    assertThat(result.getProcessedReaderNames()).containsOnly("READER_1", "READER_2");
+    assertThat(result.getCardSelectionResult("READER_1").getActiveSmartCard()).isNotNull();
+    assertThat(result.getCardSelectionResult("READER_2").getActiveSmartCard()).isNull();
+  }
+
+  @Test
+  public void process_whenFirstMatchOnly_shouldDiscardThePendingReadersAndReleaseTheirChannel()
+      throws Exception {
+    LocalReaderAdapter blockingReader = mockBlockingReader("READER_1");
+    LocalReaderAdapter matchingReader = mockReader("READER_2", true);
+
+    MultiReaderCardSelectionResult result =
+        multiReaderCardSelection
+            .setFirstMatchOnly()
+            .process(Arrays.asList(blockingReader, matchingReader));
+
+    assertThat(result.getFirstMatchingReaderName()).isEqualTo("READER_2");
+    assertThat(result.getProcessedReaderNames()).containsOnly("READER_2");
+    assertThat(result.isTimedOut("READER_1")).isFalse();
+    // the discarded selection is not interrupted and its channel is released when it ends
+    verify(blockingReader, after(100).never()).releaseChannel();
+    blockingLatch.countDown();
+    verify(blockingReader, timeout(1000)).releaseChannel();
+    verify(matchingReader, never()).releaseChannel();
+  }
+
+  @Test
+  public void process_whenFirstMatchOnly_shouldReleaseTheChannelOfTheNotMatchingReaders()
+      throws Exception {
+    LocalReaderAdapter notMatchingReader = mockReader("READER_1", false);
+
+    MultiReaderCardSelectionResult result =
+        multiReaderCardSelection
+            .setFirstMatchOnly()
+            .process(Collections.singletonList(notMatchingReader));
+
+    assertThat(result.getFirstMatchingReaderName()).isNull();
+    assertThat(result.getProcessedReaderNames()).containsOnly("READER_1");
+    verify(notMatchingReader, timeout(1000)).releaseChannel();
+  }
+
+  @Test
+  public void process_whenReaderTimeoutElapses_shouldMarkTheReaderAsTimedOut() throws Exception {
+    MultiReaderCardSelectionResult result =
+        multiReaderCardSelection
+            .setReaderTimeout(100)
+            .process(Arrays.asList(mockBlockingReader("READER_1"), mockReader("READER_2", false)));
+
+    assertThat(result.getProcessedReaderNames()).containsOnly("READER_2");
+    assertThat(result.isTimedOut("READER_1")).isTrue();
+    assertThat(result.getCardSelectionResult("READER_1")).isNull();
+  }
+
+  @Test
+  public void process_whenTasksAreQueued_shouldCountTheReaderTimeoutFromTheStartOfEachTask()
+      throws Exception {
+    ExecutorService singleThreadExecutor = Executors.newSingleThreadExecutor();
+    try {
+      MultiReaderCardSelectionResult result =
+          multiReaderCardSelection
+              .setExecutorService(singleThreadExecutor)
+              .setReaderTimeout(300)
+              .process(
+                  Arrays.asList(mockSlowReader("READER_1", 200), mockSlowReader("READER_2", 200)));
+
+      assertThat(result.getProcessedReaderNames()).containsOnly("READER_1", "READER_2");
+      assertThat(result.isTimedOut("READER_2")).isFalse();
+    } finally {
+      singleThreadExecutor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void process_whenInterrupted_shouldReportThePendingReaders() throws Exception {
+    Thread.currentThread().interrupt();
+
+    MultiReaderCardSelectionResult result =
+        multiReaderCardSelection.process(Collections.singletonList(mockBlockingReader("READER_1")));
+
+    assertThat(Thread.interrupted()).isTrue();
+    assertThat(result.getProcessedReaderNames()).isEmpty();
+    assertThat(result.getError("READER_1")).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  public void process_whenReaderCommunicationFails_shouldReportTheError() throws Exception {
+    LocalReaderAdapter reader = mockReader("READER_1");
+    when(reader.transmitCardSelectionRequests(
+            anyList(), anyList(), any(MultiSelectionProcessing.class), any(ChannelControl.class)))
+        .thenThrow(new ReaderBrokenCommunicationException(null, false, "error"));
+
+    MultiReaderCardSelectionResult result =
+        multiReaderCardSelection.process(Collections.singletonList(reader));
+
+    assertThat(result.getProcessedReaderNames()).isEmpty();
+    assertThat(result.getError("READER_1")).isInstanceOf(ReaderCommunicationException.class);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void setReaderTimeout_whenTimeoutIsNegative_shouldThrowIAE() {
+    multiReaderCardSelection.setReaderTimeout(-1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void process_whenReadersIsEmpty_shouldThrowIAE() {
+    multiReaderCardSelection.process(Collections.<LocalReaderAdapter>emptyList());
+  }
+}
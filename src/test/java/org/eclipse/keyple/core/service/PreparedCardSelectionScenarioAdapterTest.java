@@ -0,0 +1,201 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.shouldHaveThrown;
+import static org.eclipse.keyple.core.service.util.PluginAdapterTestUtils.PLUGIN_NAME;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.eclipse.keyple.core.service.util.ReaderAdapterTestUtils;
+import org.eclipse.keyple.core.service.util.ReaderAdapterTestUtils.ReaderSpiMock;
+import org.eclipse.keyple.core.util.HexUtil;
+import org.eclipse.keypop.card.CardSelectionResponseApi;
+import org.eclipse.keypop.card.ChannelControl;
+import org.eclipse.keypop.card.ParseException;
+import org.eclipse.keypop.card.ReaderBrokenCommunicationException;
+import org.eclipse.keypop.card.spi.ApduRequestSpi;
+import org.eclipse.keypop.card.spi.CardSelectionExtensionSpi;
+import org.eclipse.keypop.card.spi.CardRequestSpi;
+import org.eclipse.keypop.card.spi.CardSelectionRequestSpi;
+import org.eclipse.keypop.card.spi.SmartCardSpi;
+import org.eclipse.keypop.reader.CardReader;
+import org.eclipse.keypop.reader.ReaderCommunicationException;
+import org.eclipse.keypop.reader.selection.CardSelector;
+import org.eclipse.keypop.reader.selection.InvalidCardResponseException;
+import org.eclipse.keypop.reader.selection.spi.SmartCard;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+public class PreparedCardSelectionScenarioAdapterTest {
+
+  private CardSelectionExtensionSpi cardSelection;
+  private CardSelectionResponseApi cardSelectionResponse;
+  private LocalReaderAdapter reader;
+  private PreparedCardSelectionScenarioAdapter preparedCardSelectionScenario;
+
+  @Before
+  public void setUp() throws Exception {
+    cardSelection = mock(CardSelectionExtensionSpi.class);
+    when(cardSelection.parse(any(CardSelectionResponseApi.class)))
+        .thenAnswer(
+            new Answer<SmartCardSpi>() {
+              @Override
+              public SmartCardSpi answer(InvocationOnMock invocation) {
+                return mock(SmartCardSpi.class, withSettings().extraInterfaces(SmartCard.class));
+              }
+            });
+    cardSelectionResponse = mock(CardSelectionResponseApi.class);
+    when(cardSelectionResponse.hasMatched()).thenReturn(true);
+    reader = mock(LocalReaderAdapter.class);
+    when(reader.transmitCardSelectionRequests(
+            anyList(), anyList(), any(MultiSelectionProcessing.class), any(ChannelControl.class)))
+        .thenReturn(Collections.singletonList(cardSelectionResponse));
+    preparedCardSelectionScenario =
+        new PreparedCardSelectionScenarioAdapter(
+            new CardSelectionScenarioAdapter(
+                Collections.<CardSelector<?>>singletonList(mock(CardSelector.class)),
+                Collections.singletonList(mock(CardSelectionRequestSpi.class)),
+                MultiSelectionProcessing.FIRST_MATCH,
+                ChannelControl.KEEP_OPEN),
+            Collections.singletonList(cardSelection));
+  }
+
+  @Test
+  public void process_shouldReturnAnIndependentResultForEachProcessing() {
+    ProcessedCardSelectionScenario processed1 = preparedCardSelectionScenario.process(reader);
+    ProcessedCardSelectionScenario processed2 = preparedCardSelectionScenario.process(reader);
+
+    assertThat(processed1.getCardSelectionResult().getActiveSelectionIndex()).isZero();
+    assertThat(processed2.getCardSelectionResult().getActiveSelectionIndex()).isZero();
+    assertThat(processed1.getCardSelectionResult().getActiveSmartCard())
+        .isNotNull()
+        .isNotSameAs(processed2.getCardSelectionResult().getActiveSmartCard());
+  }
+
+  @Test
+  public void process_whenAReaderReplaysACommandOn6CXX_shouldNotAlterTheScenarioForOtherReaders()
+      throws Exception {
+    byte[] readRecordApdu = HexUtil.toByteArray("00B2014400");
+    ApduRequestSpi apduRequest = mock(ApduRequestSpi.class);
+    when(apduRequest.getApdu()).thenReturn(readRecordApdu);
+    when(apduRequest.getSuccessfulStatusWords())
+        .thenReturn(new HashSet<Integer>(Collections.singletonList(0x9000)));
+    CardRequestSpi cardRequest = mock(CardRequestSpi.class);
+    when(cardRequest.getApduRequests()).thenReturn(Collections.singletonList(apduRequest));
+    CardSelectionRequestSpi cardSelectionRequest = mock(CardSelectionRequestSpi.class);
+    when(cardSelectionRequest.getSuccessfulSelectionStatusWords())
+        .thenReturn(new HashSet<Integer>(Collections.singletonList(0x9000)));
+    when(cardSelectionRequest.getCardRequest()).thenReturn(cardRequest);
+    PreparedCardSelectionScenarioAdapter scenario =
+        new PreparedCardSelectionScenarioAdapter(
+            new CardSelectionScenarioAdapter(
+                Collections.<CardSelector<?>>singletonList(
+                    SmartCardServiceProvider.getService()
+                        .getReaderApiFactory()
+                        .createBasicCardSelector()),
+                Collections.singletonList(cardSelectionRequest),
+                MultiSelectionProcessing.FIRST_MATCH,
+                ChannelControl.CLOSE_AFTER),
+            Collections.singletonList(cardSelection));
+
+    // the first reader answers 6C10 and replays the command with the provided "le"
+    ReaderSpiMock readerSpi1 = ReaderAdapterTestUtils.getReaderSpi();
+    when(readerSpi1.transmitApdu(any(byte[].class)))
+        .thenReturn(HexUtil.toByteArray("6C10"), HexUtil.toByteArray("11119000"));
+    LocalReaderAdapter reader1 = new LocalReaderAdapter(readerSpi1, PLUGIN_NAME);
+    reader1.register();
+    ReaderSpiMock readerSpi2 = ReaderAdapterTestUtils.getReaderSpi();
+    when(readerSpi2.transmitApdu(any(byte[].class))).thenReturn(HexUtil.toByteArray("22229000"));
+    LocalReaderAdapter reader2 = new LocalReaderAdapter(readerSpi2, PLUGIN_NAME);
+    reader2.register();
+
+    scenario.process(reader1);
+    scenario.process(reader2);
+
+    ArgumentCaptor<byte[]> apduCaptor1 = ArgumentCaptor.forClass(byte[].class);
+    verify(readerSpi1, times(2)).transmitApdu(apduCaptor1.capture());
+    assertThat(apduCaptor1.getAllValues().get(0)).isEqualTo(HexUtil.toByteArray("00B2014400"));
+    assertThat(apduCaptor1.getAllValues().get(1)).isEqualTo(HexUtil.toByteArray("00B2014410"));
+    ArgumentCaptor<byte[]> apduCaptor2 = ArgumentCaptor.forClass(byte[].class);
+    verify(readerSpi2).transmitApdu(apduCaptor2.capture());
+    assertThat(apduCaptor2.getValue()).isEqualTo(HexUtil.toByteArray("00B2014400"));
+    assertThat(readRecordApdu).isEqualTo(HexUtil.toByteArray("00B2014400"));
+  }
+
+  @Test
+  public void processAsync_shouldCompleteWithTheProcessedScenario() throws Exception {
+    when(reader.transmitCardSelectionRequestsAsync(
+            anyList(), anyList(), any(MultiSelectionProcessing.class), any(ChannelControl.class)))
+        .thenReturn(
+            CompletableFuture.completedFuture(
+                Collections.singletonList(cardSelectionResponse)));
+
+    ProcessedCardSelectionScenario processed =
+        preparedCardSelectionScenario.processAsync(reader).get();
+
+    assertThat(processed.getCardSelectionResult().getActiveSelectionIndex()).isZero();
+    assertThat(processed.getCardSelectionResult().getActiveSmartCard()).isNotNull();
+  }
+
+  @Test
+  public void processAsync_whenReaderCommunicationFails_shouldCompleteExceptionallyWithRCE()
+      throws Exception {
+    ReaderBrokenCommunicationException exception =
+        new ReaderBrokenCommunicationException(null, false, "reader error");
+    CompletableFuture<List<CardSelectionResponseApi>> cardSelectionResponses =
+        new CompletableFuture<List<CardSelectionResponseApi>>();
+    cardSelectionResponses.completeExceptionally(exception);
+    when(reader.transmitCardSelectionRequestsAsync(
+            anyList(), anyList(), any(MultiSelectionProcessing.class), any(ChannelControl.class)))
+        .thenReturn(cardSelectionResponses);
+
+    try {
+      preparedCardSelectionScenario.processAsync(reader).get();
+      shouldHaveThrown(ExecutionException.class);
+    } catch (ExecutionException e) {
+      assertThat(e.getCause()).isInstanceOf(ReaderCommunicationException.class).hasCause(exception);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void processAsync_whenReaderIsNotRegistered_shouldThrowIAE() {
+    preparedCardSelectionScenario.processAsync(mock(CardReader.class));
+  }
+
+  @Test(expected = InvalidCardResponseException.class)
+  public void process_whenResponseCannotBeParsed_shouldThrowICRE() throws Exception {
+    when(cardSelection.parse(any(CardSelectionResponseApi.class)))
+        .thenThrow(new ParseException("error"));
+    preparedCardSelectionScenario.process(reader);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void process_whenReaderIsNotRegistered_shouldThrowIAE() {
+    preparedCardSelectionScenario.process(mock(CardReader.class));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void importProcessedCardSelectionScenario_whenArgIsMalformed_shouldThrowIAE() {
+    preparedCardSelectionScenario.importProcessedCardSelectionScenario("test");
+  }
+}
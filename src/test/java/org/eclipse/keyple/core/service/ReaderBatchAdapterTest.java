@@ -0,0 +1,134 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.keyple.core.service.util.PluginAdapterTestUtils.PLUGIN_NAME;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+import java.util.HashSet;
+import org.eclipse.keyple.core.service.util.ReaderAdapterTestUtils;
+import org.eclipse.keyple.core.util.HexUtil;
+import org.eclipse.keypop.card.ChannelControl;
+import org.eclipse.keypop.card.spi.ApduRequestSpi;
+import org.eclipse.keypop.card.spi.CardRequestSpi;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ReaderBatchAdapterTest {
+
+  private ReaderAdapterTestUtils.ReaderSpiMock readerSpi;
+  private CardRequestSpi cardRequestSpi;
+  private LocalReaderAdapter localReaderAdapter;
+
+  @Before
+  public void setUp() throws Exception {
+    readerSpi = ReaderAdapterTestUtils.getReaderSpi();
+    ApduRequestSpi apduRequestSpi = mock(ApduRequestSpi.class);
+    when(apduRequestSpi.getApdu()).thenReturn(HexUtil.toByteArray("00B2014400"));
+    when(apduRequestSpi.getSuccessfulStatusWords())
+        .thenReturn(new HashSet<Integer>(Collections.singletonList(0x9000)));
+    cardRequestSpi = mock(CardRequestSpi.class);
+    when(cardRequestSpi.getApduRequests()).thenReturn(Collections.singletonList(apduRequestSpi));
+    localReaderAdapter = new LocalReaderAdapter(readerSpi, PLUGIN_NAME);
+    localReaderAdapter.register();
+  }
+
+  @Test
+  public void execute_shouldExecuteAllStepsInOrder() throws Exception {
+    when(readerSpi.transmitApdu(any(byte[].class))).thenReturn(HexUtil.toByteArray("12349000"));
+
+    ReaderBatchResult result =
+        new ReaderBatchAdapter(localReaderAdapter)
+            .addCardRequest(cardRequestSpi, ChannelControl.KEEP_OPEN, true)
+            .addCardPresenceCheck(true)
+            .addReleaseChannel()
+            .execute();
+
+    assertThat(result.getExecutedStepCount()).isEqualTo(3);
+    assertThat(result.isStopped()).isFalse();
+    assertThat(result.getCardResponse(0).getApduResponses().get(0).getStatusWord())
+        .isEqualTo(0x9000);
+    assertThat(result.isCardPresent(1)).isTrue();
+    verify(readerSpi).closePhysicalChannel();
+  }
+
+  @Test
+  public void execute_whenCardRequestIsUnsuccessfulAndStopRequested_shouldStop() throws Exception {
+    when(readerSpi.transmitApdu(any(byte[].class))).thenReturn(HexUtil.toByteArray("6A82"));
+
+    ReaderBatchResult result =
+        new ReaderBatchAdapter(localReaderAdapter)
+            .addCardRequest(cardRequestSpi, ChannelControl.KEEP_OPEN, true)
+            .addReleaseChannel()
+            .execute();
+
+    assertThat(result.getExecutedStepCount()).isEqualTo(1);
+    assertThat(result.isStopped()).isTrue();
+    assertThat(result.getCardResponse(0).getApduResponses().get(0).getStatusWord())
+        .isEqualTo(0x6A82);
+    verify(readerSpi, never()).closePhysicalChannel();
+  }
+
+  @Test
+  public void execute_whenCardRequestStopsOnUnsuccessfulStatusWord_shouldKeepResultsAndStop()
+      throws Exception {
+    when(cardRequestSpi.stopOnUnsuccessfulStatusWord()).thenReturn(true);
+    when(readerSpi.transmitApdu(any(byte[].class))).thenReturn(HexUtil.toByteArray("6A82"));
+
+    ReaderBatchResult result =
+        new ReaderBatchAdapter(localReaderAdapter)
+            .addCardPresenceCheck(false)
+            .addCardRequest(cardRequestSpi, ChannelControl.KEEP_OPEN, false)
+            .addReleaseChannel()
+            .execute();
+
+    assertThat(result.getExecutedStepCount()).isEqualTo(2);
+    assertThat(result.isStopped()).isTrue();
+    assertThat(result.isCardPresent(0)).isTrue();
+    assertThat(result.getCardResponse(1).getApduResponses().get(0).getStatusWord())
+        .isEqualTo(0x6A82);
+    verify(readerSpi, never()).closePhysicalChannel();
+  }
+
+  @Test
+  public void execute_whenCardIsAbsentAndStopRequested_shouldStop() throws Exception {
+    when(readerSpi.checkCardPresence()).thenReturn(false);
+
+    ReaderBatchResult result =
+        new ReaderBatchAdapter(localReaderAdapter)
+            .addCardPresenceCheck(true)
+            .addCardRequest(cardRequestSpi, ChannelControl.KEEP_OPEN, false)
+            .execute();
+
+    assertThat(result.getExecutedStepCount()).isEqualTo(1);
+    assertThat(result.isStopped()).isTrue();
+    assertThat(result.isCardPresent(0)).isFalse();
+    verify(readerSpi, never()).transmitApdu(any(byte[].class));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void getCardResponse_whenStepIsNotACardRequest_shouldThrowIAE() throws Exception {
+    new ReaderBatchAdapter(localReaderAdapter)
+        .addCardPresenceCheck(false)
+        .execute()
+        .getCardResponse(0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void addCardRequest_whenCardRequestIsNull_shouldThrowIAE() {
+    new ReaderBatchAdapter(localReaderAdapter)
+        .addCardRequest(null, ChannelControl.KEEP_OPEN, false);
+  }
+}
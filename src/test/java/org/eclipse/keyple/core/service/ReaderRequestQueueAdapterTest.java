@@ -0,0 +1,189 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.shouldHaveThrown;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ReaderRequestQueueAdapterTest {
+
+  private ReaderRequestQueueAdapter readerRequestQueue;
+
+  @Before
+  public void setUp() {
+    readerRequestQueue = new ReaderRequestQueueAdapter();
+  }
+
+  @Test
+  public void submit_shouldExecuteRequestsOneAfterTheOtherInSubmissionOrder() throws Exception {
+    final AtomicInteger requestsInProgress = new AtomicInteger();
+    final List<Integer> executionOrder = Collections.synchronizedList(new ArrayList<Integer>());
+    List<CompletableFuture<String>> outputs = new ArrayList<CompletableFuture<String>>();
+    for (int i = 0; i < 10; i++) {
+      final int requestIndex = i;
+      outputs.add(
+          readerRequestQueue.submit(
+              new Callable<String>() {
+                @Override
+                public String call() throws Exception {
+                  if (requestsInProgress.incrementAndGet() != 1) {
+                    throw new IllegalStateException("Concurrent requests");
+                  }
+                  Thread.sleep(2);
+                  executionOrder.add(requestIndex);
+                  requestsInProgress.decrementAndGet();
+                  return "output" + requestIndex;
+                }
+              }));
+    }
+    for (int i = 0; i < 10; i++) {
+      assertThat(outputs.get(i).get()).isEqualTo("output" + i);
+    }
+    assertThat(executionOrder).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+    assertThat(readerRequestQueue.getQueueDepth()).isZero();
+    assertThat(readerRequestQueue.getStartedRequestCount()).isEqualTo(10);
+    assertThat(readerRequestQueue.getMaxWaitTimeMillis())
+        .isGreaterThanOrEqualTo(readerRequestQueue.getAverageWaitTimeMillis());
+  }
+
+  @Test
+  public void submit_whenRequestFails_shouldCompleteExceptionally_and_executeNextRequest()
+      throws Exception {
+    final IllegalStateException exception = new IllegalStateException("request error");
+    CompletableFuture<String> failedOutput =
+        readerRequestQueue.submit(
+            new Callable<String>() {
+              @Override
+              public String call() {
+                throw exception;
+              }
+            });
+    CompletableFuture<String> nextOutput =
+        readerRequestQueue.submit(
+            new Callable<String>() {
+              @Override
+              public String call() {
+                return "output";
+              }
+            });
+    assertThat(nextOutput.get()).isEqualTo("output");
+    try {
+      failedOutput.get();
+      shouldHaveThrown(ExecutionException.class);
+    } catch (ExecutionException e) {
+      assertThat(e.getCause()).isSameAs(exception);
+    }
+  }
+
+  @Test
+  public void submit_whenRequestThrowsError_shouldCompleteExceptionally_and_executeNextRequest()
+      throws Exception {
+    final AssertionError error = new AssertionError("request error");
+    CompletableFuture<String> failedOutput =
+        readerRequestQueue.submit(
+            new Callable<String>() {
+              @Override
+              public String call() {
+                throw error;
+              }
+            });
+    CompletableFuture<String> nextOutput =
+        readerRequestQueue.submit(
+            new Callable<String>() {
+              @Override
+              public String call() {
+                return "output";
+              }
+            });
+    assertThat(nextOutput.get(1, TimeUnit.SECONDS)).isEqualTo("output");
+    try {
+      failedOutput.get(1, TimeUnit.SECONDS);
+      shouldHaveThrown(ExecutionException.class);
+    } catch (ExecutionException e) {
+      assertThat(e.getCause()).isSameAs(error);
+    }
+    assertThat(readerRequestQueue.getQueueDepth()).isZero();
+  }
+
+  @Test
+  public void execute_whenQueueIsIdle_shouldExecuteRequestOnTheCallingThread() throws Exception {
+    final Thread callingThread = Thread.currentThread();
+    CompletableFuture<String> output =
+        readerRequestQueue.execute(
+            new Callable<String>() {
+              @Override
+              public String call() {
+                return Thread.currentThread() == callingThread ? "inline" : "executor";
+              }
+            });
+    assertThat(output.isDone()).isTrue();
+    assertThat(output.get()).isEqualTo("inline");
+    assertThat(readerRequestQueue.getStartedRequestCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void execute_whenRequestIsInProgress_shouldExecuteRequestAfterIt() throws Exception {
+    final CountDownLatch startLatch = new CountDownLatch(1);
+    final CountDownLatch releaseLatch = new CountDownLatch(1);
+    final List<Integer> executionOrder = Collections.synchronizedList(new ArrayList<Integer>());
+    CompletableFuture<String> firstOutput =
+        readerRequestQueue.submit(
+            new Callable<String>() {
+              @Override
+              public String call() throws Exception {
+                startLatch.countDown();
+                releaseLatch.await();
+                executionOrder.add(0);
+                return "output0";
+              }
+            });
+    assertThat(startLatch.await(1, TimeUnit.SECONDS)).isTrue();
+    final Thread callingThread = Thread.currentThread();
+    CompletableFuture<String> secondOutput =
+        readerRequestQueue.execute(
+            new Callable<String>() {
+              @Override
+              public String call() {
+                executionOrder.add(1);
+                return Thread.currentThread() == callingThread ? "inline" : "executor";
+              }
+            });
+    assertThat(secondOutput.isDone()).isFalse();
+    assertThat(readerRequestQueue.getQueueDepth()).isEqualTo(1);
+
+    releaseLatch.countDown();
+
+    assertThat(firstOutput.get(1, TimeUnit.SECONDS)).isEqualTo("output0");
+    assertThat(secondOutput.get(1, TimeUnit.SECONDS)).isEqualTo("executor");
+    assertThat(executionOrder).containsExactly(0, 1);
+  }
+
+  @Test
+  public void getMetrics_whenNoRequestIsSubmitted_shouldReturnZero() {
+    assertThat(readerRequestQueue.getQueueDepth()).isZero();
+    assertThat(readerRequestQueue.getStartedRequestCount()).isZero();
+    assertThat(readerRequestQueue.getAverageWaitTimeMillis()).isZero();
+    assertThat(readerRequestQueue.getMaxWaitTimeMillis()).isZero();
+  }
+}
@@ -0,0 +1,406 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.shouldHaveThrown;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.gson.JsonObject;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.eclipse.keyple.core.common.KeypleReaderExtension;
+import org.eclipse.keyple.core.distributed.remote.spi.RemoteReaderSpi;
+import org.eclipse.keyple.core.service.DistributedUtilAdapter.JsonProperty;
+import org.eclipse.keyple.core.service.DistributedUtilAdapter.ReaderService;
+import org.eclipse.keyple.core.util.HexUtil;
+import org.eclipse.keyple.core.util.json.BodyError;
+import org.eclipse.keyple.core.util.json.JsonUtil;
+import org.eclipse.keypop.card.CardResponseApi;
+import org.eclipse.keypop.card.ChannelControl;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+public class RemoteReaderAdapterTest {
+
+  private static final String PLUGIN_NAME = "remotePlugin";
+  private static final String READER_NAME = "remoteReader";
+  private static final String APDU = "00B2014400";
+  private static final String APDU_RESPONSE = "11223344559000";
+
+  interface RemoteReaderSpiMock extends KeypleReaderExtension, RemoteReaderSpi {}
+
+  private RemoteReaderSpiMock remoteReaderSpi;
+  private InternalDto.CardRequest cardRequest;
+  private CardResponseAdapter cardResponse;
+
+  @Before
+  public void setUp() {
+    remoteReaderSpi = mock(RemoteReaderSpiMock.class);
+    when(remoteReaderSpi.getName()).thenReturn(READER_NAME);
+    when(remoteReaderSpi.isContactless()).thenReturn(true);
+    cardRequest =
+        new InternalDto.CardRequest(
+            Collections.singletonList(
+                new InternalDto.ApduRequest(
+                    HexUtil.toByteArray(APDU),
+                    new HashSet<Integer>(Collections.singletonList(0x9000)),
+                    null)),
+            false);
+    cardResponse =
+        new CardResponseAdapter(
+            Collections.singletonList(new ApduResponseAdapter(HexUtil.toByteArray(APDU_RESPONSE))),
+            true);
+  }
+
+  @After
+  public void tearDown() {
+    SmartCardServiceProvider.getService().setDistributedBinaryEncodingEnabled(false);
+  }
+
+  private RemoteReaderAdapter buildRemoteReader(int clientCoreApiLevel) {
+    RemoteReaderAdapter remoteReader =
+        new RemoteReaderAdapter(remoteReaderSpi, PLUGIN_NAME, null, clientCoreApiLevel);
+    remoteReader.register();
+    return remoteReader;
+  }
+
+  private static String buildJsonOutput(Object result) {
+    JsonObject output = new JsonObject();
+    output.add(JsonProperty.RESULT.getKey(), JsonUtil.getParser().toJsonTree(result));
+    return output.toString();
+  }
+
+  private List<String> captureInputs(int expectedCount) {
+    ArgumentCaptor<String> inputCaptor = ArgumentCaptor.forClass(String.class);
+    verify(remoteReaderSpi, times(expectedCount)).executeRemotely(inputCaptor.capture());
+    return inputCaptor.getAllValues();
+  }
+
+  private static boolean isBinaryEncodingOffered(String input) {
+    JsonObject json = JsonUtil.getParser().fromJson(input, JsonObject.class);
+    return json.has(JsonProperty.BINARY_ENCODING.getKey())
+        && json.get(JsonProperty.BINARY_ENCODING.getKey()).getAsBoolean();
+  }
+
+  private void answerClientCoreApiLevelProbe(
+      final String isContactlessOutput, final String cardRequestOutput) {
+    when(remoteReaderSpi.executeRemotely(anyString()))
+        .thenAnswer(
+            new Answer<String>() {
+              @Override
+              public String answer(InvocationOnMock invocation) {
+                String input = invocation.getArgument(0);
+                return input.contains(ReaderService.IS_CONTACTLESS.name())
+                    ? isContactlessOutput
+                    : cardRequestOutput;
+              }
+            });
+  }
+
+  private static String getService(String input) {
+    JsonObject json = JsonUtil.getParser().fromJson(input, JsonObject.class);
+    return json.has(JsonProperty.SERVICE.getKey())
+        ? json.get(JsonProperty.SERVICE.getKey()).getAsString()
+        : json.get(JsonProperty.SERVICE.name()).getAsString();
+  }
+
+  private static int getCoreApiLevel(String input) {
+    return JsonUtil.getParser()
+        .fromJson(input, JsonObject.class)
+        .get(JsonProperty.CORE_API_LEVEL.getKey())
+        .getAsInt();
+  }
+
+  private static String buildBatchOutput(
+      Object result, boolean isBatchSupported, Exception error) {
+    JsonObject output = new JsonObject();
+    output.addProperty(JsonProperty.CORE_API_LEVEL.getKey(), DistributedUtilAdapter.CORE_API_LEVEL);
+    output.addProperty(JsonProperty.SERVICE.getKey(), ReaderService.EXECUTE_BATCH.name());
+    if (isBatchSupported) {
+      output.addProperty(JsonProperty.BATCH_SUPPORTED.getKey(), true);
+    }
+    if (result != null) {
+      output.add(JsonProperty.RESULT.getKey(), JsonUtil.getParser().toJsonTree(result));
+    }
+    if (error != null) {
+      output.add(
+          JsonProperty.ERROR.getKey(), JsonUtil.getParser().toJsonTree(new BodyError(error)));
+    }
+    return output.toString();
+  }
+
+  private void answerBatch(final String batchOutput, final String otherOutput) {
+    when(remoteReaderSpi.executeRemotely(anyString()))
+        .thenAnswer(
+            new Answer<String>() {
+              @Override
+              public String answer(InvocationOnMock invocation) {
+                String input = invocation.getArgument(0);
+                return ReaderService.EXECUTE_BATCH.name().equals(getService(input))
+                    ? batchOutput
+                    : otherOutput;
+              }
+            });
+  }
+
+  private static List<ReaderBatchAdapter.Step> buildIsCardPresentSteps() {
+    return Collections.singletonList(
+        new ReaderBatchAdapter.Step(ReaderService.IS_CARD_PRESENT, null, null, false));
+  }
+
+  private void assertCardResponse(CardResponseApi response) {
+    assertThat(response.getApduResponses()).hasSize(1);
+    assertThat(response.getApduResponses().get(0).getApdu())
+        .isEqualTo(HexUtil.toByteArray(APDU_RESPONSE));
+    assertThat(response.isLogicalChannelOpen()).isTrue();
+  }
+
+  @Test
+  public void transmitCardRequest_whenBinaryEncodingIsNotEnabled_shouldNeitherOfferNorUseIt()
+      throws Exception {
+    when(remoteReaderSpi.executeRemotely(anyString()))
+        .thenReturn(DistributedBinaryCodecAdapter.encodeCardResponse(cardResponse));
+    RemoteReaderAdapter remoteReader = buildRemoteReader(DistributedUtilAdapter.CORE_API_LEVEL);
+
+    assertCardResponse(remoteReader.transmitCardRequest(cardRequest, ChannelControl.KEEP_OPEN));
+    assertCardResponse(remoteReader.transmitCardRequest(cardRequest, ChannelControl.KEEP_OPEN));
+
+    for (String input : captureInputs(2)) {
+      assertThat(DistributedBinaryCodecAdapter.isBinaryMessage(input)).isFalse();
+      assertThat(isBinaryEncodingOffered(input)).isFalse();
+    }
+  }
+
+  @Test
+  public void transmitCardRequest_whenBinaryOutputIsReturned_shouldBinaryEncodeNextRequests()
+      throws Exception {
+    SmartCardServiceProvider.getService().setDistributedBinaryEncodingEnabled(true);
+    String binaryOutput = DistributedBinaryCodecAdapter.encodeCardResponse(cardResponse);
+    when(remoteReaderSpi.executeRemotely(anyString())).thenReturn(binaryOutput);
+    RemoteReaderAdapter remoteReader = buildRemoteReader(DistributedUtilAdapter.CORE_API_LEVEL);
+
+    assertCardResponse(remoteReader.transmitCardRequest(cardRequest, ChannelControl.KEEP_OPEN));
+    assertCardResponse(remoteReader.transmitCardRequest(cardRequest, ChannelControl.KEEP_OPEN));
+
+    List<String> inputs = captureInputs(2);
+    assertThat(isBinaryEncodingOffered(inputs.get(0))).isTrue();
+    assertThat(DistributedBinaryCodecAdapter.isBinaryMessage(inputs.get(1))).isTrue();
+  }
+
+  @Test
+  public void
+      transmitCardRequest_whenBinaryRequestIsAnsweredInJson_shouldDecodeOutput_and_fallBackToJson()
+          throws Exception {
+    SmartCardServiceProvider.getService().setDistributedBinaryEncodingEnabled(true);
+    String binaryOutput = DistributedBinaryCodecAdapter.encodeCardResponse(cardResponse);
+    when(remoteReaderSpi.executeRemotely(anyString()))
+        .thenReturn(binaryOutput, buildJsonOutput(cardResponse), binaryOutput);
+    RemoteReaderAdapter remoteReader = buildRemoteReader(DistributedUtilAdapter.CORE_API_LEVEL);
+
+    remoteReader.transmitCardRequest(cardRequest, ChannelControl.KEEP_OPEN);
+    assertCardResponse(remoteReader.transmitCardRequest(cardRequest, ChannelControl.KEEP_OPEN));
+    remoteReader.transmitCardRequest(cardRequest, ChannelControl.KEEP_OPEN);
+
+    List<String> inputs = captureInputs(3);
+    assertThat(DistributedBinaryCodecAdapter.isBinaryMessage(inputs.get(1))).isTrue();
+    assertThat(DistributedBinaryCodecAdapter.isBinaryMessage(inputs.get(2))).isFalse();
+    assertThat(isBinaryEncodingOffered(inputs.get(2))).isTrue();
+  }
+
+  @Test
+  public void transmitCardRequest_whenBinaryRequestFails_shouldFallBackToJson() throws Exception {
+    SmartCardServiceProvider.getService().setDistributedBinaryEncodingEnabled(true);
+    IllegalStateException error = new IllegalStateException("transport error");
+    when(remoteReaderSpi.executeRemotely(anyString()))
+        .thenReturn(DistributedBinaryCodecAdapter.encodeCardResponse(cardResponse))
+        .thenThrow(error)
+        .thenReturn(buildJsonOutput(cardResponse));
+    RemoteReaderAdapter remoteReader = buildRemoteReader(DistributedUtilAdapter.CORE_API_LEVEL);
+
+    remoteReader.transmitCardRequest(cardRequest, ChannelControl.KEEP_OPEN);
+    try {
+      remoteReader.transmitCardRequest(cardRequest, ChannelControl.KEEP_OPEN);
+      shouldHaveThrown(IllegalStateException.class);
+    } catch (IllegalStateException e) {
+      assertThat(e).isSameAs(error);
+    }
+    assertCardResponse(remoteReader.transmitCardRequest(cardRequest, ChannelControl.KEEP_OPEN));
+
+    List<String> inputs = captureInputs(3);
+    assertThat(DistributedBinaryCodecAdapter.isBinaryMessage(inputs.get(1))).isTrue();
+    assertThat(DistributedBinaryCodecAdapter.isBinaryMessage(inputs.get(2))).isFalse();
+  }
+
+  @Test
+  public void transmitCardRequest_whenClientCoreApiLevelIsKnown_shouldNotProbeIt()
+      throws Exception {
+    when(remoteReaderSpi.executeRemotely(anyString()))
+        .thenReturn(DistributedBinaryCodecAdapter.encodeCardResponse(cardResponse));
+    RemoteReaderAdapter remoteReader = buildRemoteReader(DistributedUtilAdapter.CORE_API_LEVEL);
+
+    remoteReader.transmitCardRequest(cardRequest, ChannelControl.KEEP_OPEN);
+
+    List<String> inputs = captureInputs(1);
+    assertThat(getService(inputs.get(0))).isEqualTo(ReaderService.TRANSMIT_CARD_REQUEST.name());
+    assertThat(remoteReader.getClientCoreApiLevel())
+        .isEqualTo(DistributedUtilAdapter.CORE_API_LEVEL);
+  }
+
+  @Test
+  public void
+      transmitCardRequest_whenClientCoreApiLevelIsUnknown_shouldProbeItOnce_and_useResolvedLevel1()
+          throws Exception {
+    when(remoteReaderSpi.isContactless()).thenReturn(null);
+    answerClientCoreApiLevelProbe(buildJsonOutput(false), buildJsonOutput(cardResponse));
+    RemoteReaderAdapter remoteReader = buildRemoteReader(-1);
+
+    assertCardResponse(remoteReader.transmitCardRequest(cardRequest, ChannelControl.KEEP_OPEN));
+    assertCardResponse(remoteReader.transmitCardRequest(cardRequest, ChannelControl.KEEP_OPEN));
+
+    assertThat(remoteReader.getClientCoreApiLevel()).isEqualTo(1);
+    // The result of the probe is kept
+    assertThat(remoteReader.isContactless()).isFalse();
+    List<String> inputs = captureInputs(3);
+    assertThat(getService(inputs.get(0))).isEqualTo(ReaderService.IS_CONTACTLESS.name());
+    assertThat(getCoreApiLevel(inputs.get(0))).isEqualTo(-1);
+    for (String input : inputs.subList(1, 3)) {
+      assertThat(getService(input)).isEqualTo(ReaderService.TRANSMIT_CARD_REQUEST.name());
+      assertThat(getCoreApiLevel(input)).isEqualTo(1);
+    }
+  }
+
+  @Test
+  public void
+      transmitCardRequest_whenClientCoreApiLevelIsUnknown_and_probeAnswersLevel0_shouldUseLevel0()
+          throws Exception {
+    JsonObject isContactlessOutput = new JsonObject();
+    isContactlessOutput.addProperty(JsonProperty.RESULT.name(), true);
+    JsonObject cardRequestOutput = new JsonObject();
+    cardRequestOutput.addProperty(
+        JsonProperty.RESULT.name(), JsonUtil.getParser().toJson(cardResponse));
+    answerClientCoreApiLevelProbe(isContactlessOutput.toString(), cardRequestOutput.toString());
+    RemoteReaderAdapter remoteReader = buildRemoteReader(-1);
+
+    assertCardResponse(remoteReader.transmitCardRequest(cardRequest, ChannelControl.KEEP_OPEN));
+
+    assertThat(remoteReader.getClientCoreApiLevel()).isZero();
+    List<String> inputs = captureInputs(2);
+    assertThat(getService(inputs.get(0))).isEqualTo(ReaderService.IS_CONTACTLESS.name());
+    assertThat(getService(inputs.get(1))).isEqualTo(ReaderService.TRANSMIT_CARD_REQUEST.name());
+    assertThat(getCoreApiLevel(inputs.get(1))).isZero();
+  }
+
+  @Test
+  public void transmitCardRequest_whenInvokedConcurrentlyWithUnknownLevel_shouldProbeItOnce()
+      throws Exception {
+    answerClientCoreApiLevelProbe(buildJsonOutput(true), buildJsonOutput(cardResponse));
+    final RemoteReaderAdapter remoteReader = buildRemoteReader(-1);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Callable<CardResponseApi>> tasks = new ArrayList<Callable<CardResponseApi>>();
+      for (int i = 0; i < 4; i++) {
+        tasks.add(
+            new Callable<CardResponseApi>() {
+              @Override
+              public CardResponseApi call() throws Exception {
+                return remoteReader.transmitCardRequest(cardRequest, ChannelControl.KEEP_OPEN);
+              }
+            });
+      }
+      for (Future<CardResponseApi> output : executor.invokeAll(tasks)) {
+        assertCardResponse(output.get());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    int probeCount = 0;
+    for (String input : captureInputs(5)) {
+      if (ReaderService.IS_CONTACTLESS.name().equals(getService(input))) {
+        probeCount++;
+      }
+    }
+    assertThat(probeCount).isEqualTo(1);
+    assertThat(remoteReader.getClientCoreApiLevel()).isEqualTo(1);
+  }
+
+  @Test
+  public void executeBatch_whenBatchIsSupported_shouldSendItWithoutAnyPriorRoundTrip()
+      throws Exception {
+    answerBatch(
+        buildBatchOutput(Collections.singletonList(true), true, null), buildJsonOutput(false));
+    RemoteReaderAdapter remoteReader = buildRemoteReader(DistributedUtilAdapter.CORE_API_LEVEL);
+
+    assertThat(remoteReader.executeBatch(buildIsCardPresentSteps())).containsExactly(true);
+    assertThat(remoteReader.executeBatch(buildIsCardPresentSteps())).containsExactly(true);
+
+    for (String input : captureInputs(2)) {
+      assertThat(getService(input)).isEqualTo(ReaderService.EXECUTE_BATCH.name());
+    }
+  }
+
+  @Test
+  public void executeBatch_whenRejectedByALocalServiceNotSupportingIt_shouldExecuteStepsOneByOne()
+      throws Exception {
+    answerBatch(
+        buildBatchOutput(
+            null, false, new IllegalArgumentException("No enum constant EXECUTE_BATCH")),
+        buildJsonOutput(true));
+    RemoteReaderAdapter remoteReader = buildRemoteReader(DistributedUtilAdapter.CORE_API_LEVEL);
+
+    assertThat(remoteReader.executeBatch(buildIsCardPresentSteps())).containsExactly(true);
+    assertThat(remoteReader.executeBatch(buildIsCardPresentSteps())).containsExactly(true);
+
+    List<String> inputs = captureInputs(3);
+    assertThat(getService(inputs.get(0))).isEqualTo(ReaderService.EXECUTE_BATCH.name());
+    // The batch service is no longer requested once rejected
+    assertThat(getService(inputs.get(1))).isEqualTo(ReaderService.IS_CARD_PRESENT.name());
+    assertThat(getService(inputs.get(2))).isEqualTo(ReaderService.IS_CARD_PRESENT.name());
+  }
+
+  @Test
+  public void executeBatch_whenFailingOnALocalServiceSupportingIt_shouldThrowIt_and_keepBatching()
+      throws Exception {
+    answerBatch(
+        buildBatchOutput(null, true, new IllegalArgumentException("Invalid step")),
+        buildJsonOutput(true));
+    RemoteReaderAdapter remoteReader = buildRemoteReader(DistributedUtilAdapter.CORE_API_LEVEL);
+
+    for (int i = 0; i < 2; i++) {
+      try {
+        remoteReader.executeBatch(buildIsCardPresentSteps());
+        shouldHaveThrown(IllegalArgumentException.class);
+      } catch (IllegalArgumentException e) {
+        assertThat(e).hasMessage("Invalid step");
+      }
+    }
+
+    for (String input : captureInputs(2)) {
+      assertThat(getService(input)).isEqualTo(ReaderService.EXECUTE_BATCH.name());
+    }
+  }
+}
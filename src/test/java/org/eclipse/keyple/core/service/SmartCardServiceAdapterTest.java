@@ -27,6 +27,7 @@
 import org.eclipse.keyple.core.plugin.spi.*;
 import org.eclipse.keyple.core.plugin.spi.reader.PoolReaderSpi;
 import org.eclipse.keyple.core.plugin.spi.reader.ReaderSpi;
+import org.eclipse.keyple.core.service.spi.ExecutorServiceFactorySpi;
 import org.eclipse.keypop.reader.CardReader;
 import org.eclipse.keypop.reader.ReaderApiFactory;
 import org.junit.After;
@@ -507,6 +508,17 @@ public void getReader_whenReaderExists_shouldReturnReaderInstance() throws Excep
     assertThat(service.getReader(READER_NAME)).isSameAs(cardReader);
   }
 
+  @Test
+  public void getReader_whenPluginIsUnregistered_shouldReturnNull() throws Exception {
+    when(plugin.searchAvailableReaders())
+        .thenReturn(new HashSet<ReaderSpi>(Collections.singletonList(reader)));
+    service.registerPlugin(pluginFactory);
+    CardReader cardReader = service.getPlugin(PLUGIN_NAME).getReaders().iterator().next();
+    service.unregisterPlugin(PLUGIN_NAME);
+    assertThat(service.getReader(READER_NAME)).isNull();
+    assertThat(service.getPlugin(cardReader)).isNull();
+  }
+
   @Test
   public void findReader_whenReaderNameRegexMatches_returnsExistingReader() throws Exception {
 
@@ -674,4 +686,63 @@ public void getDistributedLocalService_whenServiceIsRegistered_shouldReturnPlugi
   public void getReaderApiFactory_shouldReturnReaderApiFactoryInstance() {
     assertThat(service.getReaderApiFactory()).isInstanceOf(ReaderApiFactory.class);
   }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void setExecutorServiceFactory_whenFactoryIsNull_shouldThrowIAE() {
+    service.setExecutorServiceFactory(null);
+  }
+
+  @Test
+  public void setExecutorServiceFactory_whenPluginIsRegistered_shouldThrowISE_and_keepFactory() {
+    ExecutorServiceFactorySpi previousFactory = service.getExecutorServiceFactory();
+    service.registerPlugin(pluginFactory);
+    try {
+      service.setExecutorServiceFactory(mock(ExecutorServiceFactorySpi.class));
+      shouldHaveThrown(IllegalStateException.class);
+    } catch (IllegalStateException e) {
+      assertThat(service.getExecutorServiceFactory()).isSameAs(previousFactory);
+    }
+  }
+
+  @Test
+  public void setExecutorServiceFactory_whenNoPluginIsRegistered_shouldUseFactory() {
+    ExecutorServiceFactorySpi previousFactory = service.getExecutorServiceFactory();
+    ExecutorServiceFactorySpi executorServiceFactory = mock(ExecutorServiceFactorySpi.class);
+    try {
+      service.setExecutorServiceFactory(executorServiceFactory);
+      assertThat(service.getExecutorServiceFactory()).isSameAs(executorServiceFactory);
+    } finally {
+      service.setExecutorServiceFactory(previousFactory);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void setCardMonitoringPollingIntervals_whenReaderIsNotFound_shouldThrowIAE() {
+    service.setCardMonitoringPollingIntervals("unknownReader", 10, 1000);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void setCardMonitoringPollingIntervals_whenReaderIsNotObservable_shouldThrowIAE()
+      throws Exception {
+    when(plugin.searchAvailableReaders())
+        .thenReturn(new HashSet<ReaderSpi>(Collections.singletonList(reader)));
+    service.registerPlugin(pluginFactory);
+    service.setCardMonitoringPollingIntervals(READER_NAME, 10, 1000);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void getCardMonitoringPollingInterval_whenReaderIsNotFound_shouldThrowIAE() {
+    service.getCardMonitoringPollingInterval("unknownReader");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void createReaderBatch_whenReaderIsNotFound_shouldThrowIAE() {
+    service.createReaderBatch("unknownReader");
+  }
+
+  @Test
+  public void getRemoteEventOverflowPolicy_whenNotSet_shouldReturnANonBlockingPolicy() {
+    assertThat(service.getRemoteEventOverflowPolicy()).isEqualTo(EventOverflowPolicy.COALESCE);
+    assertThat(service.getRemoteEventQueueCapacity()).isEqualTo(64);
+  }
 }
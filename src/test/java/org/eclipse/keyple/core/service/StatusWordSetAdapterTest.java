@@ -0,0 +1,50 @@
+/* **************************************************************************************
+ * Copyright (c) 2026 Calypso Networks Association https://calypsonet.org/
+ *
+ * See the NOTICE file(s) distributed with this work for additional information
+ * regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License 2.0 which is available at http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ************************************************************************************** */
+package org.eclipse.keyple.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import org.eclipse.keyple.core.util.json.JsonUtil;
+import org.junit.Test;
+
+public class StatusWordSetAdapterTest {
+
+  @Test
+  public void of_shouldSortAndRemoveDuplicates() {
+    StatusWordSetAdapter statusWords = StatusWordSetAdapter.of(0x9000, 0x6283, 0x9000);
+    assertThat(statusWords).containsExactly(0x6283, 0x9000);
+  }
+
+  @Test
+  public void of_whenCollectionIsAStatusWordSet_shouldReturnIt() {
+    StatusWordSetAdapter statusWords = StatusWordSetAdapter.of(0x9000);
+    assertThat(StatusWordSetAdapter.of(statusWords)).isSameAs(statusWords);
+  }
+
+  @Test
+  public void contains_shouldMatchHashSetBehavior() {
+    HashSet<Integer> hashSet = new HashSet<Integer>(Arrays.asList(0x9000, 0x6283, 0x6200));
+    StatusWordSetAdapter statusWords = StatusWordSetAdapter.of(hashSet);
+    assertThat(statusWords).isEqualTo(hashSet);
+    assertThat(StatusWordSetAdapter.contains(statusWords, 0x6283)).isTrue();
+    assertThat(StatusWordSetAdapter.contains(statusWords, 0x6A82)).isFalse();
+    assertThat(StatusWordSetAdapter.contains(hashSet, 0x6200)).isTrue();
+    assertThat(statusWords.contains("9000")).isFalse();
+  }
+
+  @Test
+  public void toJson_shouldEncodeAsAnArrayOfIntegers() {
+    assertThat(JsonUtil.toJson(StatusWordSetAdapter.of(0x9000, 0x6283))).isEqualTo("[25219,36864]");
+  }
+}